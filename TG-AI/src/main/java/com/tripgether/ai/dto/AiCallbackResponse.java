@@ -23,4 +23,13 @@ public class AiCallbackResponse {
 
   @Schema(description = "Content UUID")
   private UUID contentId;
+
+  @Schema(description = "이미 처리된 동일 Callback 재전송 여부", example = "false")
+  private Boolean duplicate;
+
+  @Schema(description = "실패 에러 코드 (배치 Callback에서 실패한 항목만)", example = "CONTENT_NOT_FOUND")
+  private String errorCode;
+
+  @Schema(description = "실패 에러 메시지 (배치 Callback에서 실패한 항목만)", example = "콘텐츠를 찾을 수 없습니다.")
+  private String errorMessage;
 }
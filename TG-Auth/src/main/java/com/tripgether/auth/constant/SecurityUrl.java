@@ -19,8 +19,12 @@ public class SecurityUrl {
           // Member
           "/api/members/check-name", // 닉네임 중복 확인
 
+          // Place
+          "/api/place/*/photo/*", // 장소 사진 (이미지 로더 직접 호출)
+
           // AI 서버
           "/api/ai/callback", // AI 서버 Webhook Callback
+          "/api/ai/callback/batch", // AI 서버 Webhook Callback (배치)
 
           // Test APIs (개발/테스트 전용)
           "/api/test/**", // 테스트 API
@@ -30,8 +34,9 @@ public class SecurityUrl {
           "/v3/api-docs/**", // Swagger API 문서
           "/docs/swagger", // Swagger UI HTML
 
-          // Actuator (선택사항)
-          "/actuator/**",
+          // Actuator (헬스 체크만 공개, metrics 등 나머지 엔드포인트는 인증 필요)
+          "/actuator/health",
+          "/actuator/health/**",
 
           // 기타 정적 리소스
           "/favicon.ico",
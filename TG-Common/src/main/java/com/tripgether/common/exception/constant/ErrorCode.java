@@ -93,13 +93,23 @@ public enum ErrorCode {
 
   MEMBER_TERMS_REQUIRED_NOT_AGREED(HttpStatus.BAD_REQUEST, "필수 약관에 동의하지 않았습니다."),
 
+  INVALID_CONTENT_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 콘텐츠 목록 커서입니다."),
+
   // Place
   PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "장소를 찾을 수 없습니다."),
 
+  PLACE_PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "장소 사진을 찾을 수 없습니다."),
+
+  PLACE_PHOTO_FETCH_FAILED(HttpStatus.BAD_GATEWAY, "장소 사진을 가져오는 중 오류가 발생했습니다."),
+
   GOOGLE_PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "Google Places API에서 장소를 찾을 수 없습니다."),
 
   GOOGLE_PLACE_API_ERROR(HttpStatus.BAD_GATEWAY, "Google Places API 호출 중 오류가 발생했습니다."),
 
+  GOOGLE_PLACE_RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "Google Places API 호출 한도를 초과했습니다. 잠시 후 다시 시도해주세요."),
+
+  GOOGLE_PLACE_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "Google Places API 장애로 장소 검색이 일시 중단되었습니다. 잠시 후 다시 시도해주세요."),
+
   // MemberPlace
   MEMBER_PLACE_NOT_FOUND(HttpStatus.NOT_FOUND, "회원의 장소 정보를 찾을 수 없습니다."),
 
@@ -0,0 +1,118 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 서버 Callback 처리를 위한 설정 정보
+ * application.yml의 ai.callback 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "ai.callback")
+@Getter
+@Setter
+public class AiCallbackProperties {
+
+  /**
+   * Callback 1건당 동시에 수행할 장소 검색(Google Places API) 최대 개수
+   * 기본값: 5
+   */
+  private int placeResolveConcurrency = 5;
+
+  /**
+   * Callback 1건의 장소 검색 전체 제한 시간 (초)
+   * 제한 시간을 넘긴 장소는 실패로 처리하고 나머지 장소만 저장합니다.
+   * 기본값: 60
+   */
+  private long placeResolveTimeoutSeconds = 60;
+
+  /**
+   * Inbox Worker 동시 처리 Callback 최대 개수
+   * 기본값: 4
+   */
+  private int inboxWorkerConcurrency = 4;
+
+  /**
+   * Inbox 폴링 주기 (밀리초)
+   * 기본값: 1000
+   */
+  private long inboxPollIntervalMs = 1000;
+
+  /**
+   * Inbox 최대 처리 시도 횟수 (초과 시 DEAD)
+   * 기본값: 5
+   */
+  private int inboxMaxAttempts = 5;
+
+  /**
+   * Inbox 재시도 기본 대기 시간 (초), 시도마다 2배씩 증가
+   * 기본값: 10
+   */
+  private long inboxBaseBackoffSeconds = 10;
+
+  /**
+   * Inbox 재시도 최대 대기 시간 (초)
+   * 기본값: 600
+   */
+  private long inboxMaxBackoffSeconds = 600;
+
+  /**
+   * Inbox 처리 점유 시간 (초)
+   * Worker 장애로 이 시간 안에 완료되지 않은 항목은 다시 처리 대상이 됩니다.
+   * 기본값: 300
+   */
+  private long inboxLockSeconds = 300;
+
+  /**
+   * Inbox 지표(depth, lag) 갱신 주기 (밀리초)
+   * 기본값: 15000
+   */
+  private long inboxMetricsIntervalMs = 15000;
+
+  /**
+   * COMPLETED Inbox 보관 기간 (일), 이후 정리 작업에서 삭제
+   * 기본값: 7
+   */
+  private long inboxCompletedRetentionDays = 7;
+
+  /**
+   * DEAD Inbox 보관 기간 (일), 장애 분석 후 이후 정리 작업에서 삭제
+   * 기본값: 30
+   */
+  private long inboxDeadRetentionDays = 30;
+
+  /**
+   * Inbox 정리 1회 최대 삭제 개수
+   * 기본값: 1000
+   */
+  private int inboxPurgeBatchSize = 1000;
+
+  /**
+   * Inbox 정리 주기 (밀리초)
+   * 기본값: 3600000 (1시간)
+   */
+  private long inboxPurgeIntervalMs = 3600000;
+
+  /**
+   * 배치 Callback 최대 요청 개수
+   * 기본값: 200
+   */
+  private int batchMaxSize = 200;
+
+  /**
+   * 배치 Callback 항목을 함께 처리할 때의 장소 검색 전체 제한 시간 (초)
+   * 배치 전체의 장소를 중복 제거 후 한 번에 검색하므로 단건 제한 시간보다 길게 설정합니다.
+   * 처리 중 점유가 만료되지 않도록 inboxLockSeconds보다 짧아야 합니다.
+   * 기본값: 180
+   */
+  private long batchPlaceResolveTimeoutSeconds = 180;
+
+  /**
+   * Google Places API 장애(Circuit Breaker OPEN)로 검색을 보류한 장소의 재처리 대기 시간 (초)
+   * 보류된 장소가 있는 Callback은 이 시간 이후 Inbox에서 다시 처리됩니다.
+   * 기본값: 60
+   */
+  private long circuitOpenDeferSeconds = 60;
+}
@@ -0,0 +1,49 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좌표 기반 국가 코드 판별(오프라인 Reverse Geocoding)을 위한 설정 정보
+ * application.yml의 place.country 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "place.country")
+@Getter
+@Setter
+public class PlaceCountryProperties {
+
+  /**
+   * 국가 경계 데이터 classpath 경로
+   * 기본값: geo/country-boundaries.txt
+   */
+  private String boundaryResource = "geo/country-boundaries.txt";
+
+  /**
+   * 국가 판별 격자 셀 크기 (도)
+   * 작을수록 조회가 빠르지만 메모리를 더 사용합니다.
+   * 기본값: 0.5
+   */
+  private double gridCellDegrees = 0.5;
+
+  /**
+   * 국가 경계 밖 좌표를 가장 가까운 국가로 판별하는 최대 거리 (도)
+   * 단순화된 해안선 밖에 있는 해변/항구 좌표를 보정합니다.
+   * 기본값: 0.1
+   */
+  private double coastalToleranceDegrees = 0.1;
+
+  /**
+   * 애플리케이션 시작 시 기존 장소 국가 코드 재계산 여부
+   * 기본값: false
+   */
+  private boolean backfillOnStartup = false;
+
+  /**
+   * 국가 코드 재계산 배치 크기
+   * 기본값: 500
+   */
+  private int backfillBatchSize = 500;
+}
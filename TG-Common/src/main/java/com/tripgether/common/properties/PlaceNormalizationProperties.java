@@ -0,0 +1,30 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 장소명/주소 정규화 키 재계산을 위한 설정 정보
+ * application.yml의 place.normalization 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "place.normalization")
+@Getter
+@Setter
+public class PlaceNormalizationProperties {
+
+  /**
+   * 애플리케이션 시작 시 이전 규칙 버전의 정규화 키 재계산 여부
+   * 재계산 전에는 기존 장소가 DB 캐시 조회에서 일치하지 않을 수 있습니다.
+   * 기본값: true
+   */
+  private boolean backfillOnStartup = true;
+
+  /**
+   * 정규화 키 재계산 배치 크기
+   * 기본값: 500
+   */
+  private int backfillBatchSize = 500;
+}
@@ -0,0 +1,92 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 사진 프록시 및 로컬 디스크 캐시 설정 정보
+ * application.yml의 place.photo 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "place.photo")
+@Getter
+@Setter
+public class PlacePhotoProperties {
+
+  /**
+   * Google Places Photo API 요청 URL
+   * 기본값: https://maps.googleapis.com/maps/api/place/photo
+   */
+  private String googlePhotoBaseUrl = "https://maps.googleapis.com/maps/api/place/photo";
+
+  /**
+   * Google에서 받아올 원본 사진 최대 너비 (px)
+   * 기본값: 1600
+   */
+  private int sourceMaxWidth = 1600;
+
+  /**
+   * 원본 사진 다운로드 1회 호출 전체 제한 시간 (밀리초)
+   * 기본값: 10000
+   */
+  private long fetchTimeoutMs = 10000;
+
+  /**
+   * 저장할 표준 너비 목록 (px), 요청 너비는 이 중 가장 가까운 큰 값으로 맞춥니다.
+   * 기본값: [200, 400, 800]
+   */
+  private List<Integer> widths = new ArrayList<>(List.of(200, 400, 800));
+
+  /**
+   * 너비를 지정하지 않은 요청에 사용할 너비 (px)
+   * 기본값: 400
+   */
+  private int defaultWidth = 400;
+
+  /**
+   * JPEG 인코딩 품질 (0.0 ~ 1.0)
+   * 기본값: 0.85
+   */
+  private float jpegQuality = 0.85f;
+
+  /**
+   * 사진 세그먼트 파일 저장 디렉터리
+   * 기본값: data/place-photo
+   */
+  private String storeDirectory = "data/place-photo";
+
+  /**
+   * 세그먼트 파일 1개 크기 (바이트), 가득 차면 새 세그먼트에 이어서 기록합니다.
+   * 기본값: 67108864 (64MB)
+   */
+  private long segmentSizeBytes = 64L * 1024 * 1024;
+
+  /**
+   * 사진 저장소 전체 최대 크기 (바이트), 초과 시 가장 오래 사용되지 않은 세그먼트부터 삭제합니다.
+   * 기본값: 1073741824 (1GB)
+   */
+  private long maxStoreBytes = 1024L * 1024 * 1024;
+
+  /**
+   * 용량 초과로 제외된 세그먼트 파일을 실제로 삭제하기까지 유예 시간 (밀리초), 전송 중인 sendfile 응답을 보호합니다.
+   * 기본값: 60000
+   */
+  private long retiredSegmentGraceMs = 60000;
+
+  /**
+   * 버전 경로(?v=) 사진 응답 Cache-Control max-age (초), 사진이 바뀌면 경로가 바뀌므로 immutable로 응답합니다.
+   * 기본값: 2592000 (30일)
+   */
+  private long cacheMaxAgeSeconds = 2592000;
+
+  /**
+   * 버전이 없거나 현재 사진과 다른 경로의 사진 응답 Cache-Control max-age (초), 이후 ETag로 재검증합니다.
+   * 기본값: 300 (5분)
+   */
+  private long revalidateMaxAgeSeconds = 300;
+}
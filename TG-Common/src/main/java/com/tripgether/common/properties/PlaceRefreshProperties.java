@@ -0,0 +1,54 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오래된 장소 정보 백그라운드 갱신(Refresh-ahead)을 위한 설정 정보
+ * application.yml의 place.refresh 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "place.refresh")
+@Getter
+@Setter
+public class PlaceRefreshProperties {
+
+  /**
+   * 백그라운드 갱신 사용 여부
+   * 기본값: true
+   */
+  private boolean enabled = true;
+
+  /**
+   * 갱신 대상으로 판단하는 마지막 갱신 이후 경과 일수
+   * 기본값: 30
+   */
+  private long staleAfterDays = 30;
+
+  /**
+   * 갱신 배치 실행 주기 (밀리초)
+   * 기본값: 60000
+   */
+  private long intervalMs = 60000;
+
+  /**
+   * 갱신 대상 점유 유지 시간 (분), 갱신 중 종료되거나 실패한 장소는 점유가 만료된 뒤 다시 갱신 대상이 됩니다.
+   * 기본값: 10
+   */
+  private long claimLeaseMinutes = 10;
+
+  /**
+   * 배치 1회에 갱신할 최대 장소 수
+   * 기본값: 20
+   */
+  private int batchSize = 20;
+
+  /**
+   * 갱신에 사용할 Google Places API 호출 한도 비율 (place.search.google-qps 대비, 인스턴스당)
+   * 사용자 검색이 호출 한도를 우선 사용하도록 갱신 호출 간격을 늘립니다.
+   * 기본값: 0.2
+   */
+  private double quotaShare = 0.2;
+}
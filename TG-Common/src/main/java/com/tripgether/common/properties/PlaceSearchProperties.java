@@ -0,0 +1,204 @@
+package com.tripgether.common.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소 검색(Google Places API) 호출 최적화를 위한 설정 정보
+ * application.yml의 place.search 설정을 매핑합니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "place.search")
+@Getter
+@Setter
+public class PlaceSearchProperties {
+
+  /**
+   * 장소 검색 결과 로컬(1차) 캐시 최대 항목 수
+   * 기본값: 10000
+   */
+  private long lookupCacheLocalMaxSize = 10000;
+
+  /**
+   * 장소 검색 결과 로컬(1차) 캐시 유지 시간 (초)
+   * 기본값: 300
+   */
+  private long lookupCacheLocalTtlSeconds = 300;
+
+  /**
+   * 장소 검색 결과 Redis(2차) 캐시 유지 시간 (초)
+   * 기본값: 86400 (1일)
+   */
+  private long lookupCacheRedisTtlSeconds = 86400;
+
+  /**
+   * Google Places API 검색 결과 없음(ZERO_RESULTS) 캐시 유지 시간 (초)
+   * 이 시간 동안 같은 장소명(+언어)은 Google API를 호출하지 않고 GOOGLE_PLACE_NOT_FOUND 처리합니다.
+   * 기본값: 21600 (6시간)
+   */
+  private long negativeCacheTtlSeconds = 21600;
+
+  /**
+   * 동일 장소 동시 검색 병합용 Redis 임대 유지 시간 (밀리초)
+   * 다른 인스턴스는 최대 이 시간만큼 검색 결과를 기다린 뒤 직접 검색합니다.
+   * 기본값: 10000
+   */
+  private long singleFlightLeaseMs = 10000;
+
+  /**
+   * 다른 인스턴스의 검색 완료 확인 주기 (밀리초)
+   * 기본값: 100
+   */
+  private long singleFlightPollIntervalMs = 100;
+
+  /**
+   * Google Places API 클러스터 전체 초당 호출 한도 (Token Bucket 충전 속도)
+   * 기본값: 10
+   */
+  private double googleQps = 10;
+
+  /**
+   * Google Places API 순간 최대 호출 수 (Token Bucket 크기)
+   * 기본값: 20
+   */
+  private int googleBurst = 20;
+
+  /**
+   * 호출 토큰 최대 대기 시간 (밀리초), 초과 시 GOOGLE_PLACE_RATE_LIMITED
+   * 기본값: 5000
+   */
+  private long rateLimitMaxWaitMs = 5000;
+
+  /**
+   * OVER_QUERY_LIMIT 응답 시 최대 재시도 횟수
+   * 기본값: 3
+   */
+  private int overQueryLimitMaxRetries = 3;
+
+  /**
+   * OVER_QUERY_LIMIT 재시도 기본 대기 시간 (밀리초), 재시도마다 2배씩 증가
+   * 기본값: 500
+   */
+  private long overQueryLimitBaseBackoffMs = 500;
+
+  /**
+   * OVER_QUERY_LIMIT 재시도 최대 대기 시간 (밀리초)
+   * 기본값: 8000
+   */
+  private long overQueryLimitMaxBackoffMs = 8000;
+
+  /**
+   * Google Places API 1회 호출 전체 제한 시간 (밀리초)
+   * 공용 OkHttpClient의 30초 timeout 대신 적용됩니다.
+   * 기본값: 10000
+   */
+  private long googleCallTimeoutMs = 10000;
+
+  /**
+   * Google Places API 비동기 호출 최대 동시 실행 수 (초과분은 OkHttp Dispatcher 대기열에서 대기)
+   * 기본값: 32
+   */
+  private int googleMaxConcurrentRequests = 32;
+
+  /**
+   * Google Places API (Find Place from Text) 요청 URL
+   * 기본값: https://maps.googleapis.com/maps/api/place/findplacefromtext/json
+   */
+  private String googleBaseUrl = "https://maps.googleapis.com/maps/api/place/findplacefromtext/json";
+
+  /**
+   * Google Places API (Place Details) 요청 URL (오래된 장소 갱신 시 place_id로 재조회)
+   * 기본값: https://maps.googleapis.com/maps/api/place/details/json
+   */
+  private String googleDetailsUrl = "https://maps.googleapis.com/maps/api/place/details/json";
+
+  /**
+   * Kakao Local API (키워드로 장소 검색) 요청 URL
+   * 기본값: https://dapi.kakao.com/v2/local/search/keyword.json
+   */
+  private String kakaoBaseUrl = "https://dapi.kakao.com/v2/local/search/keyword.json";
+
+  /**
+   * Kakao Local API 1회 호출 전체 제한 시간 (밀리초)
+   * 기본값: 5000
+   */
+  private long kakaoCallTimeoutMs = 5000;
+
+  /**
+   * 장소 검색 Hedged Request 사용 여부
+   * 1순위 플랫폼 응답이 p95 지연 시간을 넘기면 2순위 플랫폼에 같은 검색을 요청합니다.
+   * 기본값: true
+   */
+  private boolean hedgeEnabled = true;
+
+  /**
+   * 장소 검색 플랫폼 우선순위 (첫 번째: 기본 검색, 두 번째: Hedged Request 대상)
+   * 기본값: [GOOGLE, KAKAO]
+   */
+  private List<String> hedgePlatforms = new ArrayList<>(List.of("GOOGLE", "KAKAO"));
+
+  /**
+   * 지연 시간 표본이 부족할 때 Hedged Request까지 기다리는 시간 (밀리초)
+   * 기본값: 1000
+   */
+  private long hedgeDefaultDelayMs = 1000;
+
+  /**
+   * Hedged Request 최소 대기 시간 (밀리초), p95가 이보다 짧아도 이 시간은 기다립니다.
+   * 기본값: 200
+   */
+  private long hedgeMinDelayMs = 200;
+
+  /**
+   * 플랫폼별 p95 계산에 사용하는 최근 응답 시간 표본 수
+   * 기본값: 200
+   */
+  private int hedgeLatencySampleSize = 200;
+
+  /**
+   * p95 계산을 시작하는 최소 표본 수
+   * 기본값: 20
+   */
+  private int hedgeLatencyMinSamples = 20;
+
+  /**
+   * Circuit Breaker 실패율 임계값 (%), 초과 시 OPEN
+   * 기본값: 50
+   */
+  private float circuitBreakerFailureRateThreshold = 50;
+
+  /**
+   * Circuit Breaker 느린 호출 비율 임계값 (%), 초과 시 OPEN
+   * 기본값: 50
+   */
+  private float circuitBreakerSlowCallRateThreshold = 50;
+
+  /**
+   * 느린 호출로 판단하는 응답 시간 (밀리초)
+   * 기본값: 5000
+   */
+  private long circuitBreakerSlowCallDurationMs = 5000;
+
+  /**
+   * Circuit Breaker 실패율 계산에 사용하는 최근 호출 수
+   * 기본값: 20
+   */
+  private int circuitBreakerSlidingWindowSize = 20;
+
+  /**
+   * 실패율 계산을 시작하는 최소 호출 수
+   * 기본값: 10
+   */
+  private int circuitBreakerMinimumCalls = 10;
+
+  /**
+   * Circuit Breaker OPEN 유지 시간 (초), 이후 HALF_OPEN으로 전환하여 일부 호출 허용
+   * 기본값: 30
+   */
+  private long circuitBreakerOpenSeconds = 30;
+}
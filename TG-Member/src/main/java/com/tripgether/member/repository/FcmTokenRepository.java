@@ -5,6 +5,7 @@ import com.tripgether.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -19,6 +20,8 @@ public interface FcmTokenRepository extends JpaRepository<FcmToken, UUID> {
 
   List<FcmToken> findByMemberId(UUID memberId);
 
+  List<FcmToken> findByMemberIdIn(Collection<UUID> memberIds);
+
   Optional<FcmToken> findByFcmToken(String fcmToken);
 
   List<FcmToken> findByLastUsedAtBefore(LocalDateTime dateTime);
@@ -13,8 +13,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,6 +30,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FcmService {
 
+  // 멀티캐스트 1회 전송 최대 토큰 수 (Firebase 제한)
+  private static final int MULTICAST_MAX_TOKENS = 500;
+
   private final FcmTokenRepository fcmTokenRepository;
 
   /**
@@ -141,6 +148,93 @@ public class FcmService {
     sendNotificationToMultipleDevices(tokens, title, body, data, imageUrl);
   }
 
+  /**
+   * 여러 회원의 모든 기기에 푸시 알림 일괄 전송
+   * <p>
+   * - 전체 회원의 FCM 토큰을 단일 쿼리로 조회
+   * - 멀티캐스트 최대 토큰 수(500개) 단위로 나누어 전송
+   * - 유효하지 않은 토큰은 일괄 삭제
+   *
+   * @param memberIds 알림 대상 Member ID 목록
+   * @param title     알림 제목
+   * @param body      알림 본문
+   * @param data      추가 데이터
+   * @param imageUrl  이미지 URL (선택)
+   * @return 알림 전송이 완료된 Member ID (한 기기 이상 전송 성공 또는 등록된 토큰 없음)
+   */
+  public Set<UUID> sendNotificationToMembers(Collection<UUID> memberIds, String title, String body, Map<String, String> data, String imageUrl) {
+    // Firebase App이 초기화되어 있는지 확인
+    if (FirebaseApp.getApps().isEmpty()) {
+      log.error("Firebase App이 초기화되지 않았습니다. FCM 알림을 전송할 수 없습니다.");
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    // 전체 회원의 FCM 토큰 일괄 조회
+    List<FcmToken> tokens = fcmTokenRepository.findByMemberIdIn(memberIds);
+
+    // 토큰이 없는 회원은 전송할 대상이 없으므로 전송 완료로 처리
+    Set<UUID> notifiedMemberIds = new HashSet<>(memberIds);
+    tokens.forEach(token -> notifiedMemberIds.remove(token.getMember().getId()));
+    if (notifiedMemberIds.size() < memberIds.size()) {
+      log.debug("회원 {}명에게 등록된 FCM 토큰 {}개를 찾았습니다.", memberIds.size() - notifiedMemberIds.size(), tokens.size());
+    }
+
+    // 알림 메시지 생성
+    Notification.Builder notificationBuilder = Notification.builder()
+        .setTitle(title)
+        .setBody(body);
+
+    // 이미지 URL이 있으면 추가
+    if (imageUrl != null && !imageUrl.isBlank()) {
+      notificationBuilder.setImage(imageUrl);
+    }
+
+    Notification notification = notificationBuilder.build();
+
+    // 500개 단위로 멀티캐스트 전송
+    List<FcmToken> invalidTokens = new ArrayList<>();
+    for (int from = 0; from < tokens.size(); from += MULTICAST_MAX_TOKENS) {
+      List<FcmToken> chunk = tokens.subList(from, Math.min(from + MULTICAST_MAX_TOKENS, tokens.size()));
+
+      MulticastMessage.Builder messageBuilder = MulticastMessage.builder()
+          .addAllTokens(chunk.stream().map(FcmToken::getFcmToken).toList())
+          .setNotification(notification);
+
+      // 추가 데이터가 있으면 추가
+      if (data != null && !data.isEmpty()) {
+        messageBuilder.putAllData(data);
+      }
+
+      try {
+        BatchResponse response = FirebaseMessaging.getInstance().sendEachForMulticast(messageBuilder.build());
+        log.info("FCM 멀티캐스트 알림 전송 완료: 성공 {}, 실패 {}", response.getSuccessCount(), response.getFailureCount());
+
+        List<SendResponse> responses = response.getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+          SendResponse sendResponse = responses.get(i);
+          FcmToken token = chunk.get(i);
+
+          if (sendResponse.isSuccessful()) {
+            notifiedMemberIds.add(token.getMember().getId());
+          } else if (sendResponse.getException() != null && isInvalidTokenError(sendResponse.getException())) {
+            log.warn("유효하지 않은 FCM 토큰 삭제: memberId={}, deviceId={}", token.getMember().getId(), token.getDeviceId());
+            invalidTokens.add(token);
+          }
+        }
+      } catch (FirebaseMessagingException e) {
+        // 실패한 묶음만 건너뛰고 나머지 묶음은 계속 전송
+        log.error("FCM 멀티캐스트 알림 전송 실패: {}", e.getMessage(), e);
+      }
+    }
+
+    // 유효하지 않은 토큰 일괄 삭제
+    if (!invalidTokens.isEmpty()) {
+      fcmTokenRepository.deleteAllInBatch(invalidTokens);
+    }
+
+    return notifiedMemberIds;
+  }
+
   /**
    * 여러 기기에 푸시 알림 전송 (멀티캐스트)
    *
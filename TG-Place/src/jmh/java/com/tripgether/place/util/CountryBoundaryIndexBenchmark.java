@@ -0,0 +1,88 @@
+package com.tripgether.place.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좌표 -> 국가 코드 조회 성능 측정
+ * <p>
+ * - cities: 주요 여행지 좌표 (대부분 내부 셀, 해안 도시는 경계 셀)
+ * - global: 전 세계 무작위 좌표 (바다/미수록 국가 포함)
+ * - 호출 1회 기준 시간 (좌표 COORDINATE_COUNT개를 순회하며 측정)
+ * <p>
+ * 실행: ./gradlew :TG-Place:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CountryBoundaryIndexBenchmark {
+
+  private static final int COORDINATE_COUNT = 1024;
+
+  // {위도, 경도}
+  private static final double[][] CITIES = {
+      {37.5665, 126.9780}, {35.1796, 129.0756}, {33.4996, 126.5312}, {35.6762, 139.6503}, {34.6937, 135.5023},
+      {43.0618, 141.3545}, {26.2124, 127.6809}, {25.0330, 121.5654}, {22.3193, 114.1694}, {31.2304, 121.4737},
+      {13.7563, 100.5018}, {21.0285, 105.8542}, {16.0544, 108.2022}, {1.3521, 103.8198}, {-8.6500, 115.2167},
+      {14.5995, 120.9842}, {10.3157, 123.8854}, {13.4443, 144.7937}, {21.3069, -157.8583}, {40.7128, -74.0060},
+      {34.0522, -118.2437}, {48.8566, 2.3522}, {51.5074, -0.1278}, {41.9028, 12.4964}, {41.3851, 2.1734},
+      {-33.8688, 151.2093}, {-36.8485, 174.7633}, {49.2827, -123.1207}
+  };
+
+  // 격자 셀 크기 (도)
+  @Param({"0.25", "0.5", "1.0"})
+  private double cellDegrees;
+
+  @Param({"cities", "global"})
+  private String coordinates;
+
+  private CountryBoundaryIndex countryBoundaryIndex;
+  private double[] latitudes;
+  private double[] longitudes;
+
+  @Setup
+  public void setUp() throws IOException {
+    try (InputStream inputStream = getClass().getResourceAsStream("/geo/country-boundaries.txt")) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Country boundary data not found");
+      }
+      countryBoundaryIndex = CountryBoundaryIndex.load(inputStream, cellDegrees, 0.1);
+    }
+
+    // 도시 좌표는 약 5km 범위로 흩뜨려 같은 셀만 반복 조회하지 않도록 함
+    Random random = new Random(42);
+    latitudes = new double[COORDINATE_COUNT];
+    longitudes = new double[COORDINATE_COUNT];
+    for (int i = 0; i < COORDINATE_COUNT; i++) {
+      if ("cities".equals(coordinates)) {
+        double[] city = CITIES[i % CITIES.length];
+        latitudes[i] = city[0] + (random.nextDouble() - 0.5) * 0.1;
+        longitudes[i] = city[1] + (random.nextDouble() - 0.5) * 0.1;
+      } else {
+        latitudes[i] = random.nextDouble() * 180 - 90;
+        longitudes[i] = random.nextDouble() * 360 - 180;
+      }
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(COORDINATE_COUNT)
+  public void find(Blackhole blackhole) {
+    for (int i = 0; i < COORDINATE_COUNT; i++) {
+      blackhole.consume(countryBoundaryIndex.find(latitudes[i], longitudes[i]));
+    }
+  }
+}
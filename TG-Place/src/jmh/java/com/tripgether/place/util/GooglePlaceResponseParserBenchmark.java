@@ -0,0 +1,66 @@
+package com.tripgether.place.util;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Places API 응답 파싱 성능 비교
+ * <p>
+ * - databind: 기존 방식 (응답 본문 전체를 문자열로 읽은 뒤 ObjectMapper.readValue)
+ * - streaming: GooglePlaceResponseParser (InputStream에서 첫 번째 후보만 파싱)
+ * <p>
+ * 실행: ./gradlew :TG-Place:jmh (gc 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GooglePlaceResponseParserBenchmark {
+
+  private static final int MAX_PHOTO_COUNT = 10;
+
+  // src/jmh/resources/google 아래 응답 데이터 (후보 1개 / 후보 20개 + 사진 10개씩 / 결과 없음)
+  @Param({"find-place-single.json", "find-place-multi.json", "find-place-zero.json"})
+  private String payload;
+
+  private ObjectMapper objectMapper;
+  private byte[] responseBody;
+
+  @Setup
+  public void setUp() throws IOException {
+    // Spring Boot 기본 ObjectMapper와 같이 알 수 없는 필드 무시
+    objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    try (InputStream inputStream = getClass().getResourceAsStream("/google/" + payload)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Benchmark payload not found: " + payload);
+      }
+      responseBody = inputStream.readAllBytes();
+    }
+  }
+
+  @Benchmark
+  public GooglePlaceSearchDto databind() throws IOException {
+    String body = new String(responseBody, StandardCharsets.UTF_8);
+    return objectMapper.readValue(body, GooglePlaceSearchDto.class);
+  }
+
+  @Benchmark
+  public GooglePlaceSearchDto streaming() throws IOException {
+    return GooglePlaceResponseParser.parse(objectMapper.getFactory(), new ByteArrayInputStream(responseBody),
+        MAX_PHOTO_COUNT);
+  }
+}
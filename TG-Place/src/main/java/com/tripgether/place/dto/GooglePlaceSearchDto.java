@@ -1,6 +1,7 @@
 package com.tripgether.place.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.tripgether.place.constant.PlacePlatform;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,6 +9,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.UUID;
 import lombok.ToString;
 
 /**
@@ -16,6 +18,7 @@ import lombok.ToString;
 @Getter
 @ToString
 @NoArgsConstructor
+@AllArgsConstructor
 public class GooglePlaceSearchDto {
 
   private List<Candidate> candidates;
@@ -25,7 +28,9 @@ public class GooglePlaceSearchDto {
    * Google Places API 검색 결과
    */
   @Getter
+  @Builder
   @NoArgsConstructor
+  @AllArgsConstructor
   public static class Candidate {
 
     @JsonProperty("place_id")
@@ -57,7 +62,9 @@ public class GooglePlaceSearchDto {
    * 좌표 정보
    */
   @Getter
+  @Builder
   @NoArgsConstructor
+  @AllArgsConstructor
   public static class Geometry {
     private Location location;
   }
@@ -66,7 +73,9 @@ public class GooglePlaceSearchDto {
    * 위도/경도
    */
   @Getter
+  @Builder
   @NoArgsConstructor
+  @AllArgsConstructor
   public static class Location {
     private BigDecimal lat;
     private BigDecimal lng;
@@ -76,7 +85,9 @@ public class GooglePlaceSearchDto {
    * 사진 정보
    */
   @Getter
+  @Builder
   @NoArgsConstructor
+  @AllArgsConstructor
   public static class Photo {
     @JsonProperty("photo_reference")
     private String photoReference;
@@ -109,6 +120,12 @@ public class GooglePlaceSearchDto {
     private String iconUrl;
     private BigDecimal rating;
     private Integer userRatingsTotal;
-    private List<String> photoUrls;
+    private List<String> photoReferences;
+
+    // Google API 장애 시 DB에서 대체한 기존 Place ID (Google place_id 없이 반환된 경우에만 값 존재)
+    private UUID cachedPlaceId;
+
+    // placeId를 발급한 플랫폼 (null이면 GOOGLE)
+    private PlacePlatform platform;
   }
 }
@@ -0,0 +1,51 @@
+package com.tripgether.place.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Kakao Local API (키워드로 장소 검색) 응답 DTO
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class KakaoPlaceSearchDto {
+
+  private List<Document> documents;
+
+  /**
+   * Kakao Local API 검색 결과
+   */
+  @Getter
+  @NoArgsConstructor
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Document {
+
+    private String id;
+
+    @JsonProperty("place_name")
+    private String placeName;
+
+    @JsonProperty("address_name")
+    private String addressName;
+
+    @JsonProperty("road_address_name")
+    private String roadAddressName;
+
+    @JsonProperty("category_name")
+    private String categoryName;
+
+    // 경도 (longitude)
+    private BigDecimal x;
+
+    // 위도 (latitude)
+    private BigDecimal y;
+  }
+}
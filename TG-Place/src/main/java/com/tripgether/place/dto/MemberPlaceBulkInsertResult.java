@@ -0,0 +1,24 @@
+package com.tripgether.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * MemberPlace 일괄 생성 결과
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MemberPlaceBulkInsertResult {
+
+  /**
+   * 새로 생성된 MemberPlace 개수
+   */
+  private final long createdCount;
+
+  /**
+   * 이미 존재하여 건너뛴 (member, place) 쌍 개수
+   */
+  private final long skippedCount;
+}
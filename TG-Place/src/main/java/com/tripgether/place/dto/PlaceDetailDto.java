@@ -4,6 +4,7 @@ import com.tripgether.place.entity.Place;
 import com.tripgether.place.entity.PlaceBusinessHour;
 import com.tripgether.place.entity.PlaceMedia;
 import com.tripgether.place.entity.PlacePlatformReference;
+import com.tripgether.place.util.PlacePhotoPaths;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.util.List;
@@ -63,7 +64,7 @@ public class PlaceDetailDto {
   @Schema(description = "리뷰 수", example = "123")
   private Integer userRatingsTotal;
 
-  @Schema(description = "사진 URL 배열", example = "[\"https://example.com/photo1.jpg\", \"https://example.com/photo2.jpg\"]")
+  @Schema(description = "사진 프록시 경로 배열", example = "[\"/api/place/550e8400-e29b-41d4-a716-446655440000/photo/0?v=3f2a9c1b7d4e\", \"/api/place/550e8400-e29b-41d4-a716-446655440000/photo/1?v=8b51e07c2fa6\"]")
   private List<String> photoUrls;
 
   @Schema(description = "플랫폼별 참조 정보 (Google Place ID 등)")
@@ -100,7 +101,7 @@ public class PlaceDetailDto {
         .iconUrl(place.getIconUrl())
         .rating(place.getRating())
         .userRatingsTotal(place.getUserRatingsTotal())
-        .photoUrls(place.getPhotoUrls())
+        .photoUrls(PlacePhotoPaths.of(place.getId(), place.getPhotoReferences()))
         .platformReferences(platformReferences.stream()
             .map(PlacePlatformReferenceDto::from)
             .collect(Collectors.toList()))
@@ -2,6 +2,7 @@ package com.tripgether.place.dto;
 
 
 import com.tripgether.place.entity.Place;
+import com.tripgether.place.util.PlacePhotoPaths;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.util.List;
@@ -32,7 +33,7 @@ public class PlaceDto {
   @Schema(description = "리뷰 수", example = "123")
   private Integer userRatingsTotal;
 
-  @Schema(description = "사진 URL 배열 (최대 10개)")
+  @Schema(description = "사진 프록시 경로 배열 (최대 10개)", example = "[\"/api/place/550e8400-e29b-41d4-a716-446655440000/photo/0?v=3f2a9c1b7d4e\"]")
   private List<String> photoUrls;
 
   @Schema(description = "장소 요약 설명", example = "서울역 인근, 공부하기 좋은 카페")
@@ -49,7 +50,7 @@ public class PlaceDto {
         .address(place.getAddress())
         .rating(place.getRating())
         .userRatingsTotal(place.getUserRatingsTotal())
-        .photoUrls(place.getPhotoUrls())
+        .photoUrls(PlacePhotoPaths.of(place.getId(), place.getPhotoReferences()))
         .description(place.getDescription())
         .build();
   }
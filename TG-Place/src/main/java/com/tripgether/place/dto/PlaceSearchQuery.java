@@ -0,0 +1,29 @@
+package com.tripgether.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 장소 일괄 검색 요청 항목
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class PlaceSearchQuery {
+
+  /**
+   * 장소명
+   */
+  private final String placeName;
+
+  /**
+   * 주소
+   */
+  private final String address;
+
+  /**
+   * 언어 코드 (ko, en, ja, zh)
+   */
+  private final String language;
+}
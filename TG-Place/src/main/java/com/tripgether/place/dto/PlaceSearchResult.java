@@ -0,0 +1,23 @@
+package com.tripgether.place.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장소 일괄 검색 항목별 결과
+ * - 성공 시 placeDetail, 실패(제한 시간 초과 포함) 시 failure
+ */
+@Getter
+@AllArgsConstructor
+public class PlaceSearchResult {
+
+  /**
+   * 장소 상세 정보 (실패 시 null)
+   */
+  private final GooglePlaceSearchDto.PlaceDetail placeDetail;
+
+  /**
+   * 검색 실패 원인 (성공 시 null)
+   */
+  private final RuntimeException failure;
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -39,6 +40,9 @@ import lombok.NoArgsConstructor;
             name = "uk_member_place",
             columnNames = {"member_id", "place_id"}
         )
+    },
+    indexes = {
+        @Index(name = "idx_member_place_place_id", columnList = "place_id")
     }
 )
 @Getter
@@ -1,6 +1,7 @@
 package com.tripgether.place.entity;
 
 import com.tripgether.common.entity.SoftDeletableBaseEntity;
+import com.tripgether.place.util.PlaceTextNormalizer;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.DecimalMax;
 import jakarta.validation.constraints.DecimalMin;
@@ -12,6 +13,7 @@ import lombok.AllArgsConstructor;
 import lombok.Setter;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -21,6 +23,12 @@ import org.hibernate.type.SqlTypes;
 
 @Check(constraints = "latitude BETWEEN -90 AND 90 AND longitude BETWEEN -180 AND 180")
 @Entity
+@Table(
+    indexes = {
+        @Index(name = "idx_place_normalized_name", columnList = "normalized_name"),
+        @Index(name = "idx_place_updated_at", columnList = "updated_at")
+    }
+)
 @Builder
 @Getter
 @Setter
@@ -39,6 +47,16 @@ public class Place extends SoftDeletableBaseEntity {
   @Column(length = 500)
   private String address;
 
+  // 검색용 정규화 이름/주소 키 (PlaceTextNormalizer, 저장 시 자동 갱신, pg_trgm 확장이 있으면 GIN 인덱스)
+  @Column(length = 255)
+  private String normalizedName;
+
+  @Column(length = 500)
+  private String normalizedAddress;
+
+  @Column(nullable = false)
+  private int normalizationVersion; //정규화 규칙 버전 (PlaceTextNormalizer.KEY_VERSION보다 낮으면 재계산 대상)
+
   @Column(length = 2, nullable = false)
   private String country;         //국가 코드 (ISO 3166-1 alpha-2: KR, US, JP, CN 등)
 
@@ -78,8 +96,22 @@ public class Place extends SoftDeletableBaseEntity {
   @Column
   private Integer userRatingsTotal; //리뷰 수
 
+  // 사진 URL은 저장하지 않고 응답 시 프록시 경로로 생성 (PlacePhotoPaths)
   @Column(columnDefinition = "text[]")
   @JdbcTypeCode(SqlTypes.ARRAY)
-  private List<String> photoUrls; //사진 URL 배열 (최대 10개)
+  private List<String> photoReferences; //Google photo_reference 배열 (최대 10개)
 
+  @Column
+  private LocalDateTime refreshClaimedUntil; //백그라운드 갱신 점유 만료 시각 (이 시각 전에는 다시 갱신 대상이 되지 않음)
+
+  /**
+   * 검색용 정규화 컬럼 갱신 (name/address 변경 시 함께 반영)
+   */
+  @PrePersist
+  @PreUpdate
+  void normalizeSearchColumns() {
+    this.normalizedName = PlaceTextNormalizer.nameKey(name);
+    this.normalizedAddress = PlaceTextNormalizer.addressKey(address);
+    this.normalizationVersion = PlaceTextNormalizer.KEY_VERSION;
+  }
 }
@@ -0,0 +1,29 @@
+package com.tripgether.place.repository;
+
+import com.tripgether.place.dto.MemberPlaceBulkInsertResult;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * MemberPlace 일괄 생성 Repository (MemberPlaceRepository 커스텀 fragment)
+ */
+public interface MemberPlaceBulkRepository {
+
+  /**
+   * 회원 목록 x 장소 목록의 모든 (member, place) 쌍에 대해 TEMPORARY MemberPlace 일괄 생성
+   * <p>
+   * - 단일 SQL 문(INSERT ... SELECT ... ON CONFLICT DO NOTHING)으로 처리
+   * - uk_member_place(member_id, place_id)에 걸리는 쌍은 건너뜀 (삭제된 MemberPlace 포함)
+   *
+   * @param memberIds       회원 ID 목록
+   * @param placeIds        장소 ID 목록
+   * @param sourceContentId MemberPlace를 생성한 원본 Content ID
+   * @return 생성/건너뜀 개수
+   */
+  MemberPlaceBulkInsertResult insertTemporaryIgnoringDuplicates(
+      Collection<UUID> memberIds,
+      Collection<UUID> placeIds,
+      UUID sourceContentId
+  );
+}
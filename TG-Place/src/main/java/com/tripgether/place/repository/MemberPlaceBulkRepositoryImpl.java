@@ -0,0 +1,69 @@
+package com.tripgether.place.repository;
+
+import com.tripgether.place.constant.PlaceSavedStatus;
+import com.tripgether.place.dto.MemberPlaceBulkInsertResult;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Collection;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * MemberPlaceBulkRepository 구현체
+ * <p>
+ * 회원 ID 배열과 장소 ID 배열을 CROSS JOIN하여 한 번에 INSERT하고,
+ * 전체 쌍 개수와 실제 생성 개수를 같은 문장에서 반환
+ */
+public class MemberPlaceBulkRepositoryImpl implements MemberPlaceBulkRepository {
+
+  private static final String BULK_INSERT_SQL = """
+      WITH pair AS (
+        SELECT m.member_id, p.place_id
+        FROM unnest(CAST(:memberIds AS uuid[])) AS m(member_id)
+        CROSS JOIN unnest(CAST(:placeIds AS uuid[])) AS p(place_id)
+      ),
+      inserted AS (
+        INSERT INTO member_place (id, member_id, place_id, saved_status, source_content_id,
+                                  is_deleted, created_at, updated_at)
+        SELECT gen_random_uuid(), pair.member_id, pair.place_id, :savedStatus, :sourceContentId,
+               false, now(), now()
+        FROM pair
+        ON CONFLICT ON CONSTRAINT uk_member_place DO NOTHING
+        RETURNING 1
+      )
+      SELECT (SELECT COUNT(*) FROM pair) AS total_count,
+             (SELECT COUNT(*) FROM inserted) AS created_count
+      """;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Override
+  public MemberPlaceBulkInsertResult insertTemporaryIgnoringDuplicates(
+      Collection<UUID> memberIds,
+      Collection<UUID> placeIds,
+      UUID sourceContentId) {
+    if (memberIds == null || memberIds.isEmpty() || placeIds == null || placeIds.isEmpty()) {
+      return new MemberPlaceBulkInsertResult(0, 0);
+    }
+
+    Object[] row = (Object[]) entityManager.createNativeQuery(BULK_INSERT_SQL)
+        .setParameter("memberIds", toArrayLiteral(memberIds))
+        .setParameter("placeIds", toArrayLiteral(placeIds))
+        .setParameter("savedStatus", PlaceSavedStatus.TEMPORARY.name())
+        .setParameter("sourceContentId", sourceContentId)
+        .getSingleResult();
+
+    long totalCount = ((Number) row[0]).longValue();
+    long createdCount = ((Number) row[1]).longValue();
+    return new MemberPlaceBulkInsertResult(createdCount, totalCount - createdCount);
+  }
+
+  // PostgreSQL 배열 리터럴 생성 ({uuid1,uuid2,...})
+  private String toArrayLiteral(Collection<UUID> ids) {
+    return ids.stream()
+        .map(UUID::toString)
+        .collect(Collectors.joining(",", "{", "}"));
+  }
+}
@@ -13,7 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface MemberPlaceRepository extends JpaRepository<MemberPlace, UUID> {
+public interface MemberPlaceRepository extends JpaRepository<MemberPlace, UUID>, MemberPlaceBulkRepository {
 
   /**
    * 회원과 저장 상태로 MemberPlace 목록 조회 (삭제되지 않은 것만)
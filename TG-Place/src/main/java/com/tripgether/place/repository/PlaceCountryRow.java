@@ -0,0 +1,20 @@
+package com.tripgether.place.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * 국가 코드 재계산 대상 장소 (PlaceRepository.findCountryRowsAfter 결과)
+ */
+public interface PlaceCountryRow {
+
+  UUID getPlaceId();
+
+  BigDecimal getLatitude();
+
+  BigDecimal getLongitude();
+
+  String getAddress();
+
+  String getCountry();
+}
@@ -0,0 +1,13 @@
+package com.tripgether.place.repository;
+
+import java.util.UUID;
+
+/**
+ * 백그라운드 갱신 대상 장소 (PlaceRepository.findRefreshCandidatesForUpdate 결과)
+ */
+public interface PlaceRefreshCandidate {
+
+  UUID getPlaceId();
+
+  String getGooglePlaceId();
+}
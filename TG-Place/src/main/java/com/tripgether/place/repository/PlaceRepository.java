@@ -2,11 +2,15 @@ package com.tripgether.place.repository;
 
 import com.tripgether.place.entity.Place;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,7 +18,7 @@ import java.util.UUID;
  * Place 엔티티에 대한 Repository
  */
 @Repository
-public interface PlaceRepository extends JpaRepository<Place, UUID> {
+public interface PlaceRepository extends JpaRepository<Place, UUID>, PlaceUpsertRepository {
 
   /**
    * 이름과 좌표로 장소 조회 (중복 방지용)
@@ -27,23 +31,146 @@ public interface PlaceRepository extends JpaRepository<Place, UUID> {
   Optional<Place> findByNameAndLatitudeAndLongitude(String name, BigDecimal latitude, BigDecimal longitude);
 
   /**
-   * 이름과 주소로 Place 검색 (DB 캐싱용, Google API 호출 최소화)
+   * 정규화된 이름과 주소로 Place 검색 (DB 캐싱용, Google API 호출 최소화)
    * <p>
-   * name과 address를 모두 trim, lowercase 처리하여 검색
-   * address는 부분 매칭(LIKE) 사용
+   * 파라미터는 PlaceTextNormalizer로 생성한 키여야 함
+   * - name: normalized_name 일치 (idx_place_normalized_name)
+   * - address: normalized_address 부분 매칭 (pg_trgm 확장이 있으면 GIN 인덱스 사용, 없어도 동작)
+   * - region/number: 주소가 일치하지 않아도 지역 키(시/도 + 시/군/구)와 주소 번호가 같으면 일치 (로마자 표기 차이 허용)
+   *   같은 지역의 같은 이름 다른 지점과 섞이지 않도록 번호가 없으면 지역 키만으로는 일치시키지 않음
+   * - 여러 건이 일치하면 주소 부분 매칭 결과를 지역 키 매칭 결과보다 우선하고, 그 안에서는 가장 최근 생성된 장소 1건
+   * - pg_trgm 함수(similarity 등)는 사용하지 않음 (확장 설치 권한이 없는 DB에서도 조회 가능)
    *
-   * @param name    장소명
-   * @param address 주소 (null 가능)
-   * @return Optional<Place> (가장 최근 생성된 장소)
+   * @param normalizedName    장소명 키
+   * @param normalizedAddress 주소 키 (null 가능)
+   * @param addressRegion     주소 지역 키 (null 가능)
+   * @param addressNumber     주소 번호 (건물 번호 또는 지번, null 가능)
+   * @return Optional<Place>
+   */
+  @Query(value = """
+    SELECT p.* FROM place p
+    WHERE p.normalized_name = :name
+    AND (CAST(:address AS text) IS NULL
+         OR p.normalized_address LIKE '%' || CAST(:address AS text) || '%'
+         OR (CAST(:region AS text) IS NOT NULL AND CAST(:number AS text) IS NOT NULL
+             AND p.normalized_address || ' ' LIKE CAST(:region AS text) || ' %'
+             AND ' ' || p.normalized_address || ' ' LIKE '% ' || CAST(:number AS text) || ' %'))
+    ORDER BY (p.normalized_address LIKE '%' || CAST(:address AS text) || '%') DESC NULLS LAST,
+             p.created_at DESC
+    LIMIT 1
+    """, nativeQuery = true)
+  Optional<Place> findByNormalizedNameAndAddress(
+          @Param("name") String normalizedName,
+          @Param("address") String normalizedAddress,
+          @Param("region") String addressRegion,
+          @Param("number") String addressNumber
+  );
+
+  /**
+   * 백그라운드 갱신 대상 장소 조회 (행 잠금)
+   * <p>
+   * - Google place_id가 있고 마지막 갱신 시각이 staleBefore 이전인 장소
+   * - 다른 배치가 점유 중(refresh_claimed_until이 now 이후)인 장소는 제외
+   * - 저장한 회원이 많은 장소부터, 같으면 오래된 장소부터
+   * - FOR UPDATE SKIP LOCKED로 여러 인스턴스가 같은 장소를 중복 갱신하지 않음
+   *
+   * @param staleBefore 갱신 기준 시각
+   * @param now         현재 시각 (점유 만료 판단)
+   * @param limit       최대 조회 수
+   * @return 갱신 대상 (Place ID, Google place_id)
+   */
+  @Query(value = """
+    SELECT p.id AS placeId, r.place_platform_id AS googlePlaceId
+    FROM place p
+    JOIN place_platform_reference r ON r.place_id = p.id AND r.place_platform = 'GOOGLE'
+    WHERE p.is_deleted = false
+    AND p.updated_at < :staleBefore
+    AND (p.refresh_claimed_until IS NULL OR p.refresh_claimed_until < :now)
+    ORDER BY (SELECT COUNT(*) FROM member_place mp WHERE mp.place_id = p.id AND mp.is_deleted = false) DESC,
+             p.updated_at
+    LIMIT :limit
+    FOR UPDATE OF p SKIP LOCKED
+    """, nativeQuery = true)
+  List<PlaceRefreshCandidate> findRefreshCandidatesForUpdate(
+          @Param("staleBefore") LocalDateTime staleBefore,
+          @Param("now") LocalDateTime now,
+          @Param("limit") int limit
+  );
+
+  /**
+   * 백그라운드 갱신 점유 만료 시각 변경 (점유/반납용, 마지막 갱신 시각은 유지)
+   *
+   * @param ids          Place ID 목록
+   * @param claimedUntil 점유 만료 시각 (null이면 점유 해제)
+   */
+  @Modifying
+  @Query("UPDATE Place p SET p.refreshClaimedUntil = :claimedUntil WHERE p.id IN :ids")
+  int updateRefreshClaimedUntil(@Param("ids") Collection<UUID> ids,
+          @Param("claimedUntil") LocalDateTime claimedUntil);
+
+  /**
+   * 국가 코드 재계산 대상 장소 조회 (id 기준 Keyset 페이지)
+   *
+   * @param afterId 이전 페이지의 마지막 Place ID
+   * @param limit   최대 조회 수
+   * @return id 오름차순 장소 좌표/주소/국가 코드
+   */
+  @Query(value = """
+    SELECT p.id AS placeId, p.latitude AS latitude, p.longitude AS longitude, p.address AS address,
+           p.country AS country
+    FROM place p
+    WHERE p.id > :afterId
+    ORDER BY p.id
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<PlaceCountryRow> findCountryRowsAfter(
+          @Param("afterId") UUID afterId,
+          @Param("limit") int limit
+  );
+
+  /**
+   * 장소 국가 코드 변경 (국가 코드 재계산용, 마지막 갱신 시각은 유지)
    */
+  @Modifying
+  @Query("UPDATE Place p SET p.country = :country WHERE p.id IN :ids")
+  int updateCountry(@Param("ids") Collection<UUID> ids, @Param("country") String country);
+
+  /**
+   * 정규화 키 재계산 대상 장소 조회 (이전 규칙 버전, id 기준 Keyset 페이지)
+   *
+   * @param afterId 이전 페이지의 마지막 Place ID
+   * @param version 현재 정규화 규칙 버전
+   * @param limit   최대 조회 수
+   * @return id 오름차순 장소
+   */
+  @Query(value = """
+    SELECT p.* FROM place p
+    WHERE p.id > :afterId
+    AND p.normalization_version < :version
+    ORDER BY p.id
+    LIMIT :limit
+    """, nativeQuery = true)
+  List<Place> findOutdatedNormalizationAfter(
+          @Param("afterId") UUID afterId,
+          @Param("version") int version,
+          @Param("limit") int limit
+  );
+
+  /**
+   * 장소 정규화 키 변경 (정규화 키 재계산용, 마지막 갱신 시각은 유지)
+   */
+  @Modifying
   @Query("""
-    SELECT p FROM Place p
-    WHERE LOWER(p.name) = LOWER(:name)
-    AND (:address IS NULL OR LOWER(p.address) LIKE LOWER(CONCAT('%', :address, '%')))
-    ORDER BY p.createdAt DESC
+    UPDATE Place p
+    SET p.normalizedName = :normalizedName,
+        p.normalizedAddress = :normalizedAddress,
+        p.normalizationVersion = :version
+    WHERE p.id = :id
     """)
-  Optional<Place> findByNormalizedNameAndAddress(
-          @Param("name") String name,
-          @Param("address") String address
+  int updateNormalization(
+          @Param("id") UUID id,
+          @Param("normalizedName") String normalizedName,
+          @Param("normalizedAddress") String normalizedAddress,
+          @Param("version") int version
   );
 }
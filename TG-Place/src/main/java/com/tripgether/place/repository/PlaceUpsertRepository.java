@@ -0,0 +1,27 @@
+package com.tripgether.place.repository;
+
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Place 일괄 Upsert Repository (PlaceRepository 커스텀 fragment)
+ */
+public interface PlaceUpsertRepository {
+
+  /**
+   * 플랫폼 장소 ID 기준 Place 일괄 Upsert
+   * <p>
+   * - (place_platform, place_platform_id) 유니크 인덱스 기준으로 중복 판단
+   * - 신규 장소: Place + PlacePlatformReference 생성
+   * - 기존 장소: Place 정보 갱신
+   * - 단일 SQL 문(INSERT ... ON CONFLICT)으로 처리
+   *
+   * @param placePlatform 플랫폼 (GOOGLE 등)
+   * @param placeDetails  플랫폼 검색 결과 목록 (placeId 필수)
+   * @return 입력 순서와 동일한 Place ID 목록
+   */
+  List<UUID> upsertAllByPlatformPlaceId(PlacePlatform placePlatform, List<GooglePlaceSearchDto.PlaceDetail> placeDetails);
+}
@@ -0,0 +1,234 @@
+package com.tripgether.place.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * PlaceUpsertRepository 구현체
+ * <p>
+ * 입력 목록을 JSON으로 전달하고 jsonb_to_recordset으로 풀어서 하나의 SQL 문으로 처리
+ * - PlacePlatformReference를 먼저 INSERT ... ON CONFLICT DO NOTHING
+ * - 실제로 삽입된 Reference에 대해서만 Place INSERT
+ * - 이미 존재하던 Reference의 Place는 UPDATE
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PlaceUpsertRepositoryImpl implements PlaceUpsertRepository {
+
+  private static final String UPSERT_SQL = """
+      WITH input AS (
+        SELECT *
+        FROM jsonb_to_recordset(CAST(:payload AS jsonb)) AS x(
+          idx int,
+          new_place_id uuid,
+          new_reference_id uuid,
+          place_platform text,
+          place_platform_id text,
+          name text,
+          address text,
+          normalized_name text,
+          normalized_address text,
+          normalization_version int,
+          country text,
+          latitude numeric,
+          longitude numeric,
+          types jsonb,
+          business_status text,
+          icon_url text,
+          rating numeric,
+          user_ratings_total int,
+          photo_references jsonb
+        )
+      ),
+      inserted_reference AS (
+        INSERT INTO place_platform_reference (id, place_id, place_platform, place_platform_id, created_at, updated_at)
+        SELECT i.new_reference_id, i.new_place_id, i.place_platform, i.place_platform_id, now(), now()
+        FROM input i
+        ON CONFLICT (place_platform, place_platform_id) DO NOTHING
+        RETURNING place_id
+      ),
+      inserted_place AS (
+        INSERT INTO place (id, name, address, normalized_name, normalized_address, normalization_version,
+                           country, latitude, longitude,
+                           types, business_status, icon_url, rating, user_ratings_total, photo_references,
+                           is_deleted, created_at, updated_at)
+        SELECT i.new_place_id, i.name, i.address, i.normalized_name, i.normalized_address, i.normalization_version,
+               i.country, i.latitude, i.longitude,
+               CASE WHEN i.types IS NULL THEN NULL
+                    ELSE CAST(ARRAY(SELECT jsonb_array_elements_text(i.types)) AS varchar(50)[]) END,
+               i.business_status, i.icon_url, i.rating, i.user_ratings_total,
+               CASE WHEN i.photo_references IS NULL THEN NULL
+                    ELSE ARRAY(SELECT jsonb_array_elements_text(i.photo_references)) END,
+               false, now(), now()
+        FROM input i
+        JOIN inserted_reference r ON r.place_id = i.new_place_id
+        RETURNING id
+      ),
+      existing AS (
+        SELECT i.idx, ref.place_id
+        FROM input i
+        JOIN place_platform_reference ref
+          ON ref.place_platform = i.place_platform
+         AND ref.place_platform_id = i.place_platform_id
+      ),
+      updated_place AS (
+        UPDATE place p
+        SET name = i.name,
+            address = i.address,
+            normalized_name = i.normalized_name,
+            normalized_address = i.normalized_address,
+            normalization_version = i.normalization_version,
+            country = i.country,
+            latitude = i.latitude,
+            longitude = i.longitude,
+            types = CASE WHEN i.types IS NULL THEN NULL
+                         ELSE CAST(ARRAY(SELECT jsonb_array_elements_text(i.types)) AS varchar(50)[]) END,
+            business_status = i.business_status,
+            icon_url = i.icon_url,
+            rating = i.rating,
+            user_ratings_total = i.user_ratings_total,
+            photo_references = CASE WHEN i.photo_references IS NULL THEN NULL
+                                    ELSE ARRAY(SELECT jsonb_array_elements_text(i.photo_references)) END,
+            updated_at = now()
+        FROM existing e
+        JOIN input i ON i.idx = e.idx
+        WHERE p.id = e.place_id
+        RETURNING p.id
+      )
+      SELECT i.idx, COALESCE(r.place_id, e.place_id) AS place_id
+      FROM input i
+      LEFT JOIN inserted_reference r ON r.place_id = i.new_place_id
+      LEFT JOIN existing e ON e.idx = i.idx
+      ORDER BY i.idx
+      """;
+
+  private static final String FIND_PLACE_IDS_SQL = """
+      SELECT ref.place_platform_id, ref.place_id
+      FROM place_platform_reference ref
+      WHERE ref.place_platform = :placePlatform
+        AND ref.place_platform_id IN (:placePlatformIds)
+      """;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public List<UUID> upsertAllByPlatformPlaceId(PlacePlatform placePlatform,
+      List<GooglePlaceSearchDto.PlaceDetail> placeDetails) {
+    if (placeDetails == null || placeDetails.isEmpty()) {
+      return List.of();
+    }
+
+    // 1. 같은 플랫폼 장소 ID는 한 번만 전달 (같은 문장 안에서 중복 INSERT 방지)
+    Map<String, GooglePlaceSearchDto.PlaceDetail> uniqueDetails = new LinkedHashMap<>();
+    for (GooglePlaceSearchDto.PlaceDetail placeDetail : placeDetails) {
+      if (placeDetail.getPlaceId() == null) {
+        log.error("Platform place id is null: name={}", placeDetail.getName());
+        throw new CustomException(ErrorCode.INVALID_REQUEST);
+      }
+      uniqueDetails.putIfAbsent(placeDetail.getPlaceId(), placeDetail);
+    }
+    List<String> platformPlaceIds = new ArrayList<>(uniqueDetails.keySet());
+
+    // 2. 단일 SQL 문으로 Upsert
+    @SuppressWarnings("unchecked")
+    List<Object[]> rows = entityManager.createNativeQuery(UPSERT_SQL)
+        .setParameter("payload", buildPayload(placePlatform, platformPlaceIds, uniqueDetails))
+        .getResultList();
+
+    Map<String, UUID> placeIdByPlatformId = new HashMap<>();
+    List<String> unresolvedIds = new ArrayList<>();
+    for (Object[] row : rows) {
+      String platformPlaceId = platformPlaceIds.get(((Number) row[0]).intValue());
+      if (row[1] != null) {
+        placeIdByPlatformId.put(platformPlaceId, (UUID) row[1]);
+      } else {
+        unresolvedIds.add(platformPlaceId);
+      }
+    }
+
+    // 3. 동시에 다른 트랜잭션이 같은 장소를 생성한 경우 (ON CONFLICT로 건너뛴 행) 재조회
+    if (!unresolvedIds.isEmpty()) {
+      log.info("Re-querying {} places created concurrently by another transaction", unresolvedIds.size());
+      @SuppressWarnings("unchecked")
+      List<Object[]> existingRows = entityManager.createNativeQuery(FIND_PLACE_IDS_SQL)
+          .setParameter("placePlatform", placePlatform.name())
+          .setParameter("placePlatformIds", unresolvedIds)
+          .getResultList();
+      for (Object[] row : existingRows) {
+        placeIdByPlatformId.put((String) row[0], (UUID) row[1]);
+      }
+    }
+
+    // 4. 입력 순서대로 Place ID 반환
+    List<UUID> placeIds = new ArrayList<>(placeDetails.size());
+    for (GooglePlaceSearchDto.PlaceDetail placeDetail : placeDetails) {
+      UUID placeId = placeIdByPlatformId.get(placeDetail.getPlaceId());
+      if (placeId == null) {
+        log.error("Failed to upsert place: platform={}, placePlatformId={}", placePlatform, placeDetail.getPlaceId());
+        throw new CustomException(ErrorCode.DATABASE_ERROR);
+      }
+      placeIds.add(placeId);
+    }
+
+    log.info("Upserted {} places ({} unique) for platform={}", placeDetails.size(), uniqueDetails.size(), placePlatform);
+    return placeIds;
+  }
+
+  // jsonb_to_recordset 입력 JSON 생성
+  private String buildPayload(PlacePlatform placePlatform, List<String> platformPlaceIds,
+      Map<String, GooglePlaceSearchDto.PlaceDetail> uniqueDetails) {
+    ArrayNode payload = objectMapper.createArrayNode();
+    for (int idx = 0; idx < platformPlaceIds.size(); idx++) {
+      GooglePlaceSearchDto.PlaceDetail placeDetail = uniqueDetails.get(platformPlaceIds.get(idx));
+
+      ObjectNode row = payload.addObject();
+      row.put("idx", idx);
+      row.put("new_place_id", UUID.randomUUID().toString());
+      row.put("new_reference_id", UUID.randomUUID().toString());
+      row.put("place_platform", placePlatform.name());
+      row.put("place_platform_id", placeDetail.getPlaceId());
+      row.put("name", placeDetail.getName());
+      row.put("address", placeDetail.getAddress());
+      row.put("normalized_name", PlaceTextNormalizer.nameKey(placeDetail.getName()));
+      row.put("normalized_address", PlaceTextNormalizer.addressKey(placeDetail.getAddress()));
+      row.put("normalization_version", PlaceTextNormalizer.KEY_VERSION);
+      row.put("country", placeDetail.getCountry());
+      row.put("latitude", placeDetail.getLatitude());
+      row.put("longitude", placeDetail.getLongitude());
+      row.set("types", objectMapper.valueToTree(placeDetail.getTypes()));
+      row.put("business_status", placeDetail.getBusinessStatus());
+      row.put("icon_url", placeDetail.getIconUrl());
+      row.put("rating", placeDetail.getRating());
+      row.put("user_ratings_total", placeDetail.getUserRatingsTotal());
+      row.set("photo_references", objectMapper.valueToTree(placeDetail.getPhotoReferences()));
+    }
+
+    try {
+      return objectMapper.writeValueAsString(payload);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize place upsert payload", e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+  }
+}
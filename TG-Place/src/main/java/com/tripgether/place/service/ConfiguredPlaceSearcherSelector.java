@@ -0,0 +1,65 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.constant.PlacePlatform;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 설정 기반 장소 검색 플랫폼 선택
+ * <p>
+ * place.search.hedge-platforms 순서대로 등록된 검색기 중 해당 언어를 지원하는 검색기만 선택
+ * (예: Kakao는 API Key가 있고 한국어 검색일 때만 선택)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConfiguredPlaceSearcherSelector implements PlaceSearcherSelector {
+
+  private final List<PlacePlatformSearcher> placePlatformSearchers;
+  private final PlaceSearchProperties placeSearchProperties;
+
+  // 설정 순서대로 정렬된 검색기
+  private List<PlacePlatformSearcher> orderedSearchers;
+
+  @PostConstruct
+  public void init() {
+    Map<PlacePlatform, PlacePlatformSearcher> searchersByPlatform = new EnumMap<>(PlacePlatform.class);
+    for (PlacePlatformSearcher searcher : placePlatformSearchers) {
+      searchersByPlatform.put(searcher.getPlatform(), searcher);
+    }
+
+    orderedSearchers = new ArrayList<>();
+    for (String platformName : placeSearchProperties.getHedgePlatforms()) {
+      PlacePlatformSearcher searcher;
+      try {
+        searcher = searchersByPlatform.get(PlacePlatform.valueOf(platformName.trim().toUpperCase(Locale.ROOT)));
+      } catch (IllegalArgumentException e) {
+        log.warn("Unknown place search platform ignored: {}", platformName);
+        continue;
+      }
+
+      if (searcher == null) {
+        log.warn("No searcher registered for place search platform: {}", platformName);
+      } else if (!orderedSearchers.contains(searcher)) {
+        orderedSearchers.add(searcher);
+      }
+    }
+    log.info("Place search platforms: {}", orderedSearchers.stream().map(PlacePlatformSearcher::getPlatform).toList());
+  }
+
+  @Override
+  public List<PlacePlatformSearcher> select(String placeName, String address, String language) {
+    return orderedSearchers.stream()
+        .filter(searcher -> searcher.supports(language))
+        .toList();
+  }
+}
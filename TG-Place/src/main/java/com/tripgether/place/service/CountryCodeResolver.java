@@ -0,0 +1,95 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceCountryProperties;
+import com.tripgether.place.util.CountryBoundaryIndex;
+import com.tripgether.place.util.CountryNameMatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+
+/**
+ * 좌표 기반 국가 코드 판별 (주소 기반 대체)
+ * <p>
+ * - 번들된 국가 경계 데이터(place.country.boundary-resource)로 만든 CountryBoundaryIndex를 조회 (외부 API 호출 없음)
+ * - 경계 데이터에 없는 국가, 바다 좌표, 좌표 누락이면 주소의 국가명으로 판별 (CountryNameMatcher)
+ * - 둘 다 실패하면 UNKNOWN_COUNTRY_CODE(XX)
+ * - 지표: place.country.resolve (result=resolved|address|unknown)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CountryCodeResolver {
+
+  public static final String UNKNOWN_COUNTRY_CODE = "XX";
+
+  private final PlaceCountryProperties placeCountryProperties;
+  private final MeterRegistry meterRegistry;
+
+  private CountryBoundaryIndex countryBoundaryIndex;
+
+  private Counter resolvedCounter;
+  private Counter addressCounter;
+  private Counter unknownCounter;
+
+  @PostConstruct
+  public void init() throws IOException {
+    long startedAt = System.nanoTime();
+    try (InputStream inputStream = new ClassPathResource(placeCountryProperties.getBoundaryResource()).getInputStream()) {
+      countryBoundaryIndex = CountryBoundaryIndex.load(
+          inputStream,
+          placeCountryProperties.getGridCellDegrees(),
+          placeCountryProperties.getCoastalToleranceDegrees());
+    }
+    log.info("Country boundary index loaded: polygons={}, elapsedMs={}",
+        countryBoundaryIndex.getPolygonCount(), (System.nanoTime() - startedAt) / 1_000_000);
+
+    resolvedCounter = registerCounter("resolved");
+    addressCounter = registerCounter("address");
+    unknownCounter = registerCounter("unknown");
+  }
+
+  /**
+   * 장소의 국가 코드 조회
+   * <p>
+   * 좌표로 판별하지 못하면 주소의 국가명으로 판별
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @param address   주소 (Google formatted_address, null 가능)
+   * @return 국가 코드 (ISO 3166-1 alpha-2, 판별 불가 시 XX)
+   */
+  public String resolve(BigDecimal latitude, BigDecimal longitude, String address) {
+    String countryCode = latitude == null || longitude == null
+        ? null
+        : countryBoundaryIndex.find(latitude.doubleValue(), longitude.doubleValue());
+    if (countryCode != null) {
+      resolvedCounter.increment();
+      return countryCode;
+    }
+
+    countryCode = CountryNameMatcher.find(address);
+    if (countryCode != null) {
+      addressCounter.increment();
+      return countryCode;
+    }
+
+    unknownCounter.increment();
+    log.debug("Could not resolve country code: latitude={}, longitude={}, address={}", latitude, longitude, address);
+    return UNKNOWN_COUNTRY_CODE;
+  }
+
+  private Counter registerCounter(String result) {
+    return Counter.builder("place.country.resolve")
+        .description("국가 코드 판별 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,190 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Google Places API 클러스터 공용 호출 한도 제어 (Redis Token Bucket)
+ * <p>
+ * - 모든 인스턴스가 하나의 Redis 버킷을 공유하여 Google QPS 한도(place.search.google-qps) 이하로 호출
+ * - 토큰이 없으면 제한 시간(place.search.rate-limit-max-wait-ms) 안에서 대기, 초과 시 GOOGLE_PLACE_RATE_LIMITED
+ * - 대기와 backoff는 지연 실행(CompletableFuture)으로 처리하여 호출 스레드를 점유하지 않음
+ * - 재시도와 cooldown 저장 등 Redis 호출은 PlaceSearchExecutor에서 실행 (OkHttp 콜백 스레드, commonPool 미사용)
+ * - OVER_QUERY_LIMIT 응답 시 지터를 적용한 지수 backoff + 클러스터 공용 cooldown 설정
+ * - 지표: place.google.ratelimit (result=acquired|throttled|over_query_limit), place.google.ratelimit.wait
+ * <p>
+ * Redis 장애 시에는 호출을 허용 (Google 측 OVER_QUERY_LIMIT backoff로 보호)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GooglePlaceRateLimiter {
+
+  private static final String BUCKET_KEY = "place:google:ratelimit";
+  private static final String COOLDOWN_KEY = "place:google:ratelimit:cooldown";
+
+  /**
+   * 토큰 1개 요청
+   * <p>
+   * KEYS[1]: 버킷 (tokens, ts), KEYS[2]: cooldown
+   * ARGV[1]: 초당 충전 토큰 수, ARGV[2]: 버킷 최대 크기
+   * 반환: 0이면 토큰 획득, 양수면 다시 시도하기까지 대기할 시간 (밀리초)
+   */
+  private static final DefaultRedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+      local cooldown = redis.call('PTTL', KEYS[2])
+      if cooldown > 0 then
+        return cooldown
+      end
+      local rate = tonumber(ARGV[1])
+      local capacity = tonumber(ARGV[2])
+      local time = redis.call('TIME')
+      local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+      local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+      local tokens = tonumber(state[1])
+      local ts = tonumber(state[2])
+      if tokens == nil or ts == nil then
+        tokens = capacity
+        ts = now
+      end
+      tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+      local wait = 0
+      if tokens >= 1 then
+        tokens = tokens - 1
+      else
+        wait = math.ceil((1 - tokens) * 1000 / rate)
+      end
+      redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+      redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+      return wait
+      """, Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final PlaceSearchExecutor placeSearchExecutor;
+  private final MeterRegistry meterRegistry;
+
+  private Counter acquiredCounter;
+  private Counter throttledCounter;
+  private Counter overQueryLimitCounter;
+  private Timer waitTimer;
+
+  @PostConstruct
+  public void init() {
+    acquiredCounter = registerCounter("acquired");
+    throttledCounter = registerCounter("throttled");
+    overQueryLimitCounter = registerCounter("over_query_limit");
+    waitTimer = Timer.builder("place.google.ratelimit.wait")
+        .description("Google Places API 호출 토큰 대기 시간")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Google Places API 호출 토큰 획득 (비동기)
+   * <p>
+   * 토큰이 없으면 스레드를 점유하지 않고 지연 실행으로 다시 시도하며, 제한 시간을 넘기면 실패
+   *
+   * @return 토큰 획득 시 완료되는 Future (제한 시간 초과 시 GOOGLE_PLACE_RATE_LIMITED로 실패)
+   */
+  public CompletableFuture<Void> acquireAsync() {
+    long startNanos = System.nanoTime();
+    long deadline = startNanos + TimeUnit.MILLISECONDS.toNanos(placeSearchProperties.getRateLimitMaxWaitMs());
+
+    CompletableFuture<Void> acquired = new CompletableFuture<>();
+    tryAcquire(acquired, startNanos, deadline);
+    return acquired;
+  }
+
+  /**
+   * OVER_QUERY_LIMIT 응답 후 backoff (비동기)
+   * <p>
+   * 지수 증가 대기 시간에 지터를 적용하고, 같은 시간 동안 모든 인스턴스의 호출을 멈추도록 cooldown 설정
+   *
+   * @param attempt 재시도 횟수 (0부터 시작)
+   * @return backoff 시간이 지나면 완료되는 Future
+   */
+  public CompletableFuture<Void> backOffAsync(int attempt) {
+    overQueryLimitCounter.increment();
+
+    long baseMs = placeSearchProperties.getOverQueryLimitBaseBackoffMs();
+    long maxBackoffMs = Math.min(placeSearchProperties.getOverQueryLimitMaxBackoffMs(),
+        baseMs * (1L << Math.min(attempt, 20)));
+    long backoffMs = maxBackoffMs / 2 + ThreadLocalRandom.current().nextLong(0, maxBackoffMs / 2 + 1);
+
+    log.warn("Google Places API OVER_QUERY_LIMIT, backing off: attempt={}, backoffMs={}", attempt + 1, backoffMs);
+    return CompletableFuture.runAsync(() -> shareCooldown(backoffMs), placeSearchExecutor.executor())
+        .thenRunAsync(() -> {
+        }, placeSearchExecutor.delayed(backoffMs, TimeUnit.MILLISECONDS));
+  }
+
+  // 모든 인스턴스가 backoff 시간 동안 호출을 멈추도록 cooldown 저장
+  private void shareCooldown(long backoffMs) {
+    try {
+      stringRedisTemplate.opsForValue().set(COOLDOWN_KEY, "1", Duration.ofMillis(Math.max(1, backoffMs)));
+    } catch (Exception e) {
+      log.warn("Google Places API cooldown not shared: {}", e.getMessage());
+    }
+  }
+
+  // 토큰 요청 후 없으면 대기 시간만큼 지연 실행으로 재시도 (호출자가 취소하면 중단)
+  private void tryAcquire(CompletableFuture<Void> acquired, long startNanos, long deadline) {
+    if (acquired.isDone()) {
+      return;
+    }
+
+    Long waitMs = requestToken();
+    if (waitMs == null || waitMs <= 0) {
+      acquiredCounter.increment();
+      waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      acquired.complete(null);
+      return;
+    }
+
+    // 대기 후에도 제한 시간을 넘기면 즉시 거절
+    long sleepMs = waitMs + ThreadLocalRandom.current().nextLong(0, Math.max(1, waitMs / 2) + 1);
+    if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sleepMs) > deadline) {
+      throttledCounter.increment();
+      waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      log.warn("Google Places API rate limited: waitMs={}", waitMs);
+      acquired.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_RATE_LIMITED));
+      return;
+    }
+
+    placeSearchExecutor.delayed(sleepMs, TimeUnit.MILLISECONDS)
+        .execute(() -> tryAcquire(acquired, startNanos, deadline));
+  }
+
+  // Redis 버킷에서 토큰 요청 (Redis 장애 시 허용)
+  private Long requestToken() {
+    try {
+      return stringRedisTemplate.execute(ACQUIRE_SCRIPT, List.of(BUCKET_KEY, COOLDOWN_KEY),
+          String.valueOf(placeSearchProperties.getGoogleQps()),
+          String.valueOf(placeSearchProperties.getGoogleBurst()));
+    } catch (Exception e) {
+      log.warn("Google Places API rate limiter unavailable, allowing call: {}", e.getMessage());
+      return 0L;
+    }
+  }
+
+  private Counter registerCounter(String result) {
+    return Counter.builder("place.google.ratelimit")
+        .description("Google Places API 호출 한도 제어 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -4,28 +4,57 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tripgether.common.exception.CustomException;
 import com.tripgether.common.exception.constant.ErrorCode;
 import com.tripgether.common.properties.PlaceProperties;
+import com.tripgether.common.properties.PlaceSearchProperties;
 import com.tripgether.place.constant.PlacePlatform;
 import com.tripgether.place.dto.GooglePlaceSearchDto;
 import com.tripgether.place.entity.Place;
 import com.tripgether.place.entity.PlacePlatformReference;
 import com.tripgether.place.repository.PlacePlatformReferenceRepository;
 import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.place.util.GooglePlaceResponseParser;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Google Places API를 통한 장소 검색 서비스
+ * <p>
+ * Google Places API 호출은 Circuit Breaker(googlePlaces)로 보호
+ * - 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN되어 즉시 GOOGLE_PLACE_CIRCUIT_OPEN 발생
+ * - OPEN 동안에는 Google place_id가 없는 DB Place라도 대체 결과로 반환
+ * - 상태/호출 지표: resilience4j.circuitbreaker.* (name=googlePlaces)
+ * <p>
+ * ZERO_RESULTS 응답은 PlaceNegativeCache에 저장하여 같은 장소명의 재호출을 생략
  */
 @Service
 @RequiredArgsConstructor
@@ -35,18 +64,74 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
   private final OkHttpClient okHttpClient;
   private final ObjectMapper objectMapper;
   private final PlaceProperties placeProperties;
+  private final PlaceSearchProperties placeSearchProperties;
   private final PlaceRepository placeRepository;
   private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
-
-  private static final String GOOGLE_PLACES_BASE_URL = "https://maps.googleapis.com/maps/api/place/findplacefromtext/json";
+  private final GooglePlaceRateLimiter googlePlaceRateLimiter;
+  private final PlaceNegativeCache placeNegativeCache;
+  private final CountryCodeResolver countryCodeResolver;
+  private final MeterRegistry meterRegistry;
+
+  // Google Places API 전용 HTTP Client (공용 Client에 호출 전체 제한 시간 적용)
+  private OkHttpClient googleHttpClient;
+  private CircuitBreaker circuitBreaker;
+
+  // DB 조회 결과 (legacy: 공백 정규화만으로도 일치, normalized: 정규화 키로만 일치)
+  private Counter dbLegacyHitCounter;
+  private Counter dbNormalizedHitCounter;
+  private Counter dbMissCounter;
+
+  private static final String CIRCUIT_BREAKER_NAME = "googlePlaces";
+  private static final int MAX_PHOTO_COUNT = 10;
   private static final String SEARCH_FIELDS = "place_id,name,formatted_address,geometry,types,business_status,icon,photos,rating,user_ratings_total";
 
+  @PostConstruct
+  public void init() {
+    // 비동기 호출(enqueue) 동시 실행 수 - OkHttp 기본값(호스트당 5개) 대신 설정값 적용
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(placeSearchProperties.getGoogleMaxConcurrentRequests());
+    dispatcher.setMaxRequestsPerHost(placeSearchProperties.getGoogleMaxConcurrentRequests());
+
+    googleHttpClient = okHttpClient.newBuilder()
+        .callTimeout(Duration.ofMillis(placeSearchProperties.getGoogleCallTimeoutMs()))
+        .dispatcher(dispatcher)
+        .build();
+
+    CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.custom()
+        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+        .slidingWindowSize(placeSearchProperties.getCircuitBreakerSlidingWindowSize())
+        .minimumNumberOfCalls(placeSearchProperties.getCircuitBreakerMinimumCalls())
+        .failureRateThreshold(placeSearchProperties.getCircuitBreakerFailureRateThreshold())
+        .slowCallRateThreshold(placeSearchProperties.getCircuitBreakerSlowCallRateThreshold())
+        .slowCallDurationThreshold(Duration.ofMillis(placeSearchProperties.getCircuitBreakerSlowCallDurationMs()))
+        .waitDurationInOpenState(Duration.ofSeconds(placeSearchProperties.getCircuitBreakerOpenSeconds()))
+        .permittedNumberOfCallsInHalfOpenState(3)
+        .automaticTransitionFromOpenToHalfOpenEnabled(true)
+        .recordException(this::isGoogleFailure)
+        .build();
+
+    CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(circuitBreakerConfig);
+    circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+    circuitBreaker.getEventPublisher().onStateTransition(event ->
+        log.warn("Google Places API circuit breaker state changed: {}", event.getStateTransition()));
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+
+    dbLegacyHitCounter = registerDbLookupCounter("hit", "legacy");
+    dbNormalizedHitCounter = registerDbLookupCounter("hit", "normalized");
+    dbMissCounter = registerDbLookupCounter("miss", "none");
+    registerDbLookupHitRatio("normalized", () -> dbLegacyHitCounter.count() + dbNormalizedHitCounter.count());
+    registerDbLookupHitRatio("legacy", () -> dbLegacyHitCounter.count());
+  }
+
+  @Override
+  public PlacePlatform getPlatform() {
+    return PlacePlatform.GOOGLE;
+  }
+
   /**
    * 상호명으로 Google Place 검색
    * <p>
-   * 1차: DB에서 캐싱된 Place 검색 (name + address 기반)
-   * 2차: DB에 없으면 Google API 호출
-   * 3차: Google API 결과를 DB에 저장하여 캐싱
+   * searchPlaceDetailAsync 결과를 기다려 반환
    *
    * @param placeName 장소명
    * @param address   주소 (fallback용, 현재 미사용)
@@ -56,166 +141,450 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
    */
   @Override
   public GooglePlaceSearchDto.PlaceDetail searchPlaceDetail(String placeName, String address, String language) {
-    log.info("Place Search Start: name={}, address={}, language={}", placeName, address, language);
+    try {
+      return searchPlaceDetailAsync(placeName, address, language).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException
+          ? runtimeException
+          : new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+    }
+  }
 
-    // 1️⃣ DB에서 먼저 검색 (정규화된 키워드로 캐싱 조회)
-    String normalizedName = (placeName != null) ? placeName.trim() : null;
-    String normalizedAddress = (address != null && !address.isEmpty()) ? address.trim() : null;
+  /**
+   * 상호명으로 Google Place 비동기 검색
+   * <p>
+   * 1차: DB에서 캐싱된 Place 검색 (name + address 기반, 호출 스레드에서 조회)
+   * 2차: DB에 없으면 Google API 호출 (OkHttp enqueue - 응답 대기 중 스레드 점유 없음)
+   * 3차: Google API 결과를 DB에 저장하여 캐싱
+   * <p>
+   * Circuit Breaker OPEN 시 Google place_id가 없는 DB Place도 대체 결과로 반환 (cachedPlaceId 설정)
+   *
+   * @param placeName 장소명
+   * @param address   주소 (fallback용, 현재 미사용)
+   * @param language  언어 코드 (ko, en, ja, zh)
+   * @return Google Place 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  @Override
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchPlaceDetailAsync(String placeName, String address,
+      String language) {
+    log.info("Place Search Start: name={}, address={}, language={}", placeName, address, language);
 
-    if (normalizedName != null && !normalizedName.isEmpty()) {
-      Optional<Place> cachedPlace = placeRepository.findByNormalizedNameAndAddress(
-          normalizedName, normalizedAddress);
+    // 1️⃣ DB에서 먼저 검색 (정규화 키로 캐싱 조회)
+    String normalizedName = PlaceTextNormalizer.nameKey(placeName);
+    String normalizedAddress = PlaceTextNormalizer.addressKey(address);
+
+    if (normalizedName != null) {
+      Place existing;
+      PlacePlatformReference reference;
+      try {
+        existing = placeRepository.findByNormalizedNameAndAddress(normalizedName, normalizedAddress,
+            PlaceTextNormalizer.addressRegion(address), PlaceTextNormalizer.addressNumber(address)).orElse(null);
+        reference = existing != null ? findPlatformReference(existing) : null;
+      } catch (RuntimeException e) {
+        return CompletableFuture.failedFuture(e);
+      }
+      recordDbLookup(existing, placeName, address);
 
-      if (cachedPlace.isPresent()) {
-        Place existing = cachedPlace.get();
+      if (existing != null) {
         log.info("Place found in DB (cache hit): placeId={}, name={}", existing.getId(), existing.getName());
 
-        // 좌표 변경 검증 (Google API 재호출 필요 여부)
-        if (shouldUpdateCoordinates(existing)) {
-          log.info("Coordinates may have changed, refreshing from Google API");
-          return searchGooglePlaceApi(placeName, address, language);
-        }
-
-        // PlaceId 검증 및 재호출 처리
-        String googlePlaceId = getGooglePlaceId(existing);
-        if (googlePlaceId == null) {
+        // 오래된 Place는 PlaceRefreshWorker가 백그라운드에서 갱신하므로 여기서는 항상 DB 값 사용
+        // PlaceId 검증 및 재호출 처리 (어떤 플랫폼이든 참조가 있으면 DB 캐시 히트)
+        if (reference == null) {
           log.warn("PlacePlatformReference not found for Place: {}, refreshing from Google API", existing.getId());
-          return searchGooglePlaceApi(placeName, address, language);
+          CompletableFuture<GooglePlaceSearchDto.PlaceDetail> refresh =
+              searchGooglePlaceApiWithNegativeCache(placeName, address, language);
+          return propagateCancel(refresh.exceptionallyCompose(error -> {
+            Throwable cause = unwrap(error);
+            if (!(cause instanceof CustomException customException)
+                || customException.getErrorCode() != ErrorCode.GOOGLE_PLACE_CIRCUIT_OPEN) {
+              return CompletableFuture.failedFuture(cause);
+            }
+            // Google API 장애 - 기존 DB Place로 대체
+            log.warn("Google Places API circuit open, serving DB place without platform reference: placeId={}",
+                existing.getId());
+            return CompletableFuture.completedFuture(convertPlaceToPlaceDetail(existing, null));
+          }), refresh);
         }
 
         // DB 캐시 히트 - PlaceDetail 변환하여 반환
-        return convertPlaceToPlaceDetail(existing, googlePlaceId);
+        // Kakao로 먼저 저장된 장소는 Kakao 참조로 반환하여 Upsert 시 같은 Place로 연결 (Google 재호출/중복 Place 생성 방지)
+        return CompletableFuture.completedFuture(convertPlaceToPlaceDetail(existing, reference));
       }
 
       log.info("Place not found in DB (cache miss), calling Google Places API");
     }
 
     // 2️⃣ DB에 없으면 Google API 호출
-    return searchGooglePlaceApi(placeName, address, language);
+    return searchGooglePlaceApiWithNegativeCache(placeName, address, language);
   }
 
   /**
-   * Google Places API 호출
+   * 검색 결과 없음(ZERO_RESULTS) 캐시를 확인한 뒤 Google Places API 호출
    * <p>
-   * DB 캐시에 없을 때만 호출됨
+   * - 최근 ZERO_RESULTS였던 장소명(+언어)은 호출 없이 GOOGLE_PLACE_NOT_FOUND
+   * - 이번 호출이 ZERO_RESULTS면 캐시에 저장
    *
    * @param placeName 장소명
    * @param address   주소
    * @param language  언어 코드
-   * @return Google Place 상세 정보
-   * @throws CustomException API 호출 실패 시
+   * @return Google Place 상세 정보 Future
+   */
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchGooglePlaceApiWithNegativeCache(String placeName,
+      String address, String language) {
+    if (placeNegativeCache.isNotFound(placeName, language)) {
+      log.info("Place skipped by negative cache (recent ZERO_RESULTS): name={}, language={}", placeName, language);
+      return CompletableFuture.failedFuture(new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND));
+    }
+
+    log.info("Calling Google Places API: name={}, address={}, language={}", placeName, address, language);
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result =
+        callGooglePlaceApiAsync(placeName, googleApiKey -> buildSearchUrl(placeName, language, googleApiKey));
+    // 파생 Future가 아닌 원본을 반환해야 호출자의 취소가 HTTP 호출까지 전달됨
+    result.whenComplete((placeDetail, error) -> {
+      if (error != null && unwrap(error) instanceof CustomException customException
+          && customException.getErrorCode() == ErrorCode.GOOGLE_PLACE_NOT_FOUND) {
+        placeNegativeCache.markNotFound(placeName, language);
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Google place_id로 장소 정보 재조회 (Place Details API)
+   * <p>
+   * PlaceRefreshWorker가 오래된 Place를 갱신할 때 사용
+   * - 검색과 같은 Circuit Breaker, 호출 한도(Token Bucket), OVER_QUERY_LIMIT 재시도 적용
+   * - place_id가 더 이상 유효하지 않으면 GOOGLE_PLACE_NOT_FOUND
+   *
+   * @param googlePlaceId Google place_id
+   * @return Google Place 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> refreshPlaceDetailAsync(String googlePlaceId) {
+    log.info("Calling Google Place Details API: placeId={}", googlePlaceId);
+    return callGooglePlaceApiAsync(googlePlaceId, googleApiKey -> buildDetailsUrl(googlePlaceId, googleApiKey));
+  }
+
+  /**
+   * Google Places API 비동기 호출 (호출 한도 제어 + OVER_QUERY_LIMIT 재시도)
+   * <p>
+   * DB 캐시에 없을 때 또는 백그라운드 갱신 시에만 호출됨
+   * - 호출 전 클러스터 공용 Token Bucket에서 토큰 획득 (제한 시간 초과 시 GOOGLE_PLACE_RATE_LIMITED)
+   * - OVER_QUERY_LIMIT 응답 시 지터를 적용한 지수 backoff 후 재시도
+   * - Circuit Breaker OPEN 시 토큰 소모 없이 즉시 GOOGLE_PLACE_CIRCUIT_OPEN 발생
+   * - 토큰 대기와 backoff는 지연 실행으로 처리되어 스레드를 점유하지 않음
+   * - 반환된 Future가 취소되면 진행 중인 단계(토큰 대기, HTTP 호출, backoff)도 취소
+   *
+   * @param placeName  장소명 (place_id 재조회 시 place_id, 로그용)
+   * @param urlBuilder API Key로 요청 URL 생성
+   * @return Google Place 상세 정보 Future
+   */
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> callGooglePlaceApiAsync(String placeName,
+      Function<String, String> urlBuilder) {
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result = new CompletableFuture<>();
+    AtomicReference<CompletableFuture<?>> inFlight = new AtomicReference<>();
+    result.whenComplete((placeDetail, error) -> {
+      CompletableFuture<?> stage = inFlight.get();
+      if (result.isCancelled() && stage != null) {
+        stage.cancel(true);
+      }
+    });
+
+    callGooglePlaceApiAsync(placeName, urlBuilder, 0, result, inFlight);
+    return result;
+  }
+
+  /**
+   * Google Places API 1회 시도 (OVER_QUERY_LIMIT이면 backoff 후 다음 시도)
+   *
+   * @param attempt  재시도 횟수 (0부터 시작)
+   * @param result   최종 결과 Future
+   * @param inFlight 진행 중인 단계 Future (결과 Future 취소 시 함께 취소)
+   */
+  private void callGooglePlaceApiAsync(String placeName, Function<String, String> urlBuilder, int attempt,
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result, AtomicReference<CompletableFuture<?>> inFlight) {
+    if (!circuitBreaker.tryAcquirePermission()) {
+      log.warn("Google Places API circuit open, call not permitted: placeName={}", placeName);
+      result.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_CIRCUIT_OPEN));
+      return;
+    }
+
+    track(googlePlaceRateLimiter.acquireAsync(), result, inFlight).whenComplete((acquired, acquireError) -> {
+      if (acquireError != null) {
+        circuitBreaker.releasePermission();
+        result.completeExceptionally(unwrap(acquireError));
+        return;
+      }
+
+      long startNanos = System.nanoTime();
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> request =
+          track(requestGooglePlaceApiAsync(placeName, urlBuilder), result, inFlight);
+      request.whenComplete((placeDetail, error) -> {
+        long durationNanos = System.nanoTime() - startNanos;
+        if (error == null) {
+          circuitBreaker.onSuccess(durationNanos, TimeUnit.NANOSECONDS);
+          result.complete(placeDetail);
+          return;
+        }
+
+        // 호출자가 취소한 요청은 Google 장애가 아니므로 Circuit Breaker 실패로 기록하지 않음
+        if (request.isCancelled()) {
+          circuitBreaker.releasePermission();
+          return;
+        }
+
+        Throwable cause = unwrap(error);
+        circuitBreaker.onError(durationNanos, TimeUnit.NANOSECONDS, cause);
+        if (!(cause instanceof CustomException customException)
+            || customException.getErrorCode() != ErrorCode.GOOGLE_PLACE_RATE_LIMITED
+            || attempt >= placeSearchProperties.getOverQueryLimitMaxRetries()) {
+          result.completeExceptionally(cause);
+          return;
+        }
+
+        track(googlePlaceRateLimiter.backOffAsync(attempt), result, inFlight).whenComplete((ignored, backoffError) -> {
+          if (backoffError != null) {
+            result.completeExceptionally(unwrap(backoffError));
+            return;
+          }
+          callGooglePlaceApiAsync(placeName, urlBuilder, attempt + 1, result, inFlight);
+        });
+      });
+    });
+  }
+
+  // 진행 중인 단계로 기록 (결과 Future가 이미 취소되었으면 즉시 취소)
+  private static <T> CompletableFuture<T> track(CompletableFuture<T> stage, CompletableFuture<?> result,
+      AtomicReference<CompletableFuture<?>> inFlight) {
+    inFlight.set(stage);
+    if (result.isCancelled()) {
+      stage.cancel(true);
+    }
+    return stage;
+  }
+
+  // 파생 Future가 취소되면 원본 Future도 취소 (CompletableFuture는 취소를 상위 단계로 전달하지 않음)
+  private static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> derived, CompletableFuture<?> source) {
+    derived.whenComplete((value, error) -> {
+      if (derived.isCancelled()) {
+        source.cancel(true);
+      }
+    });
+    return derived;
+  }
+
+  /**
+   * Google Places API 1회 비동기 호출 (OkHttp enqueue)
+   * <p>
+   * 반환된 Future가 취소되면 진행 중인 HTTP 호출도 취소
+   *
+   * @param placeName  장소명 (place_id 재조회 시 place_id, 로그용)
+   * @param urlBuilder API Key로 요청 URL 생성
+   * @return Google Place 상세 정보 Future (OVER_QUERY_LIMIT/HTTP 429는 GOOGLE_PLACE_RATE_LIMITED로 실패)
    */
-  private GooglePlaceSearchDto.PlaceDetail searchGooglePlaceApi(String placeName, String address, String language) {
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> requestGooglePlaceApiAsync(String placeName,
+      Function<String, String> urlBuilder) {
     String googleApiKey = placeProperties.getGoogleApiKey();
 
     if (googleApiKey == null || googleApiKey.isEmpty()) {
       log.error("Google Places API key not configured: placeName={}", placeName);
-      throw new CustomException(ErrorCode.INVALID_API_KEY);
+      return CompletableFuture.failedFuture(new CustomException(ErrorCode.INVALID_API_KEY));
     }
 
-    try {
-      log.info("Calling Google Places API");
-      log.info("Place Name: {}", placeName);
-      log.info("Address: {}", address);
-      log.info("Language: {}", language);
-
-      // URL 생성
-      String url = buildSearchUrl(placeName, language, googleApiKey);
-
-      log.info("Request URL: {}", url);
-
-      // OkHttp로 API 호출
-      Request request = new Request.Builder()
-          .url(url)
-          .addHeader("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-          .addHeader("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-          .addHeader("Accept", "application/json")
-          .get()
-          .build();
+    // URL 생성
+    String url = urlBuilder.apply(googleApiKey);
 
-      GooglePlaceSearchDto response;
-      try (Response httpResponse = okHttpClient.newCall(request).execute()) {
-        if (!httpResponse.isSuccessful()) {
-          log.error("Google Places API HTTP error: code={}", httpResponse.code());
-          throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
-        }
+    log.info("Request URL: {}", url);
 
-        if (httpResponse.body() == null) {
-          log.error("Google Places API response body is null");
-          throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
-        }
+    // OkHttp로 API 호출
+    Request request = new Request.Builder()
+        .url(url)
+        .addHeader("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
+        .addHeader("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
+        .addHeader("Accept", "application/json")
+        .get()
+        .build();
 
-        String responseBody = httpResponse.body().string();
-        response = objectMapper.readValue(responseBody, GooglePlaceSearchDto.class);
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result = new CompletableFuture<>();
+    Call call = googleHttpClient.newCall(request);
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call failedCall, IOException e) {
+        log.error("Unexpected error during Google Places API call: placeName={}", placeName, e);
+        result.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
       }
 
-      // 결과 파싱
-      String status = response.getStatus();
-      log.info("API Response Status: {}", status);
-      log.info("Candidates Count: {}",
-          response.getCandidates() != null ? response.getCandidates().size() : 0);
-
-      if ("OK".equals(status)
-          && response.getCandidates() != null
-          && !response.getCandidates().isEmpty()) {
-
-        GooglePlaceSearchDto.Candidate candidate = response.getCandidates().get(0);
-
-        log.info("Selected Candidate:");
-        log.info("  Place ID: {}", candidate.getPlaceId());
-        log.info("  Name: {}", candidate.getName());
-        log.info("  Address: {}", candidate.getFormattedAddress());
-
-        GooglePlaceSearchDto.PlaceDetail placeDetail = GooglePlaceSearchDto.PlaceDetail.builder()
-            .placeId(candidate.getPlaceId())
-            .name(candidate.getName())
-            .address(candidate.getFormattedAddress())
-            .latitude(candidate.getGeometry().getLocation().getLat())
-            .longitude(candidate.getGeometry().getLocation().getLng())
-            .country(extractCountryCode(candidate.getFormattedAddress()))
-            .types(candidate.getTypes())
-            .businessStatus(candidate.getBusinessStatus())
-            .iconUrl(candidate.getIcon())
-            .rating(candidate.getRating())
-            .userRatingsTotal(candidate.getUserRatingsTotal())
-            .photoUrls(buildPhotoUrls(candidate.getPhotos(), googleApiKey))
-            .build();
-
-        log.info("Google Places API Search Success");
-        log.info("Final Result: placeId={}, name={}, rating={}",
-            placeDetail.getPlaceId(), placeDetail.getName(), placeDetail.getRating());
-        return placeDetail;
-
-      } else {
-        // Google Places API 상태 코드별 에러 처리
-        log.error("Google Places API Search Failed");
-        log.error("Place Name: {}", placeName);
-        log.error("Status: {}", status);
-
-        if ("REQUEST_DENIED".equals(status)) {
-          throw new CustomException(ErrorCode.INVALID_API_KEY);
-        } else if ("INVALID_REQUEST".equals(status)) {
-          throw new CustomException(ErrorCode.INVALID_REQUEST);
-        } else if ("OVER_QUERY_LIMIT".equals(status)) {
-          throw new CustomException(ErrorCode.EXTERNAL_API_ERROR);
-        } else if ("ZERO_RESULTS".equals(status)) {
-          throw new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND);
-        } else {
-          throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+      @Override
+      public void onResponse(Call respondedCall, Response httpResponse) {
+        try (httpResponse) {
+          result.complete(parseSearchResponse(placeName, httpResponse));
+        } catch (CustomException e) {
+          log.error("Google Places API error: placeName={}, error={}", placeName, e.getMessage());
+          result.completeExceptionally(e);
+        } catch (Exception e) {
+          // 예상치 못한 예외
+          log.error("Unexpected error during Google Places API call: placeName={}", placeName, e);
+          result.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
         }
       }
+    });
+
+    // 호출자가 기다리지 않으면 (데드라인 초과 등) HTTP 호출 취소
+    result.whenComplete((placeDetail, error) -> {
+      if (result.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Google Places API 응답 파싱
+   *
+   * @param placeName    장소명
+   * @param httpResponse HTTP 응답
+   * @return Google Place 상세 정보
+   * @throws CustomException 응답 오류 또는 검색 실패 상태 코드일 때
+   * @throws IOException     응답 본문 읽기 실패 시
+   */
+  private GooglePlaceSearchDto.PlaceDetail parseSearchResponse(String placeName, Response httpResponse)
+      throws IOException {
+    if (httpResponse.code() == 429) {
+      log.warn("Google Places API HTTP 429 Too Many Requests");
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_RATE_LIMITED);
+    }
+
+    if (!httpResponse.isSuccessful()) {
+      log.error("Google Places API HTTP error: code={}", httpResponse.code());
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+    }
+
+    if (httpResponse.body() == null) {
+      log.error("Google Places API response body is null");
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+    }
+
+    // 응답 본문을 문자열로 버퍼링하지 않고 Streaming 파싱 (첫 번째 후보, 최대 사진 수만 읽음)
+    GooglePlaceSearchDto response;
+    try (InputStream responseStream = httpResponse.body().byteStream()) {
+      response = GooglePlaceResponseParser.parse(objectMapper.getFactory(), responseStream, MAX_PHOTO_COUNT);
+    }
+
+    // 결과 파싱
+    String status = response.getStatus();
+    log.info("API Response Status: {}", status);
+    log.info("Candidates Count: {}",
+        response.getCandidates() != null ? response.getCandidates().size() : 0);
+
+    if ("OK".equals(status)
+        && response.getCandidates() != null
+        && !response.getCandidates().isEmpty()) {
+
+      GooglePlaceSearchDto.Candidate candidate = response.getCandidates().get(0);
+
+      log.info("Selected Candidate:");
+      log.info("  Place ID: {}", candidate.getPlaceId());
+      log.info("  Name: {}", candidate.getName());
+      log.info("  Address: {}", candidate.getFormattedAddress());
+
+      GooglePlaceSearchDto.PlaceDetail placeDetail = GooglePlaceSearchDto.PlaceDetail.builder()
+          .platform(PlacePlatform.GOOGLE)
+          .placeId(candidate.getPlaceId())
+          .name(candidate.getName())
+          .address(candidate.getFormattedAddress())
+          .latitude(candidate.getGeometry().getLocation().getLat())
+          .longitude(candidate.getGeometry().getLocation().getLng())
+          .country(countryCodeResolver.resolve(
+              candidate.getGeometry().getLocation().getLat(),
+              candidate.getGeometry().getLocation().getLng(),
+              candidate.getFormattedAddress()))
+          .types(candidate.getTypes())
+          .businessStatus(candidate.getBusinessStatus())
+          .iconUrl(candidate.getIcon())
+          .rating(candidate.getRating())
+          .userRatingsTotal(candidate.getUserRatingsTotal())
+          .photoReferences(extractPhotoReferences(candidate.getPhotos()))
+          .build();
+
+      log.info("Google Places API Search Success");
+      log.info("Final Result: placeId={}, name={}, rating={}",
+          placeDetail.getPlaceId(), placeDetail.getName(), placeDetail.getRating());
+      return placeDetail;
+    }
 
-    } catch (CustomException e) {
-      // NetworkUtil에서 발생한 CustomException은 그대로 전파
-      log.error("Google Places API error: placeName={}, error={}", placeName, e.getMessage());
-      throw e;
-    } catch (Exception e) {
-      // 예상치 못한 예외
-      log.error("Unexpected error during Google Places API call: placeName={}", placeName, e);
+    // Google Places API 상태 코드별 에러 처리
+    log.error("Google Places API Search Failed");
+    log.error("Place Name: {}", placeName);
+    log.error("Status: {}", status);
+
+    if ("REQUEST_DENIED".equals(status)) {
+      throw new CustomException(ErrorCode.INVALID_API_KEY);
+    } else if ("INVALID_REQUEST".equals(status)) {
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    } else if ("OVER_QUERY_LIMIT".equals(status)) {
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_RATE_LIMITED);
+    } else if ("ZERO_RESULTS".equals(status) || "NOT_FOUND".equals(status)) {
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND);
+    } else {
       throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
     }
   }
 
+  /**
+   * DB 조회 결과 지표 기록
+   * <p>
+   * 정규화 키 도입 전 규칙(공백 정규화 후 이름 일치 + 주소 부분 일치)으로도 찾았을 조회인지 구분하여
+   * place.lookup.db.hit.ratio의 key=legacy(이전 규칙)와 key=normalized(현재 규칙) 적중률을 비교
+   */
+  private void recordDbLookup(Place existing, String placeName, String address) {
+    if (existing == null) {
+      dbMissCounter.increment();
+      return;
+    }
+
+    String legacyName = PlaceTextNormalizer.normalize(placeName);
+    String legacyAddress = PlaceTextNormalizer.normalize(address);
+    String existingAddress = PlaceTextNormalizer.normalize(existing.getAddress());
+    boolean legacyMatch = legacyName != null
+        && legacyName.equals(PlaceTextNormalizer.normalize(existing.getName()))
+        && (legacyAddress == null || (existingAddress != null && existingAddress.contains(legacyAddress)));
+    (legacyMatch ? dbLegacyHitCounter : dbNormalizedHitCounter).increment();
+  }
+
+  private Counter registerDbLookupCounter(String result, String match) {
+    return Counter.builder("place.lookup.db.requests")
+        .description("장소 DB 캐시 조회 수")
+        .tag("result", result)
+        .tag("match", match)
+        .register(meterRegistry);
+  }
+
+  private void registerDbLookupHitRatio(String key, Supplier<Double> hitCount) {
+    Gauge.builder("place.lookup.db.hit.ratio", () -> {
+          double total = dbLegacyHitCounter.count() + dbNormalizedHitCounter.count() + dbMissCounter.count();
+          return total == 0 ? 0.0 : hitCount.get() / total;
+        })
+        .description("장소 DB 캐시 적중률 (legacy: 정규화 키 도입 전 규칙 기준)")
+        .tag("key", key)
+        .register(meterRegistry);
+  }
+
+  // CompletableFuture 조합 과정에서 감싸진 예외 해제
+  private Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  /**
+   * Circuit Breaker 실패로 기록할 예외인지 확인
+   * <p>
+   * Google 측 장애(응답 오류, 네트워크 오류)만 실패로 기록하고
+   * 장소 없음/잘못된 요청/호출 한도 초과는 정상 응답으로 취급
+   */
+  private boolean isGoogleFailure(Throwable throwable) {
+    return !(throwable instanceof CustomException customException)
+        || customException.getErrorCode() == ErrorCode.GOOGLE_PLACE_API_ERROR;
+  }
+
   /**
    * Google Places API 검색 URL 생성
    */
@@ -225,7 +594,7 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
     String encodedPlaceName = URLEncoder.encode(placeName, StandardCharsets.UTF_8);
 
     String url = String.format("%s?input=%s&inputtype=textquery&fields=%s&language=%s&key=%s",
-        GOOGLE_PLACES_BASE_URL,
+        placeSearchProperties.getGoogleBaseUrl(),
         encodedPlaceName,
         SEARCH_FIELDS,
         language,
@@ -236,63 +605,36 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
   }
 
   /**
-   * 사진 URL 배열 생성
-   * <p>
-   * photo_reference를 실제 Google Photos API URL로 변환
-   *
-   * @param photos       사진 정보 리스트
-   * @param googleApiKey API 키
-   * @return 사진 URL 배열 (최대 10개)
+   * Google Place Details API URL 생성 (place_id 재조회)
    */
-  private List<String> buildPhotoUrls(List<GooglePlaceSearchDto.Photo> photos, String googleApiKey) {
-    if (photos == null || photos.isEmpty()) {
-      return null;
-    }
-
-    return photos.stream()
-        .limit(10)  // 최대 10개
-        .map(photo -> String.format(
-            "https://maps.googleapis.com/maps/api/place/photo?maxwidth=400&photoreference=%s&key=%s",
-            photo.getPhotoReference(),
-            googleApiKey
-        ))
-        .collect(Collectors.toList());
+  private String buildDetailsUrl(String googlePlaceId, String googleApiKey) {
+    return String.format("%s?place_id=%s&fields=%s&key=%s",
+        placeSearchProperties.getGoogleDetailsUrl(),
+        URLEncoder.encode(googlePlaceId, StandardCharsets.UTF_8),
+        SEARCH_FIELDS,
+        googleApiKey
+    );
   }
 
   /**
-   * 주소에서 국가 코드 추출
+   * 사진 photo_reference 배열 추출
    * <p>
-   * 간단 구현: 주소 문자열에서 국가명 패턴 매칭
-   * 추후 더 정교한 로직으로 개선 필요
+   * API 키가 포함된 Google Photos URL 대신 photo_reference만 저장하고,
+   * 클라이언트에는 PlacePhotoPaths의 프록시 경로로 제공
    *
-   * @param address Google API의 formatted_address
-   * @return 국가 코드 (ISO 3166-1 alpha-2)
+   * @param photos 사진 정보 리스트
+   * @return photo_reference 배열 (최대 10개)
    */
-  private String extractCountryCode(String address) {
-    if (address == null || address.isEmpty()) {
-      return "XX";
-    }
-
-    // 한국
-    if (address.contains("South Korea") || address.contains("대한민국") || address.contains("Korea")) {
-      return "KR";
-    }
-    // 미국
-    if (address.contains("United States") || address.contains("USA") || address.contains("US")) {
-      return "US";
-    }
-    // 일본
-    if (address.contains("Japan") || address.contains("日本")) {
-      return "JP";
-    }
-    // 중국
-    if (address.contains("China") || address.contains("中国")) {
-      return "CN";
+  private List<String> extractPhotoReferences(List<GooglePlaceSearchDto.Photo> photos) {
+    if (photos == null || photos.isEmpty()) {
+      return null;
     }
 
-    // 기본값
-    log.debug("Could not extract country code from address: {}", address);
-    return "XX";
+    return photos.stream()
+        .map(GooglePlaceSearchDto.Photo::getPhotoReference)
+        .filter(StringUtils::hasText)
+        .limit(MAX_PHOTO_COUNT)
+        .collect(Collectors.toList());
   }
 
   /**
@@ -300,13 +642,15 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
    * <p>
    * DB 캐시된 Place를 API 응답 형식으로 변환
    *
-   * @param place         Place 엔티티
-   * @param googlePlaceId Google place_id
+   * @param place     Place 엔티티
+   * @param reference 플랫폼 참조 (null이면 Google API 장애로 대체된 결과이며 cachedPlaceId 설정)
    * @return PlaceDetail DTO
    */
-  private GooglePlaceSearchDto.PlaceDetail convertPlaceToPlaceDetail(Place place, String googlePlaceId) {
+  private GooglePlaceSearchDto.PlaceDetail convertPlaceToPlaceDetail(Place place, PlacePlatformReference reference) {
     return GooglePlaceSearchDto.PlaceDetail.builder()
-        .placeId(googlePlaceId)
+        .cachedPlaceId(reference == null ? place.getId() : null)
+        .platform(reference != null ? reference.getPlacePlatform() : PlacePlatform.GOOGLE)
+        .placeId(reference != null ? reference.getPlacePlatformId() : null)
         .name(place.getName())
         .address(place.getAddress())
         .latitude(place.getLatitude())
@@ -317,43 +661,23 @@ public class GooglePlaceSearcher implements PlacePlatformSearcher {
         .iconUrl(place.getIconUrl())
         .rating(place.getRating())
         .userRatingsTotal(place.getUserRatingsTotal())
-        .photoUrls(place.getPhotoUrls())
+        .photoReferences(place.getPhotoReferences())
         .build();
   }
 
   /**
-   * Place의 Google PlaceId 조회
-   * <p>
-   * PlacePlatformReference 테이블에서 Google platform의 placeId를 조회
-   *
-   * @param place Place 엔티티
-   * @return Google placeId (없으면 null)
-   */
-  private String getGooglePlaceId(Place place) {
-    return placePlatformReferenceRepository
-        .findByPlaceAndPlacePlatform(place, PlacePlatform.GOOGLE)
-        .map(PlacePlatformReference::getPlacePlatformId)
-        .orElse(null);
-  }
-
-  /**
-   * 좌표 변경 검증
-   * <p>
-   * Place가 오래되었거나 좌표 정확도가 낮으면 Google API 재호출 필요
-   * 현재는 단순 구현 (항상 false 반환)
+   * Place의 플랫폼 참조 조회
    * <p>
-   * 향후 개선 방향:
-   * - createdAt이 1년 이상 지났으면 재조회
-   * - 좌표 정확도가 낮으면 (소수점 자리수 부족) 재조회
+   * PlacePlatformReference 테이블에서 Google 참조를 우선 조회하고, 없으면 다른 플랫폼(Kakao 등) 참조 사용
    *
    * @param place Place 엔티티
-   * @return true: 재조회 필요, false: 캐시 사용
+   * @return 플랫폼 참조 (없으면 null)
    */
-  private boolean shouldUpdateCoordinates(Place place) {
-    // 현재는 항상 캐시 사용 (좌표 변경 감지 미구현)
-    // 필요시 아래 로직 활성화:
-    // LocalDateTime oneYearAgo = LocalDateTime.now().minusYears(1);
-    // return place.getCreatedAt().isBefore(oneYearAgo);
-    return false;
+  private PlacePlatformReference findPlatformReference(Place place) {
+    List<PlacePlatformReference> references = placePlatformReferenceRepository.findByPlace(place);
+    return references.stream()
+        .filter(reference -> reference.getPlacePlatform() == PlacePlatform.GOOGLE)
+        .findFirst()
+        .orElse(references.isEmpty() ? null : references.get(0));
   }
 }
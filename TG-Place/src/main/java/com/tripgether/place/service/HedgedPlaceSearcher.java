@@ -0,0 +1,232 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 플랫폼을 사용하는 장소 검색 (Hedged Request)
+ * <p>
+ * - PlaceSearcherSelector가 정한 1순위 플랫폼으로 검색
+ * - 1순위 응답이 해당 플랫폼의 최근 p95 응답 시간을 넘기면 2순위 플랫폼에 같은 검색을 한 번 더 요청
+ * - 1순위가 외부 API 장애(Circuit Breaker OPEN, 호출 한도 초과, 응답 오류)로 실패하면 즉시 2순위 요청
+ * - 먼저 도착한 유효한 결과(좌표 포함)를 사용하고 나머지 요청은 취소
+ * - 모두 실패하면 1순위 플랫폼의 실패 원인을 그대로 전달
+ * - 지표: place.search.hedge (result=issued|won)
+ * <p>
+ * 대부분의 검색은 p95 이내에 끝나므로 추가 호출은 전체 검색의 약 5% 수준
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HedgedPlaceSearcher {
+
+  private final PlaceSearcherSelector placeSearcherSelector;
+  private final PlaceSearchLatencyTracker placeSearchLatencyTracker;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final PlaceSearchExecutor placeSearchExecutor;
+  private final MeterRegistry meterRegistry;
+
+  private Counter hedgeIssuedCounter;
+  private Counter hedgeWonCounter;
+
+  @PostConstruct
+  public void init() {
+    hedgeIssuedCounter = registerCounter("issued");
+    hedgeWonCounter = registerCounter("won");
+  }
+
+  /**
+   * 장소 비동기 검색 (필요 시 Hedged Request)
+   *
+   * @param placeName 장소명
+   * @param address   주소
+   * @param language  언어 코드 (ko, en, ja, zh)
+   * @return 장소 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchPlaceDetailAsync(String placeName, String address,
+      String language) {
+    List<PlacePlatformSearcher> searchers = placeSearcherSelector.select(placeName, address, language);
+    if (searchers.isEmpty()) {
+      log.error("No place search platform available: placeName={}, language={}", placeName, language);
+      return CompletableFuture.failedFuture(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
+    }
+
+    PlacePlatformSearcher primary = searchers.get(0);
+    if (!placeSearchProperties.isHedgeEnabled() || searchers.size() < 2) {
+      HedgedLookup lookup = new HedgedLookup(1);
+      launch(lookup, primary, null, placeName, address, language);
+      return lookup.result;
+    }
+
+    // 1순위 검색 + Hedged Request 자리 (시작 또는 생략이 결정될 때까지 미완료로 집계)
+    HedgedLookup lookup = new HedgedLookup(2);
+    PlacePlatformSearcher hedge = searchers.get(1);
+    launch(lookup, primary, hedge, placeName, address, language);
+
+    if (!lookup.hedgeDecided.get()) {
+      long delayMs = hedgeDelayMs(primary);
+      placeSearchExecutor.delayed(delayMs, TimeUnit.MILLISECONDS)
+          .execute(() -> startHedge(lookup, hedge, placeName, address, language));
+    }
+
+    // 결과가 정해지면 남은 요청 취소
+    lookup.result.whenComplete((placeDetail, error) -> lookup.attempts.forEach(attempt -> attempt.cancel(true)));
+    return lookup.result;
+  }
+
+  // Hedged Request 대기 시간 (1순위 플랫폼 p95, 표본 부족 시 기본값)
+  private long hedgeDelayMs(PlacePlatformSearcher primary) {
+    long p95Ms = placeSearchLatencyTracker.p95Millis(primary.getPlatform());
+    long delayMs = p95Ms >= 0 ? p95Ms : placeSearchProperties.getHedgeDefaultDelayMs();
+    return Math.max(placeSearchProperties.getHedgeMinDelayMs(), delayMs);
+  }
+
+  private void startHedge(HedgedLookup lookup, PlacePlatformSearcher hedge,
+      String placeName, String address, String language) {
+    if (lookup.result.isDone()) {
+      skipHedge(lookup);
+      return;
+    }
+    if (!lookup.hedgeDecided.compareAndSet(false, true)) {
+      return;
+    }
+
+    hedgeIssuedCounter.increment();
+    log.info("Hedged place search issued: platform={}, placeName={}", hedge.getPlatform(), placeName);
+    launch(lookup, hedge, null, placeName, address, language);
+  }
+
+  // Hedged Request를 보내지 않기로 결정 (이후 지연 실행된 startHedge도 무시)
+  private void skipHedge(HedgedLookup lookup) {
+    if (lookup.hedgeDecided.compareAndSet(false, true)) {
+      finishAttempt(lookup);
+    }
+  }
+
+  /**
+   * 플랫폼 검색 실행 및 결과 처리
+   *
+   * @param hedge 1순위 검색이면 Hedged Request 대상 검색기 (Hedged Request 자체이거나 대상이 없으면 null)
+   */
+  private void launch(HedgedLookup lookup, PlacePlatformSearcher searcher, PlacePlatformSearcher hedge,
+      String placeName, String address, String language) {
+    boolean primary = lookup.attempts.isEmpty();
+    long startNanos = System.nanoTime();
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> attempt;
+    try {
+      attempt = searcher.searchPlaceDetailAsync(placeName, address, language);
+    } catch (RuntimeException e) {
+      attempt = CompletableFuture.failedFuture(e);
+    }
+
+    // 즉시 완료된 결과(DB 캐시 등)는 외부 API 응답 시간이 아니므로 p95 표본에서 제외
+    boolean servedLocally = attempt.isDone();
+    lookup.attempts.add(attempt);
+
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> running = attempt;
+    attempt.whenComplete((placeDetail, error) -> {
+      if (!servedLocally && !running.isCancelled()) {
+        placeSearchLatencyTracker.record(searcher.getPlatform(), System.nanoTime() - startNanos);
+      }
+
+      if (error == null && isAcceptable(placeDetail)) {
+        if (lookup.result.complete(placeDetail) && !primary) {
+          hedgeWonCounter.increment();
+          log.info("Hedged place search won: platform={}, placeName={}", searcher.getPlatform(), placeName);
+        }
+        if (hedge != null) {
+          skipHedge(lookup);
+        }
+        return;
+      }
+
+      Throwable failure = error != null ? unwrap(error) : new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND);
+      if (primary) {
+        lookup.primaryFailure = failure;
+      } else {
+        lookup.hedgeFailure = failure;
+      }
+
+      // 1순위가 외부 API 장애로 실패하면 대기 없이 Hedged Request, 그 외 실패는 Hedged Request 생략
+      if (hedge != null) {
+        if (isProviderFailure(failure)) {
+          startHedge(lookup, hedge, placeName, address, language);
+        } else {
+          skipHedge(lookup);
+        }
+      }
+      finishAttempt(lookup);
+    });
+  }
+
+  // 모든 검색이 실패로 끝나면 1순위 실패 원인으로 완료
+  private void finishAttempt(HedgedLookup lookup) {
+    if (lookup.pending.decrementAndGet() == 0) {
+      Throwable failure = lookup.primaryFailure != null ? lookup.primaryFailure : lookup.hedgeFailure;
+      lookup.result.completeExceptionally(failure != null
+          ? failure
+          : new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND));
+    }
+  }
+
+  // 사용 가능한 검색 결과인지 확인 (좌표 필수)
+  private boolean isAcceptable(GooglePlaceSearchDto.PlaceDetail placeDetail) {
+    return placeDetail != null && placeDetail.getLatitude() != null && placeDetail.getLongitude() != null;
+  }
+
+  // 다른 플랫폼으로 대체할 외부 API 장애인지 확인 (장소 없음/잘못된 요청은 제외)
+  private boolean isProviderFailure(Throwable failure) {
+    if (!(failure instanceof CustomException customException)) {
+      return true;
+    }
+    ErrorCode errorCode = customException.getErrorCode();
+    return errorCode == ErrorCode.GOOGLE_PLACE_CIRCUIT_OPEN
+        || errorCode == ErrorCode.GOOGLE_PLACE_RATE_LIMITED
+        || errorCode == ErrorCode.GOOGLE_PLACE_API_ERROR;
+  }
+
+  private Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  private Counter registerCounter(String result) {
+    return Counter.builder("place.search.hedge")
+        .description("장소 검색 Hedged Request 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 장소 1건의 Hedged 검색 진행 상태
+   */
+  private static final class HedgedLookup {
+
+    private final CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result = new CompletableFuture<>();
+    private final List<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> attempts = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean hedgeDecided = new AtomicBoolean();
+    private final AtomicInteger pending;
+    private volatile Throwable primaryFailure;
+    private volatile Throwable hedgeFailure;
+
+    // attemptCount: 완료를 기다릴 검색 수 (Hedged Request 자리 포함)
+    private HedgedLookup(int attemptCount) {
+      this.pending = new AtomicInteger(attemptCount);
+    }
+  }
+}
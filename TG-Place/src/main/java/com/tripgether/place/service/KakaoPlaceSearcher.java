@@ -0,0 +1,201 @@
+package com.tripgether.place.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.PlaceProperties;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.dto.KakaoPlaceSearchDto;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Kakao Local API를 통한 장소 검색 서비스
+ * <p>
+ * - 국내 장소 전용이므로 한국어(ko) 검색만 지원
+ * - 주로 Google Places API 응답이 느릴 때 Hedged Request 대상으로 사용 (HedgedPlaceSearcher)
+ * - 검색 결과 placeId는 Kakao 장소 ID (platform=KAKAO)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KakaoPlaceSearcher implements PlacePlatformSearcher {
+
+  private final OkHttpClient okHttpClient;
+  private final ObjectMapper objectMapper;
+  private final PlaceProperties placeProperties;
+  private final PlaceSearchProperties placeSearchProperties;
+
+  // Kakao Local API 전용 HTTP Client (공용 Client에 호출 전체 제한 시간 적용)
+  private OkHttpClient kakaoHttpClient;
+
+  private static final String KAKAO_COUNTRY_CODE = "KR";
+
+  @PostConstruct
+  public void init() {
+    kakaoHttpClient = okHttpClient.newBuilder()
+        .callTimeout(Duration.ofMillis(placeSearchProperties.getKakaoCallTimeoutMs()))
+        .build();
+  }
+
+  @Override
+  public PlacePlatform getPlatform() {
+    return PlacePlatform.KAKAO;
+  }
+
+  /**
+   * API Key가 설정되어 있고 한국어 검색인 경우에만 지원
+   */
+  @Override
+  public boolean supports(String language) {
+    String kakaoApiKey = placeProperties.getKakaoApiKey();
+    return kakaoApiKey != null && !kakaoApiKey.isEmpty() && "ko".equals(language);
+  }
+
+  /**
+   * 상호명으로 Kakao 장소 검색
+   *
+   * @param placeName 장소명
+   * @param address   주소 (현재 미사용)
+   * @param language  언어 코드 (ko만 지원)
+   * @return 장소 상세 정보 (placeId: Kakao 장소 ID)
+   * @throws CustomException Kakao Local API 호출 실패 또는 장소를 찾을 수 없을 때
+   */
+  @Override
+  public GooglePlaceSearchDto.PlaceDetail searchPlaceDetail(String placeName, String address, String language) {
+    try {
+      return searchPlaceDetailAsync(placeName, address, language).join();
+    } catch (CompletionException e) {
+      throw e.getCause() instanceof RuntimeException runtimeException
+          ? runtimeException
+          : new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+    }
+  }
+
+  /**
+   * 상호명으로 Kakao 장소 비동기 검색 (OkHttp enqueue)
+   * <p>
+   * 반환된 Future가 취소되면 진행 중인 HTTP 호출도 취소
+   *
+   * @param placeName 장소명
+   * @param address   주소 (현재 미사용)
+   * @param language  언어 코드 (ko만 지원)
+   * @return 장소 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  @Override
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchPlaceDetailAsync(String placeName, String address,
+      String language) {
+    String kakaoApiKey = placeProperties.getKakaoApiKey();
+
+    if (kakaoApiKey == null || kakaoApiKey.isEmpty()) {
+      log.error("Kakao Local API key not configured: placeName={}", placeName);
+      return CompletableFuture.failedFuture(new CustomException(ErrorCode.INVALID_API_KEY));
+    }
+
+    String url = String.format("%s?query=%s&size=1",
+        placeSearchProperties.getKakaoBaseUrl(),
+        URLEncoder.encode(placeName, StandardCharsets.UTF_8));
+
+    Request request = new Request.Builder()
+        .url(url)
+        .addHeader("Authorization", "KakaoAK " + kakaoApiKey)
+        .addHeader("Accept", "application/json")
+        .get()
+        .build();
+
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result = new CompletableFuture<>();
+    Call call = kakaoHttpClient.newCall(request);
+    call.enqueue(new Callback() {
+      @Override
+      public void onFailure(Call failedCall, IOException e) {
+        log.error("Unexpected error during Kakao Local API call: placeName={}, error={}", placeName, e.getMessage());
+        result.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
+      }
+
+      @Override
+      public void onResponse(Call respondedCall, Response httpResponse) {
+        try (httpResponse) {
+          result.complete(parseSearchResponse(placeName, httpResponse));
+        } catch (CustomException e) {
+          result.completeExceptionally(e);
+        } catch (Exception e) {
+          log.error("Unexpected error during Kakao Local API call: placeName={}", placeName, e);
+          result.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
+        }
+      }
+    });
+
+    // 호출자가 기다리지 않으면 (Hedged Request 패배 등) HTTP 호출 취소
+    result.whenComplete((placeDetail, error) -> {
+      if (result.isCancelled()) {
+        call.cancel();
+      }
+    });
+    return result;
+  }
+
+  /**
+   * Kakao Local API 응답 파싱
+   *
+   * @param placeName    장소명
+   * @param httpResponse HTTP 응답
+   * @return 장소 상세 정보
+   * @throws CustomException 응답 오류 또는 검색 결과가 없을 때
+   * @throws IOException     응답 본문 읽기 실패 시
+   */
+  private GooglePlaceSearchDto.PlaceDetail parseSearchResponse(String placeName, Response httpResponse)
+      throws IOException {
+    if (httpResponse.code() == 401 || httpResponse.code() == 403) {
+      log.error("Kakao Local API unauthorized: code={}", httpResponse.code());
+      throw new CustomException(ErrorCode.INVALID_API_KEY);
+    }
+
+    if (httpResponse.code() == 429) {
+      log.warn("Kakao Local API HTTP 429 Too Many Requests");
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_RATE_LIMITED);
+    }
+
+    if (!httpResponse.isSuccessful() || httpResponse.body() == null) {
+      log.error("Kakao Local API HTTP error: code={}", httpResponse.code());
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
+    }
+
+    KakaoPlaceSearchDto response = objectMapper.readValue(httpResponse.body().string(), KakaoPlaceSearchDto.class);
+    if (response.getDocuments() == null || response.getDocuments().isEmpty()) {
+      log.info("Kakao Local API returned no results: placeName={}", placeName);
+      throw new CustomException(ErrorCode.GOOGLE_PLACE_NOT_FOUND);
+    }
+
+    KakaoPlaceSearchDto.Document document = response.getDocuments().get(0);
+    String address = document.getRoadAddressName() != null && !document.getRoadAddressName().isBlank()
+        ? document.getRoadAddressName()
+        : document.getAddressName();
+
+    log.info("Kakao Local API Search Success: kakaoPlaceId={}, name={}", document.getId(), document.getPlaceName());
+    return GooglePlaceSearchDto.PlaceDetail.builder()
+        .platform(PlacePlatform.KAKAO)
+        .placeId(document.getId())
+        .name(document.getPlaceName())
+        .address(address)
+        .latitude(document.getY())
+        .longitude(document.getX())
+        .country(KAKAO_COUNTRY_CODE)
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package com.tripgether.place.service;
+
+import com.tripgether.place.repository.PlaceCountryRow;
+import com.tripgether.place.repository.PlaceRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 기존 장소 국가 코드 재계산
+ * <p>
+ * - CountryCodeResolver(좌표 우선, 주소 대체)로 국가 코드를 다시 계산하여 달라진 장소만 변경
+ * - 판별 불가(XX) 결과로 기존 국가 코드를 덮어쓰지 않음
+ * - 여러 번 실행해도 결과가 같음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceCountryBackfillService {
+
+  private final PlaceRepository placeRepository;
+  private final CountryCodeResolver countryCodeResolver;
+
+  /**
+   * 배치 1회 재계산
+   *
+   * @param afterId   이전 배치의 마지막 Place ID
+   * @param batchSize 최대 처리 수
+   * @return 배치 처리 결과
+   */
+  @Transactional
+  public BatchResult backfillBatch(UUID afterId, int batchSize) {
+    List<PlaceCountryRow> rows = placeRepository.findCountryRowsAfter(afterId, batchSize);
+    if (rows.isEmpty()) {
+      return new BatchResult(null, 0);
+    }
+
+    Map<String, List<UUID>> changedIdsByCountry = new HashMap<>();
+    for (PlaceCountryRow row : rows) {
+      String countryCode = countryCodeResolver.resolve(row.getLatitude(), row.getLongitude(), row.getAddress());
+      if (!CountryCodeResolver.UNKNOWN_COUNTRY_CODE.equals(countryCode) && !countryCode.equals(row.getCountry())) {
+        changedIdsByCountry.computeIfAbsent(countryCode, key -> new ArrayList<>()).add(row.getPlaceId());
+      }
+    }
+
+    int updatedCount = 0;
+    for (Map.Entry<String, List<UUID>> entry : changedIdsByCountry.entrySet()) {
+      updatedCount += placeRepository.updateCountry(entry.getValue(), entry.getKey());
+    }
+    return new BatchResult(rows.get(rows.size() - 1).getPlaceId(), updatedCount);
+  }
+
+  /**
+   * 배치 처리 결과
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class BatchResult {
+    private UUID lastId;       // 마지막으로 처리한 Place ID (더 처리할 장소가 없으면 null)
+    private int updatedCount;  // 국가 코드가 변경된 장소 수
+  }
+}
@@ -0,0 +1,71 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceCountryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 기존 장소 국가 코드 재계산 Worker
+ * <p>
+ * - place.country.backfill-on-startup이 true이면 애플리케이션 시작 후 전체 장소를 id 순서로 배치 재계산
+ * - 주소 문자열 매칭으로 저장된 기존 국가 코드(XX, 잘못된 US 등)를 좌표 기반 값으로 교정
+ * - 시작을 지연시키지 않도록 Virtual Thread에서 실행하며, 중단되어도 다음 시작 시 처음부터 다시 실행하면 됨
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceCountryBackfillWorker {
+
+  // UUID 최솟값 (첫 배치의 Keyset 시작점)
+  private static final UUID MIN_PLACE_ID = new UUID(0L, 0L);
+
+  private final PlaceCountryBackfillService placeCountryBackfillService;
+  private final PlaceCountryProperties placeCountryProperties;
+
+  private final ExecutorService backfillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (!placeCountryProperties.isBackfillOnStartup()) {
+      return;
+    }
+    backfillExecutor.execute(this::backfill);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    backfillExecutor.shutdownNow();
+  }
+
+  private void backfill() {
+    log.info("Place country backfill started: batchSize={}", placeCountryProperties.getBackfillBatchSize());
+    long startedAt = System.currentTimeMillis();
+    UUID afterId = MIN_PLACE_ID;
+    int updatedCount = 0;
+
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        PlaceCountryBackfillService.BatchResult result =
+            placeCountryBackfillService.backfillBatch(afterId, placeCountryProperties.getBackfillBatchSize());
+        if (result.getLastId() == null) {
+          break;
+        }
+        afterId = result.getLastId();
+        updatedCount += result.getUpdatedCount();
+      }
+      log.info("Place country backfill finished: updated={}, elapsedMs={}",
+          updatedCount, System.currentTimeMillis() - startedAt);
+    } catch (Exception e) {
+      log.error("Place country backfill failed: lastId={}, updated={}, error={}",
+          afterId, updatedCount, e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package com.tripgether.place.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 장소 검색 결과 2단계 캐시
+ * <p>
+ * - 1차: 인스턴스 로컬 캐시 (Caffeine, 최대 개수 + TTL 만료)
+ * - 2차: Redis 공유 캐시 (모든 인스턴스가 공유, TTL 만료)
+ * - 캐시 키: (장소명 정규화 키, 주소 정규화 키, 언어)
+ * - Place 변경 시 Google place_id 역인덱스로 캐시 항목을 새 값으로 교체하고, Pub/Sub으로 다른 인스턴스의 로컬 캐시를 무효화
+ * - 계층별 hit/miss 지표: place.lookup.cache.requests, place.lookup.cache.hit.ratio (tier=local|redis)
+ * <p>
+ * Redis 장애 시에는 캐시 miss로 처리하여 장소 검색 자체는 계속 동작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceLookupCache implements MessageListener {
+
+  private static final String LOOKUP_KEY_PREFIX = "place:lookup:";
+  private static final String REFERENCE_KEY_PREFIX = "place:lookup:ref:";
+  private static final String INVALIDATION_CHANNEL = "place:lookup:invalidate";
+
+  private static final String TIER_LOCAL = "local";
+  private static final String TIER_REDIS = "redis";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final ObjectMapper objectMapper;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final MeterRegistry meterRegistry;
+
+  // Pub/Sub 메시지 발행 인스턴스 식별용
+  private final String instanceId = UUID.randomUUID().toString();
+
+  private Cache<String, GooglePlaceSearchDto.PlaceDetail> localCache;
+
+  private Counter localHitCounter;
+  private Counter localMissCounter;
+  private Counter redisHitCounter;
+  private Counter redisMissCounter;
+
+  @PostConstruct
+  public void init() {
+    localCache = Caffeine.newBuilder()
+        .maximumSize(placeSearchProperties.getLookupCacheLocalMaxSize())
+        .expireAfterWrite(Duration.ofSeconds(placeSearchProperties.getLookupCacheLocalTtlSeconds()))
+        .build();
+
+    localHitCounter = registerCounter(TIER_LOCAL, "hit");
+    localMissCounter = registerCounter(TIER_LOCAL, "miss");
+    redisHitCounter = registerCounter(TIER_REDIS, "hit");
+    redisMissCounter = registerCounter(TIER_REDIS, "miss");
+
+    registerHitRatio(TIER_LOCAL, localHitCounter, localMissCounter);
+    registerHitRatio(TIER_REDIS, redisHitCounter, redisMissCounter);
+    Gauge.builder("place.lookup.cache.size", localCache, Cache::estimatedSize)
+        .tag("tier", TIER_LOCAL)
+        .register(meterRegistry);
+
+    // 다른 인스턴스에서 발생한 캐시 갱신 이벤트 구독
+    redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+  }
+
+  /**
+   * 캐시에서 장소 검색 결과 조회
+   * <p>
+   * 로컬 캐시 miss 시 Redis를 조회하고, Redis hit면 로컬 캐시에 적재
+   *
+   * @param placeName 장소명
+   * @param address   주소
+   * @param language  언어 코드
+   * @return 캐시된 장소 상세 정보 (없으면 null)
+   */
+  public GooglePlaceSearchDto.PlaceDetail get(String placeName, String address, String language) {
+    String lookupKey = buildLookupKey(placeName, address, language);
+
+    // 1. 로컬 캐시
+    GooglePlaceSearchDto.PlaceDetail placeDetail = localCache.getIfPresent(lookupKey);
+    if (placeDetail != null) {
+      localHitCounter.increment();
+      return placeDetail;
+    }
+    localMissCounter.increment();
+
+    // 2. Redis 캐시
+    try {
+      String cachedJson = stringRedisTemplate.opsForValue().get(lookupKey);
+      if (cachedJson == null) {
+        redisMissCounter.increment();
+        return null;
+      }
+
+      placeDetail = objectMapper.readValue(cachedJson, GooglePlaceSearchDto.PlaceDetail.class);
+      redisHitCounter.increment();
+      localCache.put(lookupKey, placeDetail);
+      return placeDetail;
+    } catch (Exception e) {
+      log.warn("Place lookup cache read failed: name={}, error={}", placeName, e.getMessage());
+      redisMissCounter.increment();
+      return null;
+    }
+  }
+
+  /**
+   * 장소 검색 결과를 로컬 캐시와 Redis 캐시에 저장
+   * <p>
+   * Google place_id 역인덱스에 캐시 키를 함께 기록하여 Place 변경 시 무효화에 사용
+   *
+   * @param placeName   장소명
+   * @param address     주소
+   * @param language    언어 코드
+   * @param placeDetail 장소 상세 정보
+   */
+  public void put(String placeName, String address, String language, GooglePlaceSearchDto.PlaceDetail placeDetail) {
+    if (placeDetail == null || placeDetail.getPlaceId() == null) {
+      return;
+    }
+
+    String lookupKey = buildLookupKey(placeName, address, language);
+    localCache.put(lookupKey, placeDetail);
+
+    try {
+      Duration ttl = Duration.ofSeconds(placeSearchProperties.getLookupCacheRedisTtlSeconds());
+      String referenceKey = REFERENCE_KEY_PREFIX + placeDetail.getPlaceId();
+
+      stringRedisTemplate.opsForValue().set(lookupKey, objectMapper.writeValueAsString(placeDetail), ttl);
+      stringRedisTemplate.opsForSet().add(referenceKey, lookupKey);
+      stringRedisTemplate.expire(referenceKey, ttl);
+    } catch (Exception e) {
+      log.warn("Place lookup cache write failed: name={}, error={}", placeName, e.getMessage());
+    }
+  }
+
+  /**
+   * Place 변경 시 해당 Google place_id의 캐시 항목 갱신
+   * <p>
+   * - 역인덱스에 기록된 모든 캐시 키(로컬/Redis)를 변경된 값으로 교체
+   * - 다른 인스턴스에는 Pub/Sub으로 전파하여 해당 로컬 캐시 항목 제거 (다음 조회 시 Redis에서 새 값 적재)
+   * - 트랜잭션 안에서 호출되면 커밋 이후에 반영 (롤백 시 캐시 유지)
+   *
+   * @param placeDetails 변경된 장소 상세 정보 목록
+   */
+  public void refreshAll(Collection<GooglePlaceSearchDto.PlaceDetail> placeDetails) {
+    if (placeDetails == null || placeDetails.isEmpty()) {
+      return;
+    }
+
+    Map<String, GooglePlaceSearchDto.PlaceDetail> updatedByGooglePlaceId = new HashMap<>();
+    placeDetails.stream()
+        .filter(placeDetail -> placeDetail.getPlaceId() != null)
+        .forEach(placeDetail -> updatedByGooglePlaceId.put(placeDetail.getPlaceId(), placeDetail));
+
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          refreshNow(updatedByGooglePlaceId);
+        }
+      });
+    } else {
+      refreshNow(updatedByGooglePlaceId);
+    }
+  }
+
+  /**
+   * 다른 인스턴스의 캐시 갱신 이벤트 수신 - 로컬 캐시 항목 제거
+   * <p>
+   * 메시지 형식: {인스턴스 ID}|{Google place_id} (자신이 발행한 메시지는 무시)
+   */
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    int separatorIndex = body.indexOf('|');
+    if (separatorIndex < 0 || body.substring(0, separatorIndex).equals(instanceId)) {
+      return;
+    }
+
+    String googlePlaceId = body.substring(separatorIndex + 1);
+    localCache.asMap().values().removeIf(placeDetail -> googlePlaceId.equals(placeDetail.getPlaceId()));
+  }
+
+  // 로컬/Redis 캐시 항목을 변경된 값으로 교체 후 다른 인스턴스에 전파
+  private void refreshNow(Map<String, GooglePlaceSearchDto.PlaceDetail> updatedByGooglePlaceId) {
+    localCache.asMap().replaceAll((lookupKey, placeDetail) ->
+        updatedByGooglePlaceId.getOrDefault(placeDetail.getPlaceId(), placeDetail));
+
+    try {
+      Duration ttl = Duration.ofSeconds(placeSearchProperties.getLookupCacheRedisTtlSeconds());
+      for (Map.Entry<String, GooglePlaceSearchDto.PlaceDetail> entry : updatedByGooglePlaceId.entrySet()) {
+        Set<String> lookupKeys = stringRedisTemplate.opsForSet().members(REFERENCE_KEY_PREFIX + entry.getKey());
+        if (lookupKeys == null || lookupKeys.isEmpty()) {
+          continue;
+        }
+
+        String json = objectMapper.writeValueAsString(entry.getValue());
+        for (String lookupKey : lookupKeys) {
+          stringRedisTemplate.opsForValue().set(lookupKey, json, ttl);
+        }
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + "|" + entry.getKey());
+      }
+      log.debug("Place lookup cache refreshed: {} places", updatedByGooglePlaceId.size());
+    } catch (Exception e) {
+      log.warn("Place lookup cache refresh failed: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 캐시 키 생성
+   * <p>
+   * 장소명/주소를 PlaceTextNormalizer 정규화 키로 변환 후 SHA-256으로 고정 길이 키 생성
+   * (한글/영문 표기, 지점 접미사, 주소 형식이 달라도 같은 장소는 같은 키)
+   */
+  String buildLookupKey(String placeName, String address, String language) {
+    String source = PlaceTextNormalizer.KEY_VERSION + "\0" + nullToEmpty(PlaceTextNormalizer.nameKey(placeName))
+        + '\0' + nullToEmpty(PlaceTextNormalizer.addressKey(address)) + '\0' + (language != null ? language : "ko");
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return LOOKUP_KEY_PREFIX + HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  private String nullToEmpty(String value) {
+    return value != null ? value : "";
+  }
+
+  private Counter registerCounter(String tier, String result) {
+    return Counter.builder("place.lookup.cache.requests")
+        .description("장소 검색 캐시 조회 수")
+        .tag("tier", tier)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private void registerHitRatio(String tier, Counter hitCounter, Counter missCounter) {
+    Gauge.builder("place.lookup.cache.hit.ratio", () -> {
+          double total = hitCounter.count() + missCounter.count();
+          return total == 0 ? 0.0 : hitCounter.count() / total;
+        })
+        .description("장소 검색 캐시 적중률")
+        .tag("tier", tier)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,137 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Google Places API 검색 결과 없음(ZERO_RESULTS) 캐시 (Redis)
+ * <p>
+ * - 캐시 키: (정규화된 장소명, 언어) - Google 검색은 장소명만 사용하므로 주소는 키에서 제외
+ * - 값: 만료 시각(epoch millis), Redis TTL은 만료 시각 이후에도 place.search.negative-cache-ttl-seconds만큼 유지
+ * - 만료 시각이 지난 항목을 조회하면 만료로 집계 후 삭제 (만료 후 다시 검색된 장소 수 = 재호출된 유료 호출 수)
+ * - 지표: place.lookup.negative (result=hit|expired|stored)
+ * <p>
+ * Redis 장애 시에는 캐시 miss로 처리하여 Google 검색은 계속 동작
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceNegativeCache {
+
+  private static final String NEGATIVE_KEY_PREFIX = "place:negative:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final MeterRegistry meterRegistry;
+
+  private Counter hitCounter;
+  private Counter expiredCounter;
+  private Counter storedCounter;
+
+  @PostConstruct
+  public void init() {
+    hitCounter = registerCounter("hit");
+    expiredCounter = registerCounter("expired");
+    storedCounter = registerCounter("stored");
+  }
+
+  /**
+   * 검색 결과 없음으로 캐싱된 장소인지 확인
+   *
+   * @param placeName 장소명
+   * @param language  언어 코드
+   * @return 만료되지 않은 ZERO_RESULTS 항목이 있으면 true
+   */
+  public boolean isNotFound(String placeName, String language) {
+    String key = buildKey(placeName, language);
+    if (key == null) {
+      return false;
+    }
+
+    try {
+      String expiresAt = stringRedisTemplate.opsForValue().get(key);
+      if (expiresAt == null) {
+        return false;
+      }
+
+      if (System.currentTimeMillis() < Long.parseLong(expiresAt)) {
+        hitCounter.increment();
+        log.debug("Place negative cache hit: name={}, language={}", placeName, language);
+        return true;
+      }
+
+      // 만료된 항목 - 여러 인스턴스가 동시에 조회해도 삭제에 성공한 한 곳만 집계
+      if (Boolean.TRUE.equals(stringRedisTemplate.delete(key))) {
+        expiredCounter.increment();
+      }
+      return false;
+    } catch (Exception e) {
+      log.warn("Place negative cache read failed: name={}, error={}", placeName, e.getMessage());
+      return false;
+    }
+  }
+
+  /**
+   * Google Places API 검색 결과 없음(ZERO_RESULTS) 저장
+   *
+   * @param placeName 장소명
+   * @param language  언어 코드
+   */
+  public void markNotFound(String placeName, String language) {
+    String key = buildKey(placeName, language);
+    if (key == null) {
+      return;
+    }
+
+    long ttlMs = Duration.ofSeconds(placeSearchProperties.getNegativeCacheTtlSeconds()).toMillis();
+    String expiresAt = String.valueOf(System.currentTimeMillis() + ttlMs);
+
+    try {
+      // 만료 후 재검색을 만료로 집계할 수 있도록 TTL의 2배 동안 보관
+      stringRedisTemplate.opsForValue().set(key, expiresAt, Duration.ofMillis(ttlMs * 2));
+      storedCounter.increment();
+    } catch (Exception e) {
+      log.warn("Place negative cache write failed: name={}, error={}", placeName, e.getMessage());
+    }
+  }
+
+  /**
+   * 캐시 키 생성 (정규화된 장소명 + 언어의 SHA-256)
+   *
+   * @return 캐시 키 (장소명이 비어 있으면 null)
+   */
+  private String buildKey(String placeName, String language) {
+    String normalizedName = PlaceTextNormalizer.normalize(placeName);
+    if (normalizedName == null) {
+      return null;
+    }
+
+    String source = normalizedName + '\0' + (language != null ? language : "ko");
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return NEGATIVE_KEY_PREFIX + HexFormat.of().formatHex(digest.digest(source.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 algorithm not available", e);
+    }
+  }
+
+  private Counter registerCounter(String result) {
+    return Counter.builder("place.lookup.negative")
+        .description("장소 검색 결과 없음 캐시 처리 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
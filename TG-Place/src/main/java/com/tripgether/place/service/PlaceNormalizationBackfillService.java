@@ -0,0 +1,63 @@
+package com.tripgether.place.service;
+
+import com.tripgether.place.entity.Place;
+import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 기존 장소 정규화 키 재계산
+ * <p>
+ * - normalization_version이 PlaceTextNormalizer.KEY_VERSION보다 낮은 장소의 normalized_name/normalized_address를 현재 규칙으로 변경
+ * - 재계산한 장소는 현재 버전으로 기록되어 다시 처리하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceNormalizationBackfillService {
+
+  private final PlaceRepository placeRepository;
+
+  /**
+   * 배치 1회 재계산
+   *
+   * @param afterId   이전 배치의 마지막 Place ID
+   * @param batchSize 최대 처리 수
+   * @return 배치 처리 결과
+   */
+  @Transactional
+  public BatchResult backfillBatch(UUID afterId, int batchSize) {
+    List<Place> places = placeRepository.findOutdatedNormalizationAfter(
+        afterId, PlaceTextNormalizer.KEY_VERSION, batchSize);
+    if (places.isEmpty()) {
+      return new BatchResult(null, 0);
+    }
+
+    for (Place place : places) {
+      placeRepository.updateNormalization(
+          place.getId(),
+          PlaceTextNormalizer.nameKey(place.getName()),
+          PlaceTextNormalizer.addressKey(place.getAddress()),
+          PlaceTextNormalizer.KEY_VERSION);
+    }
+    return new BatchResult(places.get(places.size() - 1).getId(), places.size());
+  }
+
+  /**
+   * 배치 처리 결과
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class BatchResult {
+    private UUID lastId;       // 마지막으로 처리한 Place ID (더 처리할 장소가 없으면 null)
+    private int updatedCount;  // 정규화 키가 변경된 장소 수
+  }
+}
@@ -0,0 +1,73 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceNormalizationProperties;
+import com.tripgether.place.util.PlaceTextNormalizer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 기존 장소 정규화 키 재계산 Worker
+ * <p>
+ * - place.normalization.backfill-on-startup이 true이면 애플리케이션 시작 후 이전 규칙 버전의 장소를 id 순서로 배치 재계산
+ * - 재계산 전 장소는 DB 캐시 조회에서 일치하지 않아 Google API를 다시 호출할 수 있음 (결과는 upsert로 같은 Place에 반영)
+ * - 여러 인스턴스가 동시에 실행해도 같은 값을 기록하므로 결과는 같음
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceNormalizationBackfillWorker {
+
+  // UUID 최솟값 (첫 배치의 Keyset 시작점)
+  private static final UUID MIN_PLACE_ID = new UUID(0L, 0L);
+
+  private final PlaceNormalizationBackfillService placeNormalizationBackfillService;
+  private final PlaceNormalizationProperties placeNormalizationProperties;
+
+  private final ExecutorService backfillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    if (!placeNormalizationProperties.isBackfillOnStartup()) {
+      return;
+    }
+    backfillExecutor.execute(this::backfill);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    backfillExecutor.shutdownNow();
+  }
+
+  private void backfill() {
+    long startedAt = System.currentTimeMillis();
+    UUID afterId = MIN_PLACE_ID;
+    int updatedCount = 0;
+
+    try {
+      while (!Thread.currentThread().isInterrupted()) {
+        PlaceNormalizationBackfillService.BatchResult result = placeNormalizationBackfillService.backfillBatch(
+            afterId, placeNormalizationProperties.getBackfillBatchSize());
+        if (result.getLastId() == null) {
+          break;
+        }
+        afterId = result.getLastId();
+        updatedCount += result.getUpdatedCount();
+      }
+      if (updatedCount > 0) {
+        log.info("Place normalization backfill finished: version={}, updated={}, elapsedMs={}",
+            PlaceTextNormalizer.KEY_VERSION, updatedCount, System.currentTimeMillis() - startedAt);
+      }
+    } catch (Exception e) {
+      log.error("Place normalization backfill failed: lastId={}, updated={}, error={}",
+          afterId, updatedCount, e.getMessage(), e);
+    }
+  }
+}
@@ -0,0 +1,248 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.PlacePhotoProperties;
+import com.tripgether.common.properties.PlaceProperties;
+import com.tripgether.place.entity.Place;
+import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.place.util.PlacePhotoPaths;
+import com.tripgether.place.util.PlacePhotoResizer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.springframework.stereotype.Service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 장소 사진 프록시
+ * <p>
+ * - Google Places Photo API에서 사진을 한 번만 받아 표준 너비(place.photo.widths)별로 축소 후 PlacePhotoStore에 저장
+ * - 이후 요청은 Google 호출 없이 로컬 저장소에서 제공 (API 키 비노출, Google 사진 호출 과금 감소)
+ * - 저장 키는 photo_reference 기준이므로 장소 갱신으로 사진이 바뀌면 새로 다운로드
+ * - 요청 버전(PlacePhotoPaths.version)이 현재 photo_reference와 일치할 때만 변경 불가(immutable) 응답으로 표시
+ * - 같은 사진의 동시 요청은 다운로드 1회로 병합
+ * - 지표: place.photo.cache (result=hit|miss)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlacePhotoService {
+
+  private final PlaceRepository placeRepository;
+  private final PlacePhotoStore placePhotoStore;
+  private final OkHttpClient okHttpClient;
+  private final PlaceProperties placeProperties;
+  private final PlacePhotoProperties placePhotoProperties;
+  private final MeterRegistry meterRegistry;
+
+  // 진행 중인 원본 다운로드 (photo_reference -> 완료 Future)
+  private final ConcurrentMap<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+  // 사진 다운로드 전용 HTTP Client (공용 Client에 호출 전체 제한 시간 적용)
+  private OkHttpClient photoHttpClient;
+
+  private Counter hitCounter;
+  private Counter missCounter;
+
+  @PostConstruct
+  public void init() {
+    photoHttpClient = okHttpClient.newBuilder()
+        .callTimeout(Duration.ofMillis(placePhotoProperties.getFetchTimeoutMs()))
+        .build();
+    hitCounter = registerCounter("hit");
+    missCounter = registerCounter("miss");
+  }
+
+  /**
+   * 장소 사진 조회
+   * <p>
+   * 로컬 저장소에 없으면 Google에서 원본을 받아 모든 표준 너비로 저장한 뒤 반환
+   *
+   * @param placeId 장소 ID
+   * @param index   사진 순번 (0부터 시작)
+   * @param width   요청 너비 (px, null이면 기본 너비)
+   * @param version 요청 경로의 사진 버전 (null 가능)
+   * @return 저장된 사진 (JPEG)과 버전 일치 여부
+   * @throws CustomException 장소/사진이 없거나 원본 다운로드에 실패한 경우
+   */
+  public PlacePhoto getPhoto(UUID placeId, int index, Integer width, String version) {
+    String photoReference = findPhotoReference(placeId, index);
+    boolean versioned = PlacePhotoPaths.version(photoReference).equals(version);
+    return new PlacePhoto(getStoredPhoto(placeId, index, photoReference, width), versioned);
+  }
+
+  private PlacePhotoStore.StoredPhoto getStoredPhoto(UUID placeId, int index, String photoReference, Integer width) {
+    String key = photoKey(photoReference, resolveWidth(width));
+
+    PlacePhotoStore.StoredPhoto storedPhoto = placePhotoStore.get(key);
+    if (storedPhoto != null) {
+      hitCounter.increment();
+      return storedPhoto;
+    }
+
+    missCounter.increment();
+    fetchAndStore(photoReference);
+
+    storedPhoto = placePhotoStore.get(key);
+    if (storedPhoto == null) {
+      log.error("Place photo missing after fetch: placeId={}, index={}", placeId, index);
+      throw new CustomException(ErrorCode.PLACE_PHOTO_FETCH_FAILED);
+    }
+    return storedPhoto;
+  }
+
+  /**
+   * 요청 너비를 표준 너비로 변환
+   * <p>
+   * 요청 너비 이상인 가장 작은 표준 너비, 없으면 가장 큰 표준 너비
+   */
+  private int resolveWidth(Integer width) {
+    int requested = width == null ? placePhotoProperties.getDefaultWidth() : width;
+    List<Integer> widths = standardWidths();
+    return widths.stream()
+        .filter(standardWidth -> standardWidth >= requested)
+        .findFirst()
+        .orElse(widths.get(widths.size() - 1));
+  }
+
+  private String findPhotoReference(UUID placeId, int index) {
+    Place place = placeRepository.findById(placeId)
+        .orElseThrow(() -> {
+          log.error("Place not found: placeId={}", placeId);
+          return new CustomException(ErrorCode.PLACE_NOT_FOUND);
+        });
+
+    List<String> photoReferences = place.getPhotoReferences();
+    if (photoReferences == null || index < 0 || index >= photoReferences.size()) {
+      log.warn("Place photo not found: placeId={}, index={}", placeId, index);
+      throw new CustomException(ErrorCode.PLACE_PHOTO_NOT_FOUND);
+    }
+    return photoReferences.get(index);
+  }
+
+  /**
+   * 원본 다운로드 후 모든 표준 너비로 축소하여 저장
+   * <p>
+   * 같은 사진을 이미 다운로드 중이면 그 결과를 기다림
+   */
+  private void fetchAndStore(String photoReference) {
+    CompletableFuture<Void> flight = new CompletableFuture<>();
+    CompletableFuture<Void> existing = inFlight.putIfAbsent(photoReference, flight);
+    if (existing != null) {
+      try {
+        existing.join();
+        return;
+      } catch (CompletionException e) {
+        throw e.getCause() instanceof CustomException customException
+            ? customException
+            : new CustomException(ErrorCode.PLACE_PHOTO_FETCH_FAILED);
+      }
+    }
+
+    try {
+      BufferedImage image = PlacePhotoResizer.decode(download(photoReference));
+      for (int width : standardWidths()) {
+        byte[] resized = PlacePhotoResizer.resizeToJpeg(image, width, placePhotoProperties.getJpegQuality());
+        placePhotoStore.put(photoKey(photoReference, width), resized);
+      }
+      log.info("Place photo stored: source={}x{}, widths={}", image.getWidth(), image.getHeight(), standardWidths());
+      flight.complete(null);
+    } catch (CustomException e) {
+      flight.completeExceptionally(e);
+      throw e;
+    } catch (IOException | RuntimeException e) {
+      log.error("Place photo fetch failed: error={}", e.getMessage(), e);
+      CustomException exception = new CustomException(ErrorCode.PLACE_PHOTO_FETCH_FAILED);
+      flight.completeExceptionally(exception);
+      throw exception;
+    } finally {
+      inFlight.remove(photoReference, flight);
+    }
+  }
+
+  private byte[] download(String photoReference) throws IOException {
+    String googleApiKey = placeProperties.getGoogleApiKey();
+    if (googleApiKey == null || googleApiKey.isEmpty()) {
+      log.error("Google Places API key not configured for place photo");
+      throw new CustomException(ErrorCode.INVALID_API_KEY);
+    }
+
+    String url = String.format("%s?maxwidth=%d&photoreference=%s&key=%s",
+        placePhotoProperties.getGooglePhotoBaseUrl(),
+        placePhotoProperties.getSourceMaxWidth(),
+        URLEncoder.encode(photoReference, StandardCharsets.UTF_8),
+        googleApiKey);
+
+    Request request = new Request.Builder()
+        .url(url)
+        .get()
+        .build();
+
+    // Google Photo API는 실제 이미지 주소로 리다이렉트 (OkHttp가 자동으로 따라감)
+    try (Response response = photoHttpClient.newCall(request).execute()) {
+      ResponseBody body = response.body();
+      if (!response.isSuccessful() || body == null) {
+        log.error("Google Place Photo API HTTP error: code={}", response.code());
+        throw new CustomException(ErrorCode.PLACE_PHOTO_FETCH_FAILED);
+      }
+      return body.bytes();
+    }
+  }
+
+  private List<Integer> standardWidths() {
+    return placePhotoProperties.getWidths().stream().sorted().toList();
+  }
+
+  // photo_reference는 수백 자이므로 해시로 줄여 저장 키로 사용
+  private String photoKey(String photoReference, int width) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(photoReference.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash) + ":" + width;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  private Counter registerCounter(String result) {
+    return Counter.builder("place.photo.cache")
+        .description("장소 사진 로컬 저장소 조회 결과")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 장소 사진 조회 결과
+   * <p>
+   * versioned가 true면 요청 경로가 현재 사진을 가리키므로 변경 불가 응답으로 오래 캐시 가능
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class PlacePhoto {
+    private PlacePhotoStore.StoredPhoto storedPhoto;
+    private boolean versioned;
+  }
+}
@@ -0,0 +1,402 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlacePhotoProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 장소 사진 로컬 디스크 저장소 (메모리 매핑 append-only 세그먼트 파일)
+ * <p>
+ * - 사진은 현재 세그먼트 파일 끝에 이어서 기록하고, 가득 차면 봉인 후 새 세그먼트 생성
+ * - 레코드: magic(4) + keyLength(4) + dataLength(4) + etag(16) + key + data
+ * - 위치 인덱스(키 -> 세그먼트, offset, length)는 메모리에만 두고 시작 시 세그먼트 파일을 읽어 복구
+ * - 최대 크기(place.photo.max-store-bytes) 초과 시 가장 오래 사용되지 않은(LRU) 사진이 속한 세그먼트를 통째로 삭제
+ * - 삭제 세그먼트는 인덱스에서만 바로 빼고 파일은 유예 시간 후 삭제 (응답 후 Tomcat이 여는 sendfile 경로 보호)
+ * - 지표: place.photo.store.bytes, place.photo.store.evicted
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlacePhotoStore {
+
+  private static final int RECORD_MAGIC = 0x54475048; // "TGPH"
+  private static final int ETAG_BYTES = 16;
+  private static final int HEADER_BYTES = Integer.BYTES * 3 + ETAG_BYTES;
+  private static final String SEGMENT_SUFFIX = ".seg";
+
+  private final PlacePhotoProperties placePhotoProperties;
+  private final MeterRegistry meterRegistry;
+
+  // 세그먼트 ID -> 세그먼트 (ID 순서 = 기록 순서)
+  private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+
+  // 사진 키 -> 저장 위치 (접근 순서 유지, 가장 앞이 가장 오래 사용되지 않은 사진)
+  private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(1024, 0.75f, true);
+
+  // 인덱스에서 제외되어 파일 삭제를 기다리는 세그먼트 (제외 순서)
+  private final List<Segment> retiredSegments = new ArrayList<>();
+
+  private Path directory;
+  private Segment activeSegment;
+  private long storedBytes;
+  private Counter evictedCounter;
+
+  @PostConstruct
+  public void init() throws IOException {
+    directory = Paths.get(placePhotoProperties.getStoreDirectory()).toAbsolutePath();
+    Files.createDirectories(directory);
+
+    List<Path> segmentFiles;
+    try (Stream<Path> files = Files.list(directory)) {
+      segmentFiles = files
+          .filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted()
+          .toList();
+    }
+
+    for (Path file : segmentFiles) {
+      try {
+        recoverSegment(file);
+      } catch (IOException | RuntimeException e) {
+        log.warn("Place photo segment unreadable, deleting: file={}, error={}", file, e.getMessage());
+        Files.deleteIfExists(file);
+      }
+    }
+
+    // 모든 사진이 나중 세그먼트로 대체된 세그먼트 삭제
+    for (Segment segment : List.copyOf(segments.values())) {
+      if (segment.keys.isEmpty()) {
+        dropSegment(segment);
+      }
+    }
+    activeSegment = openSegment(nextSegmentId());
+
+    evictedCounter = Counter.builder("place.photo.store.evicted")
+        .description("장소 사진 저장소 용량 초과로 삭제된 사진 수")
+        .register(meterRegistry);
+    Gauge.builder("place.photo.store.bytes", this, PlacePhotoStore::getStoredBytes)
+        .description("장소 사진 저장소 사용 크기 (바이트)")
+        .register(meterRegistry);
+
+    log.info("Place photo store ready: directory={}, segments={}, photos={}, bytes={}",
+        directory, segments.size(), index.size(), storedBytes);
+  }
+
+  @PreDestroy
+  public synchronized void close() {
+    if (activeSegment != null) {
+      sealSegment(activeSegment);
+    }
+    retiredSegments.forEach(this::deleteSegmentFile);
+    retiredSegments.clear();
+  }
+
+  /**
+   * 유예 시간이 지난 제외 세그먼트 파일 삭제
+   * <p>
+   * sendfile은 응답 메서드가 끝난 뒤 Tomcat이 경로로 파일을 열어 전송하므로, 제외 직후 삭제하면 전송 중 파일이 사라질 수 있음
+   */
+  @Scheduled(fixedDelayString = "${place.photo.retired-segment-grace-ms:60000}")
+  public synchronized void deleteRetiredSegments() {
+    long graceNanos = TimeUnit.MILLISECONDS.toNanos(placePhotoProperties.getRetiredSegmentGraceMs());
+    long now = System.nanoTime();
+    while (!retiredSegments.isEmpty() && now - retiredSegments.get(0).retiredAtNanos >= graceNanos) {
+      deleteSegmentFile(retiredSegments.remove(0));
+    }
+  }
+
+  /**
+   * 저장된 사진 조회 (LRU 순서 갱신)
+   *
+   * @param key 사진 키
+   * @return 저장된 사진 (없으면 null)
+   */
+  public synchronized StoredPhoto get(String key) {
+    Entry entry = index.get(key);
+    return entry == null ? null : toStoredPhoto(entry);
+  }
+
+  /**
+   * 사진 저장 (이미 저장된 키면 기존 사진 반환)
+   *
+   * @param key  사진 키
+   * @param data 사진 데이터
+   * @return 저장된 사진
+   */
+  public synchronized StoredPhoto put(String key, byte[] data) {
+    Entry existing = index.get(key);
+    if (existing != null) {
+      return toStoredPhoto(existing);
+    }
+
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    int recordBytes = HEADER_BYTES + keyBytes.length + data.length;
+    if (recordBytes > placePhotoProperties.getSegmentSizeBytes()) {
+      throw new IllegalArgumentException("Photo larger than segment size: key=" + key + ", bytes=" + data.length);
+    }
+
+    if (activeSegment.position + recordBytes > activeSegment.buffer.capacity()) {
+      sealSegment(activeSegment);
+      activeSegment = openSegment(nextSegmentId());
+    }
+
+    Segment segment = activeSegment;
+    int position = segment.position;
+    byte[] etag = digest(data);
+
+    // magic은 마지막에 기록 (기록 중 종료된 레코드는 복구 시 무시)
+    MappedByteBuffer buffer = segment.buffer;
+    buffer.putInt(position + Integer.BYTES, keyBytes.length);
+    buffer.putInt(position + Integer.BYTES * 2, data.length);
+    buffer.put(position + Integer.BYTES * 3, etag);
+    buffer.put(position + HEADER_BYTES, keyBytes);
+    buffer.put(position + HEADER_BYTES + keyBytes.length, data);
+    buffer.putInt(position, RECORD_MAGIC);
+
+    Entry entry = new Entry(segment, position + HEADER_BYTES + keyBytes.length, data.length,
+        HexFormat.of().formatHex(etag));
+    index.put(key, entry);
+    segment.keys.add(key);
+    segment.position += recordBytes;
+    storedBytes += recordBytes;
+
+    evictIfNeeded();
+    return toStoredPhoto(entry);
+  }
+
+  public synchronized long getStoredBytes() {
+    return storedBytes;
+  }
+
+  /**
+   * 최대 크기 초과 시 LRU 사진이 속한 봉인 세그먼트부터 삭제
+   * <p>
+   * append-only 파일은 레코드 단위로 공간을 회수할 수 없으므로 세그먼트 단위로 삭제
+   */
+  private void evictIfNeeded() {
+    while (storedBytes > placePhotoProperties.getMaxStoreBytes()) {
+      Segment victim = null;
+      for (Entry entry : index.values()) {
+        if (entry.segment != activeSegment) {
+          victim = entry.segment;
+          break;
+        }
+      }
+      if (victim == null) {
+        return;
+      }
+
+      log.info("Evicting place photo segment: id={}, photos={}, bytes={}",
+          victim.id, victim.keys.size(), victim.position);
+      victim.keys.forEach(index::remove);
+      evictedCounter.increment(victim.keys.size());
+      retireSegment(victim);
+    }
+  }
+
+  /**
+   * 세그먼트 파일을 읽어 인덱스 복구
+   * <p>
+   * 손상되었거나 기록 중 종료된 레코드 이후는 잘라냄
+   */
+  private void recoverSegment(Path file) throws IOException {
+    long segmentId = Long.parseLong(file.getFileName().toString().replace(SEGMENT_SUFFIX, ""));
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      MappedByteBuffer scan = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      List<String> keys = new ArrayList<>();
+      List<Entry> entries = new ArrayList<>();
+      Segment segment = new Segment(segmentId, file, null, null);
+
+      int position = 0;
+      while (position + HEADER_BYTES <= scan.limit() && scan.getInt(position) == RECORD_MAGIC) {
+        int keyLength = scan.getInt(position + Integer.BYTES);
+        int dataLength = scan.getInt(position + Integer.BYTES * 2);
+        long recordEnd = (long) position + HEADER_BYTES + keyLength + dataLength;
+        if (keyLength <= 0 || dataLength <= 0 || recordEnd > scan.limit()) {
+          break;
+        }
+
+        byte[] etag = new byte[ETAG_BYTES];
+        byte[] key = new byte[keyLength];
+        scan.get(position + Integer.BYTES * 3, etag);
+        scan.get(position + HEADER_BYTES, key);
+        keys.add(new String(key, StandardCharsets.UTF_8));
+        entries.add(new Entry(segment, position + HEADER_BYTES + keyLength, dataLength, HexFormat.of().formatHex(etag)));
+        position = (int) recordEnd;
+      }
+
+      if (position == 0) {
+        channel.close();
+        Files.deleteIfExists(file);
+        return;
+      }
+      if (position < channel.size()) {
+        channel.truncate(position);
+      }
+
+      segment.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, position);
+      segment.position = position;
+      segments.put(segmentId, segment);
+      storedBytes += position;
+
+      // 나중 세그먼트의 같은 키가 우선
+      for (int i = 0; i < keys.size(); i++) {
+        Entry previous = index.put(keys.get(i), entries.get(i));
+        if (previous != null && previous.segment != segment) {
+          previous.segment.keys.remove(keys.get(i));
+        }
+        segment.keys.add(keys.get(i));
+      }
+    }
+
+  }
+
+  private Segment openSegment(long segmentId) {
+    Path file = directory.resolve(String.format("%012d%s", segmentId, SEGMENT_SUFFIX));
+    try {
+      FileChannel channel = FileChannel.open(file,
+          StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+          placePhotoProperties.getSegmentSizeBytes());
+      Segment segment = new Segment(segmentId, file, buffer, channel);
+      segments.put(segmentId, segment);
+      return segment;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Place photo segment open failed: " + file, e);
+    }
+  }
+
+  // 기록 완료된 세그먼트를 실제 사용 크기로 줄이고 닫음 (매핑은 읽기용으로 유지)
+  private void sealSegment(Segment segment) {
+    if (segment.channel == null) {
+      return;
+    }
+    try (FileChannel channel = segment.channel) {
+      segment.buffer.force();
+      channel.truncate(segment.position);
+    } catch (IOException e) {
+      log.warn("Place photo segment seal failed: file={}, error={}", segment.path, e.getMessage());
+    }
+    segment.channel = null;
+    if (segment.position == 0) {
+      dropSegment(segment);
+    }
+  }
+
+  // 응답에 사용된 적 없는 세그먼트 즉시 삭제 (시작 시 복구, 빈 세그먼트)
+  private void dropSegment(Segment segment) {
+    segments.remove(segment.id);
+    storedBytes -= segment.position;
+    deleteSegmentFile(segment);
+  }
+
+  // 인덱스에서 제외하고 파일은 유예 시간 후 삭제 (deleteRetiredSegments)
+  private void retireSegment(Segment segment) {
+    segments.remove(segment.id);
+    storedBytes -= segment.position;
+    segment.retiredAtNanos = System.nanoTime();
+    retiredSegments.add(segment);
+  }
+
+  private void deleteSegmentFile(Segment segment) {
+    try {
+      Files.deleteIfExists(segment.path);
+    } catch (IOException e) {
+      log.warn("Place photo segment delete failed: file={}, error={}", segment.path, e.getMessage());
+    }
+  }
+
+  private long nextSegmentId() {
+    return segments.isEmpty() ? 1 : segments.lastKey() + 1;
+  }
+
+  private StoredPhoto toStoredPhoto(Entry entry) {
+    ByteBuffer data = entry.segment.buffer.slice(entry.offset, entry.length).asReadOnlyBuffer();
+    return new StoredPhoto(entry.segment.path, entry.offset, entry.length, entry.etag, data);
+  }
+
+  private byte[] digest(byte[] data) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(data);
+      byte[] etag = new byte[ETAG_BYTES];
+      System.arraycopy(hash, 0, etag, 0, ETAG_BYTES);
+      return etag;
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+
+  /**
+   * 저장된 사진 위치와 데이터
+   * <p>
+   * segmentPath/offset/length로 파일 구간을 그대로 전송(sendfile)하거나, data(메모리 매핑 구간)를 읽어 기록
+   * (세그먼트가 제외되어도 파일은 유예 시간 동안 남고, 매핑 구간은 파일 삭제 후에도 유효)
+   */
+  @Getter
+  @AllArgsConstructor
+  public static class StoredPhoto {
+    private Path segmentPath;
+    private long offset;
+    private int length;
+    private String etag;
+    private ByteBuffer data;
+  }
+
+  private static class Segment {
+    private final long id;
+    private final Path path;
+    private final Set<String> keys = new HashSet<>();
+    private MappedByteBuffer buffer;
+    private FileChannel channel; // 기록 중인 세그먼트만 값 존재
+    private int position;
+    private long retiredAtNanos;
+
+    private Segment(long id, Path path, MappedByteBuffer buffer, FileChannel channel) {
+      this.id = id;
+      this.path = path;
+      this.buffer = buffer;
+      this.channel = channel;
+    }
+  }
+
+  @AllArgsConstructor
+  private static class Entry {
+    private final Segment segment;
+    private final int offset;
+    private final int length;
+    private final String etag;
+  }
+}
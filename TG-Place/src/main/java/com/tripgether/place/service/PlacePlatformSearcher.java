@@ -1,14 +1,36 @@
 package com.tripgether.place.service;
 
+import com.tripgether.place.constant.PlacePlatform;
 import com.tripgether.place.dto.GooglePlaceSearchDto;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 플랫폼별 장소 검색 인터페이스
  * <p>
- * Google Places API를 통한 장소 검색 기능을 제공
+ * Google Places API, Kakao Local API 등 플랫폼별 장소 검색 기능을 제공
+ * 검색 결과 PlaceDetail의 placeId는 PlaceDetail.platform 플랫폼의 장소 ID
+ * (보통 getPlatform()과 같지만 DB 캐시 히트 시 기존 Place의 다른 플랫폼 참조일 수 있음)
  */
 public interface PlacePlatformSearcher {
 
+  /**
+   * 검색 플랫폼
+   *
+   * @return 플랫폼 (GOOGLE, KAKAO 등)
+   */
+  PlacePlatform getPlatform();
+
+  /**
+   * 해당 언어의 검색을 수행할 수 있는지 확인 (API Key 설정, 지원 지역/언어 등)
+   *
+   * @param language 언어 코드 (ko, en, ja, zh)
+   * @return 검색 가능하면 true
+   */
+  default boolean supports(String language) {
+    return true;
+  }
+
   /**
    * 상호명으로 장소 상세 정보 검색
    *
@@ -18,4 +40,17 @@ public interface PlacePlatformSearcher {
    * @return 장소 상세 정보 (place_id, 좌표, 추가 정보 등)
    */
   GooglePlaceSearchDto.PlaceDetail searchPlaceDetail(String placeName, String address, String language);
+
+  /**
+   * 상호명으로 장소 상세 정보 비동기 검색
+   * <p>
+   * 외부 API 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+   *
+   * @param placeName 장소명
+   * @param address   주소 (fallback용, 현재 미사용)
+   * @param language  언어 코드 (ko, en, ja, zh)
+   * @return 장소 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchPlaceDetailAsync(String placeName, String address,
+      String language);
 }
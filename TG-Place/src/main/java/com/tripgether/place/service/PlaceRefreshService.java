@@ -0,0 +1,94 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceRefreshProperties;
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.repository.PlaceRefreshCandidate;
+import com.tripgether.place.repository.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 오래된 장소 백그라운드 갱신 관리
+ * <p>
+ * - PlaceRefreshWorker가 갱신할 장소 점유 및 갱신 결과 반영
+ * - 점유는 refresh_claimed_until 만료 시각으로 관리하여 다른 인스턴스/다음 배치의 중복 갱신 방지
+ * - updated_at은 실제로 갱신된 경우에만 바뀌므로, 갱신 중 종료/실패해도 점유가 만료되면 다시 갱신 대상이 됨
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceRefreshService {
+
+  private final PlaceRepository placeRepository;
+  private final PlaceLookupCache placeLookupCache;
+  private final PlaceRefreshProperties placeRefreshProperties;
+
+  /**
+   * 갱신 대상 장소 점유
+   * <p>
+   * 마지막 갱신 후 place.refresh.stale-after-days가 지난 장소 중 저장한 회원이 많은 순으로
+   * place.refresh.claim-lease-minutes 동안 점유
+   *
+   * @param limit 최대 점유 수
+   * @return 점유한 갱신 대상 목록
+   */
+  @Transactional
+  public List<PlaceRefreshCandidate> claim(int limit) {
+    LocalDateTime now = LocalDateTime.now();
+    List<PlaceRefreshCandidate> candidates = placeRepository.findRefreshCandidatesForUpdate(
+        now.minusDays(placeRefreshProperties.getStaleAfterDays()), now, limit);
+    if (candidates.isEmpty()) {
+      return candidates;
+    }
+
+    placeRepository.updateRefreshClaimedUntil(candidates.stream().map(PlaceRefreshCandidate::getPlaceId).toList(),
+        now.plusMinutes(placeRefreshProperties.getClaimLeaseMinutes()));
+    return candidates;
+  }
+
+  /**
+   * Google 재조회 결과를 Place에 반영하고 (updated_at 갱신) 점유 해제, 장소 검색 캐시 갱신 (커밋 이후)
+   *
+   * @param placeId     Place ID
+   * @param placeDetail Google Place Details 조회 결과
+   */
+  @Transactional
+  public void apply(UUID placeId, GooglePlaceSearchDto.PlaceDetail placeDetail) {
+    placeRepository.upsertAllByPlatformPlaceId(PlacePlatform.GOOGLE, List.of(placeDetail));
+    placeRepository.updateRefreshClaimedUntil(List.of(placeId), null);
+    placeLookupCache.refreshAll(List.of(placeDetail));
+  }
+
+  /**
+   * 갱신하지 못한 장소의 점유 반납 (다음 배치에서 다시 갱신 대상이 됨)
+   *
+   * @param placeIds 반납할 Place ID 목록
+   */
+  @Transactional
+  public void release(Collection<UUID> placeIds) {
+    if (placeIds.isEmpty()) {
+      return;
+    }
+    placeRepository.updateRefreshClaimedUntil(placeIds, null);
+    log.info("Released {} place refresh claims", placeIds.size());
+  }
+
+  /**
+   * Google에서 더 이상 찾을 수 없는 장소의 점유를 다음 갱신 주기까지 연장 (마지막 갱신 시각은 유지)
+   *
+   * @param placeId Place ID
+   */
+  @Transactional
+  public void postpone(UUID placeId) {
+    LocalDateTime nextCheckAt = LocalDateTime.now().plusDays(placeRefreshProperties.getStaleAfterDays());
+    placeRepository.updateRefreshClaimedUntil(List.of(placeId), nextCheckAt);
+  }
+}
@@ -0,0 +1,163 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.PlaceRefreshProperties;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.repository.PlaceRefreshCandidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 오래된 장소 백그라운드 갱신 Worker (Refresh-ahead)
+ * <p>
+ * - 사용자 검색 경로에서는 항상 DB 값을 사용하고, 오래된 장소는 이 Worker가 Google Place Details API로 재조회하여 갱신
+ * - 저장한 회원이 많은 장소부터 배치 단위로 점유 후 순차 갱신
+ * - 갱신 호출 간격은 place.search.google-qps * place.refresh.quota-share 기준으로 조절 (사용자 검색 호출 한도 우선)
+ * - 호출 한도 초과, Circuit Breaker OPEN, API Key 오류 시 남은 장소는 반납하고 다음 배치에서 재시도
+ * - place_id가 더 이상 유효하지 않은 장소는 다음 주기까지 갱신 대상에서 제외 (마지막 갱신 시각은 유지)
+ * - 그 외 실패나 배치 중 종료 시에는 점유가 만료된 뒤 다시 갱신 대상이 됨
+ * - 지표: place.refresh (result=refreshed|not_found|deferred|failed)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceRefreshWorker {
+
+  // 배치를 중단하고 남은 장소를 반납하는 오류 (잠시 후 다시 시도하면 성공할 수 있음)
+  private static final Set<ErrorCode> DEFER_ERROR_CODES = Set.of(
+      ErrorCode.GOOGLE_PLACE_RATE_LIMITED,
+      ErrorCode.GOOGLE_PLACE_CIRCUIT_OPEN,
+      ErrorCode.INVALID_API_KEY
+  );
+
+  private final PlaceRefreshService placeRefreshService;
+  private final GooglePlaceSearcher googlePlaceSearcher;
+  private final PlaceRefreshProperties placeRefreshProperties;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final MeterRegistry meterRegistry;
+
+  // 갱신 배치 실행용 Virtual Thread Executor (스케줄러 스레드를 점유하지 않음)
+  private final ExecutorService refreshExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  // 이전 배치가 끝나지 않았으면 새 배치를 시작하지 않음
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  /**
+   * 갱신 배치 시작
+   */
+  @Scheduled(fixedDelayString = "${place.refresh.interval-ms:60000}")
+  public void refreshStalePlaces() {
+    if (!placeRefreshProperties.isEnabled() || !running.compareAndSet(false, true)) {
+      return;
+    }
+
+    refreshExecutor.execute(() -> {
+      try {
+        refreshBatch();
+      } catch (Exception e) {
+        log.error("Place refresh batch failed: {}", e.getMessage(), e);
+      } finally {
+        running.set(false);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    refreshExecutor.shutdownNow();
+  }
+
+  // 배치 1회: 점유한 장소를 호출 간격을 두고 순차 갱신
+  private void refreshBatch() throws InterruptedException {
+    List<PlaceRefreshCandidate> candidates = placeRefreshService.claim(placeRefreshProperties.getBatchSize());
+    if (candidates.isEmpty()) {
+      return;
+    }
+    log.info("Refreshing {} stale places", candidates.size());
+
+    long pauseMs = pauseMillis();
+    for (int i = 0; i < candidates.size(); i++) {
+      PlaceRefreshCandidate candidate = candidates.get(i);
+      ErrorCode errorCode = refresh(candidate);
+
+      if (errorCode != null && DEFER_ERROR_CODES.contains(errorCode)) {
+        List<PlaceRefreshCandidate> remaining = candidates.subList(i, candidates.size());
+        placeRefreshService.release(remaining.stream().map(PlaceRefreshCandidate::getPlaceId).toList());
+        count("deferred", remaining.size());
+        log.warn("Place refresh batch deferred: errorCode={}, remaining={}", errorCode, remaining.size());
+        return;
+      }
+
+      if (i < candidates.size() - 1) {
+        Thread.sleep(pauseMs);
+      }
+    }
+  }
+
+  /**
+   * 장소 1건 갱신
+   *
+   * @return 실패 시 ErrorCode (성공하면 null)
+   */
+  private ErrorCode refresh(PlaceRefreshCandidate candidate) {
+    try {
+      GooglePlaceSearchDto.PlaceDetail placeDetail =
+          googlePlaceSearcher.refreshPlaceDetailAsync(candidate.getGooglePlaceId()).join();
+      placeRefreshService.apply(candidate.getPlaceId(), placeDetail);
+      count("refreshed", 1);
+      log.info("Place refreshed: placeId={}, googlePlaceId={}", candidate.getPlaceId(), candidate.getGooglePlaceId());
+      return null;
+    } catch (Exception e) {
+      Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+      ErrorCode errorCode = cause instanceof CustomException customException ? customException.getErrorCode() : null;
+
+      if (errorCode == ErrorCode.GOOGLE_PLACE_NOT_FOUND) {
+        // 다음 주기까지 다시 조회하지 않음
+        postpone(candidate);
+        count("not_found", 1);
+        log.warn("Place no longer found on Google: placeId={}, googlePlaceId={}",
+            candidate.getPlaceId(), candidate.getGooglePlaceId());
+      } else if (errorCode == null || !DEFER_ERROR_CODES.contains(errorCode)) {
+        count("failed", 1);
+        log.error("Place refresh failed: placeId={}, error={}", candidate.getPlaceId(), cause.getMessage());
+      }
+      return errorCode;
+    }
+  }
+
+  private void postpone(PlaceRefreshCandidate candidate) {
+    try {
+      placeRefreshService.postpone(candidate.getPlaceId());
+    } catch (Exception e) {
+      log.warn("Place refresh postpone failed: placeId={}, error={}", candidate.getPlaceId(), e.getMessage());
+    }
+  }
+
+  // 갱신 호출 간격 (밀리초)
+  private long pauseMillis() {
+    double refreshQps = placeSearchProperties.getGoogleQps() * placeRefreshProperties.getQuotaShare();
+    return refreshQps > 0 ? (long) Math.ceil(1000 / refreshQps) : 1000;
+  }
+
+  private void count(String result, int amount) {
+    Counter.builder("place.refresh")
+        .description("오래된 장소 백그라운드 갱신 결과")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment(amount);
+  }
+}
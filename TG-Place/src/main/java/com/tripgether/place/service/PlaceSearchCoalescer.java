@@ -0,0 +1,266 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 동일 장소 동시 검색 병합 (Single-flight)
+ * <p>
+ * - 인스턴스 내: 같은 키의 동시 요청은 하나의 진행 중 CompletableFuture를 공유
+ * - 인스턴스 간: Redis 임대(SET NX PX)를 획득한 인스턴스만 실제 검색을 수행하고,
+ * 나머지는 임대가 풀릴 때까지 기다렸다가 공유 캐시(Redis)의 결과를 사용
+ * - 대기 시간 초과 또는 Redis 장애 시에는 직접 검색 (검색 자체는 항상 수행 가능)
+ * - 임대 대기는 지연 실행으로 처리하여 호출 스레드를 점유하지 않음
+ * - 요청마다 결과 Future 사본을 반환하고, 모든 사본이 취소되면 진행 중인 검색(외부 API 호출, 임대 대기)도 취소
+ * - Redis 조회/임대 해제 등 후속 작업은 PlaceSearchExecutor에서 실행 (OkHttp 콜백 스레드, commonPool 미사용)
+ * - 지표: place.lookup.singleflight (result=leader|local_shared|remote_shared|fallback)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PlaceSearchCoalescer {
+
+  private static final String LEASE_KEY_SUFFIX = ":lease";
+
+  // 임대 소유자만 삭제 (다른 인스턴스가 재획득한 임대는 유지)
+  private static final DefaultRedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+      "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+      Long.class);
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final PlaceSearchProperties placeSearchProperties;
+  private final PlaceSearchExecutor placeSearchExecutor;
+  private final MeterRegistry meterRegistry;
+
+  // 인스턴스 내 진행 중 검색 (lookupKey -> 진행 중 검색)
+  private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 동일 키의 동시 검색을 하나로 병합하여 비동기 실행
+   * <p>
+   * 다른 인스턴스의 임대 해제 대기는 지연 실행으로 처리하여 호출 스레드를 점유하지 않음
+   * 반환된 Future를 취소하면 이 요청만 대기에서 빠지고, 같은 검색을 기다리는 요청이 모두 취소되면 검색도 취소
+   *
+   * @param lookupKey    검색 키 (PlaceLookupCache 캐시 키)
+   * @param sharedResult 다른 인스턴스가 저장한 검색 결과 조회 (없으면 null)
+   * @param loader       실제 검색 수행 및 공유 캐시 저장 (비동기, 반환된 Future 취소 시 검색 취소)
+   * @return 장소 상세 정보 Future
+   */
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> executeAsync(String lookupKey,
+      Supplier<GooglePlaceSearchDto.PlaceDetail> sharedResult,
+      Supplier<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> loader) {
+    Flight flight = new Flight();
+    while (true) {
+      Flight existing = inFlight.putIfAbsent(lookupKey, flight);
+      if (existing == null) {
+        break;
+      }
+
+      // 1. 같은 인스턴스에서 진행 중인 검색이 있으면 결과 공유
+      if (existing.join()) {
+        count("local_shared");
+        return waiter(lookupKey, existing);
+      }
+
+      // 모든 요청이 취소되어 중단 중인 검색 - 제거 후 새로 검색
+      inFlight.remove(lookupKey, existing);
+    }
+
+    // 2. 이 요청이 인스턴스 내 대표로 검색 수행
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> waiter = waiter(lookupKey, flight);
+    loadWithLease(lookupKey, sharedResult, loader, flight).whenComplete((placeDetail, error) -> {
+      inFlight.remove(lookupKey, flight);
+      if (error != null) {
+        flight.result.completeExceptionally(unwrap(error));
+      } else {
+        flight.result.complete(placeDetail);
+      }
+    });
+    return waiter;
+  }
+
+  /**
+   * 진행 중 검색의 결과 사본 생성
+   * <p>
+   * 사본이 취소되면 대기 요청 수를 줄이고, 마지막 대기 요청이면 검색 취소
+   */
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> waiter(String lookupKey, Flight flight) {
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> copy = flight.result.copy();
+    copy.whenComplete((placeDetail, error) -> {
+      if (copy.isCancelled() && flight.waiters.decrementAndGet() == 0) {
+        inFlight.remove(lookupKey, flight);
+        flight.cancel();
+      }
+    });
+    return copy;
+  }
+
+  /**
+   * Redis 임대를 획득한 경우에만 검색 수행
+   * <p>
+   * 임대를 획득하지 못하면 임대가 풀릴 때까지 대기 후 공유 캐시 결과 사용
+   */
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loadWithLease(String lookupKey,
+      Supplier<GooglePlaceSearchDto.PlaceDetail> sharedResult,
+      Supplier<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> loader,
+      Flight flight) {
+    String leaseKey = lookupKey + LEASE_KEY_SUFFIX;
+    String leaseToken = UUID.randomUUID().toString();
+    long leaseMs = placeSearchProperties.getSingleFlightLeaseMs();
+
+    Boolean acquired;
+    try {
+      acquired = stringRedisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken, Duration.ofMillis(leaseMs));
+    } catch (Exception e) {
+      log.warn("Place search lease unavailable, searching directly: {}", e.getMessage());
+      count("fallback");
+      return load(loader, flight);
+    }
+
+    // 임대 획득 - 클러스터 내 대표로 검색 수행
+    if (Boolean.TRUE.equals(acquired)) {
+      count("leader");
+      return load(loader, flight).whenCompleteAsync((placeDetail, error) -> releaseLease(leaseKey, leaseToken),
+          placeSearchExecutor.executor());
+    }
+
+    // 다른 인스턴스가 검색 중 - 임대가 풀릴 때까지 대기 후 공유 결과 사용
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs);
+    CompletableFuture<Boolean> released = new CompletableFuture<>();
+    awaitLeaseRelease(leaseKey, deadline, released, flight);
+
+    return released.thenComposeAsync(isReleased -> {
+      if (isReleased) {
+        GooglePlaceSearchDto.PlaceDetail placeDetail = sharedResult.get();
+        if (placeDetail != null) {
+          count("remote_shared");
+          return CompletableFuture.completedFuture(placeDetail);
+        }
+      }
+
+      // 대기 시간 초과 또는 다른 인스턴스의 검색 실패 - 직접 검색
+      count("fallback");
+      return load(loader, flight);
+    }, placeSearchExecutor.executor());
+  }
+
+  /**
+   * 임대 해제 대기 (지연 실행으로 주기 확인)
+   * <p>
+   * 제한 시간 안에 임대가 해제되면 true, 초과하거나 Redis 확인에 실패하면 false로 완료
+   * 검색이 취소되면 더 이상 확인하지 않고 false로 완료 (이후 load도 취소된 Future 반환)
+   */
+  private void awaitLeaseRelease(String leaseKey, long deadline, CompletableFuture<Boolean> released,
+      Flight flight) {
+    if (flight.cancelled) {
+      released.complete(false);
+      return;
+    }
+    try {
+      if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(leaseKey))) {
+        released.complete(true);
+        return;
+      }
+    } catch (Exception e) {
+      log.warn("Place search lease check failed: {}", e.getMessage());
+      released.complete(false);
+      return;
+    }
+
+    if (System.nanoTime() >= deadline) {
+      released.complete(false);
+      return;
+    }
+
+    long pollIntervalMs = Math.max(10, placeSearchProperties.getSingleFlightPollIntervalMs());
+    placeSearchExecutor.delayed(pollIntervalMs, TimeUnit.MILLISECONDS)
+        .execute(() -> awaitLeaseRelease(leaseKey, deadline, released, flight));
+  }
+
+  // loader 동기 예외도 실패한 Future로 변환 (이미 취소된 검색이면 loader를 호출하지 않음)
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> load(
+      Supplier<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> loader, Flight flight) {
+    if (flight.cancelled) {
+      return CompletableFuture.failedFuture(new CancellationException());
+    }
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loading;
+    try {
+      loading = loader.get();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    flight.loading = loading;
+    // loader 호출 중 취소된 경우
+    if (flight.cancelled) {
+      loading.cancel(true);
+    }
+    return loading;
+  }
+
+  private Throwable unwrap(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  private void releaseLease(String leaseKey, String leaseToken) {
+    try {
+      stringRedisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+    } catch (Exception e) {
+      // 해제 실패 시 임대는 TTL로 자동 만료
+      log.warn("Place search lease release failed: {}", e.getMessage());
+    }
+  }
+
+  private void count(String result) {
+    Counter.builder("place.lookup.singleflight")
+        .description("장소 검색 병합 결과")
+        .tag("result", result)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * 인스턴스 내 진행 중 검색 1건
+   */
+  private static final class Flight {
+
+    private final CompletableFuture<GooglePlaceSearchDto.PlaceDetail> result = new CompletableFuture<>();
+
+    // 취소되지 않은 결과 사본 수 (대표 요청 포함, 0이 되면 검색 취소 후 더 이상 공유하지 않음)
+    private final AtomicInteger waiters = new AtomicInteger(1);
+
+    private volatile CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loading;
+    private volatile boolean cancelled;
+
+    // 대기 요청으로 합류 (이미 모든 요청이 취소된 검색이면 false)
+    private boolean join() {
+      return waiters.getAndUpdate(count -> count == 0 ? 0 : count + 1) > 0;
+    }
+
+    private void cancel() {
+      cancelled = true;
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> current = loading;
+      if (current != null) {
+        current.cancel(true);
+      }
+    }
+  }
+}
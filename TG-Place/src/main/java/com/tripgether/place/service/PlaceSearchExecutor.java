@@ -0,0 +1,46 @@
+package com.tripgether.place.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 장소 검색 비동기 후속 작업 실행기 (Virtual Thread)
+ * <p>
+ * - 장소 검색 Future의 후속 작업에는 Redis/DB 조회 같은 블로킹 호출이 포함됨
+ * - ForkJoinPool.commonPool이나 OkHttp 콜백 스레드 대신 이 실행기에서 실행하여 공용 스레드를 점유하지 않음
+ * - 지연 실행(임대 대기, 토큰 대기, backoff, Hedged Request)도 만료 후 이 실행기에서 실행
+ */
+@Component
+public class PlaceSearchExecutor {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  /**
+   * 후속 작업 실행기
+   */
+  public Executor executor() {
+    return executor;
+  }
+
+  /**
+   * 지정한 시간 이후 이 실행기에서 실행하는 지연 실행기
+   *
+   * @param delay 지연 시간
+   * @param unit  시간 단위
+   * @return 지연 실행기
+   */
+  public Executor delayed(long delay, TimeUnit unit) {
+    return CompletableFuture.delayedExecutor(delay, unit, executor);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+}
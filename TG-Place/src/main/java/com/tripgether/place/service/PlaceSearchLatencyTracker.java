@@ -0,0 +1,91 @@
+package com.tripgether.place.service;
+
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.constant.PlacePlatform;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼별 장소 검색 응답 시간 추적
+ * <p>
+ * - 플랫폼마다 최근 place.search.hedge-latency-sample-size개의 외부 API 응답 시간을 보관하여 p95 계산
+ * - 표본이 place.search.hedge-latency-min-samples보다 적으면 p95를 알 수 없음(-1)
+ * - 지표: place.search.latency.p95 (platform)
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaceSearchLatencyTracker {
+
+  private final PlaceSearchProperties placeSearchProperties;
+  private final MeterRegistry meterRegistry;
+
+  private final Map<PlacePlatform, LatencyWindow> windows = new ConcurrentHashMap<>();
+
+  /**
+   * 외부 API 응답 시간 기록
+   *
+   * @param platform      플랫폼
+   * @param durationNanos 응답 시간 (나노초)
+   */
+  public void record(PlacePlatform platform, long durationNanos) {
+    windows.computeIfAbsent(platform, this::createWindow)
+        .add(TimeUnit.NANOSECONDS.toMillis(durationNanos));
+  }
+
+  /**
+   * 최근 응답 시간 p95
+   *
+   * @param platform 플랫폼
+   * @return p95 응답 시간 (밀리초), 표본이 부족하면 -1
+   */
+  public long p95Millis(PlacePlatform platform) {
+    LatencyWindow window = windows.get(platform);
+    return window != null ? window.percentile(0.95, placeSearchProperties.getHedgeLatencyMinSamples()) : -1;
+  }
+
+  private LatencyWindow createWindow(PlacePlatform platform) {
+    LatencyWindow window = new LatencyWindow(Math.max(1, placeSearchProperties.getHedgeLatencySampleSize()));
+    Gauge.builder("place.search.latency.p95", window, w -> w.percentile(0.95, 1))
+        .description("플랫폼별 장소 검색 외부 API 응답 시간 p95 (밀리초)")
+        .tag("platform", platform.name())
+        .register(meterRegistry);
+    return window;
+  }
+
+  /**
+   * 최근 응답 시간 고정 크기 원형 버퍼
+   */
+  private static final class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int count;
+
+    private LatencyWindow(int size) {
+      this.samples = new long[size];
+    }
+
+    private synchronized void add(long durationMs) {
+      samples[next] = durationMs;
+      next = (next + 1) % samples.length;
+      count = Math.min(count + 1, samples.length);
+    }
+
+    private synchronized long percentile(double percentile, int minSamples) {
+      if (count == 0 || count < minSamples) {
+        return -1;
+      }
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile * count) - 1;
+      return sorted[Math.max(0, Math.min(index, count - 1))];
+    }
+  }
+}
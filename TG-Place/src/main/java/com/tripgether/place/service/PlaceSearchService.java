@@ -1,21 +1,40 @@
 package com.tripgether.place.service;
 
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
 import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.dto.PlaceSearchQuery;
+import com.tripgether.place.dto.PlaceSearchResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * 장소 검색 서비스
  * <p>
  * Google Places API를 통한 장소 검색 기능을 제공
+ * 검색 결과는 PlaceLookupCache(로컬 + Redis)에 캐싱하여 동일 장소 재검색 시 DB/외부 API 조회 생략
+ * 캐시 miss인 동일 장소의 동시 검색은 PlaceSearchCoalescer로 병합하여 외부 API를 한 번만 호출
+ * 외부 API 응답 대기는 비동기(CompletableFuture)로 처리하여 검색 건수만큼 스레드를 점유하지 않음
+ * Google 응답이 느리면 HedgedPlaceSearcher가 다른 플랫폼(Kakao)에 Hedged Request를 보내 먼저 온 결과 사용
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PlaceSearchService {
 
-  private final GooglePlaceSearcher googlePlaceSearcher;
+  private final HedgedPlaceSearcher hedgedPlaceSearcher;
+  private final PlaceLookupCache placeLookupCache;
+  private final PlaceSearchCoalescer placeSearchCoalescer;
+  private final PlaceSearchExecutor placeSearchExecutor;
 
   /**
    * Google 플랫폼으로 장소 검색
@@ -29,7 +48,180 @@ public class PlaceSearchService {
       String placeName,
       String address,
       String language) {
+    try {
+      return searchGooglePlaceAsync(placeName, address, language).join();
+    } catch (CompletionException e) {
+      throw toRuntimeException(e);
+    }
+  }
+
+  /**
+   * Google 플랫폼으로 장소 비동기 검색
+   *
+   * @param placeName 장소명
+   * @param address   주소
+   * @param language  언어 코드
+   * @return 장소 상세 정보 Future (실패 시 CustomException으로 완료)
+   */
+  public CompletableFuture<GooglePlaceSearchDto.PlaceDetail> searchGooglePlaceAsync(
+      String placeName,
+      String address,
+      String language) {
+
+    // 1. 캐시 조회 (로컬 -> Redis)
+    GooglePlaceSearchDto.PlaceDetail cachedPlaceDetail = placeLookupCache.get(placeName, address, language);
+    if (cachedPlaceDetail != null) {
+      log.debug("Place lookup cache hit: name={}, placeId={}", placeName, cachedPlaceDetail.getPlaceId());
+      return CompletableFuture.completedFuture(cachedPlaceDetail);
+    }
+
+    // 2. 캐시 miss - 동일 장소 동시 검색을 병합하여 DB/Google Places API 검색 후 캐시에 저장
+    // 병합된 요청이 모두 취소되면 PlaceSearchCoalescer가 loader Future를 취소하고, 이 취소는 외부 API 호출까지 전달됨
+    return placeSearchCoalescer.executeAsync(
+        placeLookupCache.buildLookupKey(placeName, address, language),
+        () -> placeLookupCache.get(placeName, address, language),
+        () -> {
+          CompletableFuture<GooglePlaceSearchDto.PlaceDetail> search =
+              hedgedPlaceSearcher.searchPlaceDetailAsync(placeName, address, language);
+          CompletableFuture<GooglePlaceSearchDto.PlaceDetail> cached = search.thenApplyAsync(placeDetail -> {
+            // 캐시 저장(Redis)은 OkHttp 콜백 스레드가 아닌 검색 실행기에서 수행
+            placeLookupCache.put(placeName, address, language, placeDetail);
+            return placeDetail;
+          }, placeSearchExecutor.executor());
+          cached.whenComplete((placeDetail, error) -> {
+            if (cached.isCancelled()) {
+              search.cancel(true);
+            }
+          });
+          return cached;
+        });
+  }
+
+  /**
+   * Google 플랫폼으로 장소 일괄 비동기 검색
+   * <p>
+   * - 최대 maxConcurrency개의 검색을 동시에 진행하고, 하나가 끝나면 다음 검색 시작
+   * - 모든 검색이 끝나거나 제한 시간이 지나면 완료 (제한 시간을 넘긴 검색은 취소 후 실패로 처리)
+   *
+   * @param queries        검색할 장소 목록
+   * @param maxConcurrency 최대 동시 검색 수
+   * @param timeout        전체 검색 제한 시간
+   * @return 입력 순서와 동일한 장소별 검색 결과 Future (항상 정상 완료)
+   */
+  public CompletableFuture<List<PlaceSearchResult>> searchGooglePlacesAsync(
+      List<PlaceSearchQuery> queries,
+      int maxConcurrency,
+      Duration timeout) {
+    if (queries.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+
+    List<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> lookups = new ArrayList<>(queries.size());
+    for (int i = 0; i < queries.size(); i++) {
+      lookups.add(new CompletableFuture<>());
+    }
+
+    // 동시 검색 수만큼 시작 (각 검색 완료 시 다음 검색 시작)
+    AtomicInteger nextIndex = new AtomicInteger();
+    int workers = Math.min(Math.max(1, maxConcurrency), queries.size());
+    for (int i = 0; i < workers; i++) {
+      startNextLookup(queries, lookups, nextIndex);
+    }
+
+    return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+        .completeOnTimeout(null, timeout.toNanos(), TimeUnit.NANOSECONDS)
+        .handle((ignored, error) -> collectResults(queries, lookups));
+  }
+
+  /**
+   * 아직 시작하지 않은 다음 검색 시작 (제한 시간 초과로 이미 종료된 항목은 건너뜀)
+   * <p>
+   * - 즉시 완료된 검색(캐시/DB 히트)은 반복문으로 이어서 처리하여 재귀 호출로 스택이 깊어지지 않음
+   * - 진행 중인 검색이 끝나면 검색 실행기에서 다음 검색 시작 (OkHttp 콜백 스레드에서 DB/Redis 조회하지 않음)
+   */
+  private void startNextLookup(List<PlaceSearchQuery> queries,
+      List<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> lookups,
+      AtomicInteger nextIndex) {
+    while (true) {
+      int index = nextIndex.getAndIncrement();
+      if (index >= queries.size()) {
+        return;
+      }
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> lookup = lookups.get(index);
+      if (lookup.isDone()) {
+        continue;
+      }
+
+      PlaceSearchQuery query = queries.get(index);
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> search;
+      try {
+        search = searchGooglePlaceAsync(query.getPlaceName(), query.getAddress(), query.getLanguage());
+      } catch (RuntimeException e) {
+        search = CompletableFuture.failedFuture(e);
+      }
+
+      if (search.isDone()) {
+        completeLookup(lookup, search);
+        continue;
+      }
+
+      // 제한 시간 초과로 결과 슬롯이 취소되면 진행 중인 검색도 취소
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> running = search;
+      lookup.whenComplete((placeDetail, error) -> {
+        if (lookup.isCancelled()) {
+          running.cancel(true);
+        }
+      });
+
+      search.whenCompleteAsync((placeDetail, error) -> {
+        completeLookup(lookup, running);
+        startNextLookup(queries, lookups, nextIndex);
+      }, placeSearchExecutor.executor());
+      return;
+    }
+  }
+
+  // 완료된 검색 결과를 결과 슬롯에 반영
+  private void completeLookup(CompletableFuture<GooglePlaceSearchDto.PlaceDetail> lookup,
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> search) {
+    switch (search.state()) {
+      case SUCCESS -> lookup.complete(search.resultNow());
+      case FAILED -> lookup.completeExceptionally(toRuntimeException(search.exceptionNow()));
+      default -> lookup.completeExceptionally(new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR));
+    }
+  }
+
+  // 입력 순서대로 결과 수집 (끝나지 않은 검색은 취소 후 실패 처리)
+  private List<PlaceSearchResult> collectResults(List<PlaceSearchQuery> queries,
+      List<CompletableFuture<GooglePlaceSearchDto.PlaceDetail>> lookups) {
+    List<PlaceSearchResult> results = new ArrayList<>(lookups.size());
+
+    for (int i = 0; i < lookups.size(); i++) {
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> lookup = lookups.get(i);
+      lookup.cancel(true);
+
+      switch (lookup.state()) {
+        case SUCCESS -> results.add(new PlaceSearchResult(lookup.resultNow(), null));
+        case FAILED -> {
+          RuntimeException failure = toRuntimeException(lookup.exceptionNow());
+          log.error("Failed to resolve place {}/{}: name={}, error={}",
+              i + 1, lookups.size(), queries.get(i).getPlaceName(), failure.getMessage());
+          results.add(new PlaceSearchResult(null, failure));
+        }
+        default -> {
+          log.error("Timed out resolving place {}/{}: name={}", i + 1, lookups.size(), queries.get(i).getPlaceName());
+          results.add(new PlaceSearchResult(null, new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR)));
+        }
+      }
+    }
+    return results;
+  }
 
-    return googlePlaceSearcher.searchPlaceDetail(placeName, address, language);
+  // CompletableFuture 조합 과정에서 감싸진 예외를 RuntimeException으로 변환
+  private RuntimeException toRuntimeException(Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    return cause instanceof RuntimeException runtimeException
+        ? runtimeException
+        : new CustomException(ErrorCode.GOOGLE_PLACE_API_ERROR);
   }
 }
@@ -0,0 +1,21 @@
+package com.tripgether.place.service;
+
+import java.util.List;
+
+/**
+ * 장소 검색 플랫폼 선택 전략
+ * <p>
+ * HedgedPlaceSearcher가 검색마다 사용할 플랫폼과 우선순위를 결정
+ */
+public interface PlaceSearcherSelector {
+
+  /**
+   * 검색에 사용할 플랫폼 선택
+   *
+   * @param placeName 장소명
+   * @param address   주소
+   * @param language  언어 코드 (ko, en, ja, zh)
+   * @return 우선순위 순서의 검색기 목록 (첫 번째: 기본 검색, 두 번째: Hedged Request 대상)
+   */
+  List<PlacePlatformSearcher> select(String placeName, String address, String language);
+}
@@ -0,0 +1,302 @@
+package com.tripgether.place.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 국가 경계 다각형 기반 좌표 -> 국가 코드 변환 (오프라인 Reverse Geocoding)
+ * <p>
+ * 전 세계를 위경도 격자로 나누고 셀마다 결과를 미리 계산하여 조회 시 대부분 배열 조회 1회로 끝남
+ * - 내부 셀: 경계선이 지나가지 않는 셀은 국가(또는 없음)가 확정되어 바로 반환
+ * - 경계 셀: 셀과 겹치는 다각형 후보만 점-다각형 포함 판정 (ray casting)
+ * - 어느 다각형에도 포함되지 않으면 허용 거리 이내의 가장 가까운 경계의 국가 (단순화된 해안선 오차 보정)
+ * - 다각형이 겹치면 데이터에서 먼저 나온 다각형이 우선
+ * <p>
+ * 데이터 형식 (한 줄에 다각형 1개, # 주석): {@code <국가 코드> <경도,위도> <경도,위도> ...}
+ * <p>
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회 가능
+ */
+public final class CountryBoundaryIndex {
+
+  // 셀 값: 0 이상이면 확정된 다각형 번호, EMPTY면 국가 없음, 그 외는 경계 셀 후보 목록 번호 (-(값 + 2))
+  private static final int EMPTY = -1;
+
+  private final String[] countryCodes;
+  private final double[][] longitudes;
+  private final double[][] latitudes;
+  private final double[][] bounds; // 다각형별 {최소 경도, 최소 위도, 최대 경도, 최대 위도}
+
+  private final double cellDegrees;
+  private final double toleranceDegrees;
+  private final int columns;
+  private final int rows;
+  private final int[] cells;
+  private final int[][] candidateLists;
+
+  private CountryBoundaryIndex(List<String> countryCodes, List<double[]> longitudes, List<double[]> latitudes,
+      double cellDegrees, double toleranceDegrees) {
+    this.countryCodes = countryCodes.toArray(new String[0]);
+    this.longitudes = longitudes.toArray(new double[0][]);
+    this.latitudes = latitudes.toArray(new double[0][]);
+    this.cellDegrees = cellDegrees;
+    this.toleranceDegrees = toleranceDegrees;
+    this.columns = (int) Math.ceil(360 / cellDegrees);
+    this.rows = (int) Math.ceil(180 / cellDegrees);
+
+    this.bounds = new double[this.countryCodes.length][];
+    for (int polygon = 0; polygon < this.countryCodes.length; polygon++) {
+      bounds[polygon] = computeBounds(this.longitudes[polygon], this.latitudes[polygon]);
+    }
+
+    this.cells = new int[columns * rows];
+    List<int[]> candidates = new ArrayList<>();
+    buildCells(candidates);
+    this.candidateLists = candidates.toArray(new int[0][]);
+  }
+
+  /**
+   * 경계 데이터 로드 및 격자 생성
+   *
+   * @param inputStream      경계 데이터 (UTF-8)
+   * @param cellDegrees      격자 셀 크기 (도)
+   * @param toleranceDegrees 다각형 밖 좌표를 가장 가까운 국가로 보정하는 최대 거리 (도)
+   * @return 격자 인덱스
+   * @throws IOException              읽기 실패 시
+   * @throws IllegalArgumentException 데이터 형식이 잘못된 경우
+   */
+  public static CountryBoundaryIndex load(InputStream inputStream, double cellDegrees, double toleranceDegrees)
+      throws IOException {
+    if (cellDegrees <= 0 || toleranceDegrees < 0) {
+      throw new IllegalArgumentException("Invalid grid options: cellDegrees=" + cellDegrees
+          + ", toleranceDegrees=" + toleranceDegrees);
+    }
+
+    List<String> countryCodes = new ArrayList<>();
+    List<double[]> longitudes = new ArrayList<>();
+    List<double[]> latitudes = new ArrayList<>();
+    Map<String, String> internedCodes = new HashMap<>();
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      String line;
+      int lineNumber = 0;
+      while ((line = reader.readLine()) != null) {
+        lineNumber++;
+        line = line.strip();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+
+        String[] tokens = line.split("\\s+");
+        if (tokens[0].length() != 2 || tokens.length < 4) {
+          throw new IllegalArgumentException("Invalid country boundary at line " + lineNumber);
+        }
+
+        double[] polygonLongitudes = new double[tokens.length - 1];
+        double[] polygonLatitudes = new double[tokens.length - 1];
+        for (int i = 1; i < tokens.length; i++) {
+          int comma = tokens[i].indexOf(',');
+          if (comma < 0) {
+            throw new IllegalArgumentException("Invalid coordinate at line " + lineNumber + ": " + tokens[i]);
+          }
+          polygonLongitudes[i - 1] = Double.parseDouble(tokens[i].substring(0, comma));
+          polygonLatitudes[i - 1] = Double.parseDouble(tokens[i].substring(comma + 1));
+        }
+
+        countryCodes.add(internedCodes.computeIfAbsent(tokens[0], code -> code));
+        longitudes.add(polygonLongitudes);
+        latitudes.add(polygonLatitudes);
+      }
+    }
+
+    return new CountryBoundaryIndex(countryCodes, longitudes, latitudes, cellDegrees, toleranceDegrees);
+  }
+
+  /**
+   * 좌표의 국가 코드 조회
+   *
+   * @param latitude  위도
+   * @param longitude 경도
+   * @return ISO 3166-1 alpha-2 국가 코드 (해당 국가가 없으면 null)
+   */
+  public String find(double latitude, double longitude) {
+    if (!(latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180)) {
+      return null;
+    }
+
+    int value = cells[cellIndex(longitude, latitude)];
+    if (value >= 0) {
+      return countryCodes[value];
+    }
+    if (value == EMPTY) {
+      return null;
+    }
+
+    int[] candidates = candidateLists[-(value + 2)];
+    for (int polygon : candidates) {
+      if (contains(polygon, longitude, latitude)) {
+        return countryCodes[polygon];
+      }
+    }
+    return findNearest(candidates, longitude, latitude);
+  }
+
+  /**
+   * 수록된 다각형 수
+   */
+  public int getPolygonCount() {
+    return countryCodes.length;
+  }
+
+  // 셀별 결과 미리 계산
+  private void buildCells(List<int[]> candidates) {
+    // 1. 경계선(+ 허용 거리)이 지나가는 셀 표시
+    BitSet[] edgeCellPolygons = new BitSet[cells.length];
+    for (int polygon = 0; polygon < countryCodes.length; polygon++) {
+      double[] xs = longitudes[polygon];
+      double[] ys = latitudes[polygon];
+      for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+        int minColumn = column(Math.min(xs[i], xs[j]) - toleranceDegrees);
+        int maxColumn = column(Math.max(xs[i], xs[j]) + toleranceDegrees);
+        int minRow = row(Math.min(ys[i], ys[j]) - toleranceDegrees);
+        int maxRow = row(Math.max(ys[i], ys[j]) + toleranceDegrees);
+        for (int row = minRow; row <= maxRow; row++) {
+          for (int column = minColumn; column <= maxColumn; column++) {
+            int cell = row * columns + column;
+            if (edgeCellPolygons[cell] == null) {
+              edgeCellPolygons[cell] = new BitSet(countryCodes.length);
+            }
+            edgeCellPolygons[cell].set(polygon);
+          }
+        }
+      }
+    }
+
+    // 2. 경계 셀은 셀과 겹치는 모든 다각형을 후보로, 내부 셀은 셀 중심으로 국가 확정
+    Map<BitSet, Integer> candidateListIndexes = new HashMap<>();
+    for (int row = 0; row < rows; row++) {
+      double minLatitude = row * cellDegrees - 90;
+      for (int column = 0; column < columns; column++) {
+        double minLongitude = column * cellDegrees - 180;
+        int cell = row * columns + column;
+
+        if (edgeCellPolygons[cell] == null) {
+          cells[cell] = findContaining(minLongitude + cellDegrees / 2, minLatitude + cellDegrees / 2);
+          continue;
+        }
+
+        BitSet overlapping = new BitSet(countryCodes.length);
+        for (int polygon = 0; polygon < countryCodes.length; polygon++) {
+          double[] bound = bounds[polygon];
+          if (bound[0] - toleranceDegrees <= minLongitude + cellDegrees
+              && bound[2] + toleranceDegrees >= minLongitude
+              && bound[1] - toleranceDegrees <= minLatitude + cellDegrees
+              && bound[3] + toleranceDegrees >= minLatitude) {
+            overlapping.set(polygon);
+          }
+        }
+
+        Integer listIndex = candidateListIndexes.get(overlapping);
+        if (listIndex == null) {
+          listIndex = candidates.size();
+          candidates.add(overlapping.stream().toArray());
+          candidateListIndexes.put(overlapping, listIndex);
+        }
+        cells[cell] = -(listIndex + 2);
+      }
+    }
+  }
+
+  // 좌표를 포함하는 첫 번째 다각형 (없으면 EMPTY)
+  private int findContaining(double longitude, double latitude) {
+    for (int polygon = 0; polygon < countryCodes.length; polygon++) {
+      double[] bound = bounds[polygon];
+      if (longitude >= bound[0] && longitude <= bound[2] && latitude >= bound[1] && latitude <= bound[3]
+          && contains(polygon, longitude, latitude)) {
+        return polygon;
+      }
+    }
+    return EMPTY;
+  }
+
+  // 점-다각형 포함 판정 (ray casting)
+  private boolean contains(int polygon, double longitude, double latitude) {
+    double[] bound = bounds[polygon];
+    if (longitude < bound[0] || longitude > bound[2] || latitude < bound[1] || latitude > bound[3]) {
+      return false;
+    }
+
+    double[] xs = longitudes[polygon];
+    double[] ys = latitudes[polygon];
+    boolean inside = false;
+    for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+      if ((ys[i] > latitude) != (ys[j] > latitude)
+          && longitude < (xs[j] - xs[i]) * (latitude - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+        inside = !inside;
+      }
+    }
+    return inside;
+  }
+
+  // 허용 거리 이내에서 가장 가까운 경계의 국가 (경도 차이는 위도에 따라 보정)
+  private String findNearest(int[] candidates, double longitude, double latitude) {
+    double longitudeScale = Math.cos(Math.toRadians(latitude));
+    double nearestDistance = toleranceDegrees * toleranceDegrees;
+    String nearestCode = null;
+
+    for (int polygon : candidates) {
+      double[] xs = longitudes[polygon];
+      double[] ys = latitudes[polygon];
+      for (int i = 0, j = xs.length - 1; i < xs.length; j = i++) {
+        double distance = squaredDistanceToSegment(
+            longitude * longitudeScale, latitude,
+            xs[j] * longitudeScale, ys[j], xs[i] * longitudeScale, ys[i]);
+        if (distance < nearestDistance) {
+          nearestDistance = distance;
+          nearestCode = countryCodes[polygon];
+        }
+      }
+    }
+    return nearestCode;
+  }
+
+  private static double squaredDistanceToSegment(double px, double py, double ax, double ay, double bx, double by) {
+    double dx = bx - ax;
+    double dy = by - ay;
+    double lengthSquared = dx * dx + dy * dy;
+    double t = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+    double cx = ax + t * dx - px;
+    double cy = ay + t * dy - py;
+    return cx * cx + cy * cy;
+  }
+
+  private static double[] computeBounds(double[] xs, double[] ys) {
+    double[] bound = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+    for (int i = 0; i < xs.length; i++) {
+      bound[0] = Math.min(bound[0], xs[i]);
+      bound[1] = Math.min(bound[1], ys[i]);
+      bound[2] = Math.max(bound[2], xs[i]);
+      bound[3] = Math.max(bound[3], ys[i]);
+    }
+    return bound;
+  }
+
+  private int cellIndex(double longitude, double latitude) {
+    return row(latitude) * columns + column(longitude);
+  }
+
+  private int column(double longitude) {
+    return Math.max(0, Math.min(columns - 1, (int) ((longitude + 180) / cellDegrees)));
+  }
+
+  private int row(double latitude) {
+    return Math.max(0, Math.min(rows - 1, (int) ((latitude + 90) / cellDegrees)));
+  }
+}
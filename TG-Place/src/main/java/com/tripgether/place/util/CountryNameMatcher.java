@@ -0,0 +1,116 @@
+package com.tripgether.place.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 주소 문자열 기반 국가 코드 판별 (좌표 기반 판별 실패 시 대체용)
+ * <p>
+ * Google formatted_address는 언어에 따라 국가명이 주소 끝(영어 등) 또는 앞(한국어/일본어/중국어)에 위치
+ * - 끝: 쉼표로 나눈 마지막 구간이 국가명과 정확히 일치해야 함 (우편번호 제거, "US"가 포함된 임의 문자열은 불일치)
+ * - 앞: 비라틴 문자 국가명으로 시작하면 가장 긴 국가명 선택 (예: 인도네시아 > 인도)
+ * - 국가명 표는 JDK Locale의 ISO 국가 목록과 영어/한국어/일본어/중국어 표시명, Google 표기 별칭으로 구성
+ * <p>
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 조회 가능
+ */
+public final class CountryNameMatcher {
+
+  private static final Locale[] NAME_LOCALES = {
+      Locale.ENGLISH, Locale.KOREAN, Locale.JAPANESE, Locale.SIMPLIFIED_CHINESE, Locale.TRADITIONAL_CHINESE
+  };
+
+  // JDK 표시명과 다른 Google 주소 표기
+  private static final Map<String, String> ALIASES = Map.ofEntries(
+      Map.entry("USA", "US"),
+      Map.entry("US", "US"),
+      Map.entry("United States of America", "US"),
+      Map.entry("UK", "GB"),
+      Map.entry("Korea", "KR"),
+      Map.entry("Republic of Korea", "KR"),
+      Map.entry("한국", "KR"),
+      Map.entry("Türkiye", "TR"),
+      Map.entry("Czech Republic", "CZ"),
+      Map.entry("Hong Kong", "HK"),
+      Map.entry("香港", "HK"),
+      Map.entry("홍콩", "HK"),
+      Map.entry("Macau", "MO"),
+      Map.entry("Macao", "MO"),
+      Map.entry("澳門", "MO"),
+      Map.entry("澳门", "MO"),
+      Map.entry("마카오", "MO"),
+      Map.entry("Taiwan", "TW"),
+      Map.entry("台灣", "TW"),
+      Map.entry("台湾", "TW")
+  );
+
+  // 주소 구간 구분자 (쉼표, 전각 쉼표, 일본어 구두점)
+  private static final Pattern SEPARATOR = Pattern.compile("[,，、]");
+
+  // 국가명 뒤에 붙는 우편번호 (예: "Singapore 018956")
+  private static final Pattern TRAILING_POSTAL_CODE = Pattern.compile("[\\s\\d-]+$");
+
+  // 정확히 일치해야 하는 국가명 (소문자) -> 국가 코드
+  private static final Map<String, String> CODES_BY_NAME = new HashMap<>();
+
+  // 주소 앞에서 찾을 비라틴 문자 국가명 -> 국가 코드
+  private static final Map<String, String> CODES_BY_PREFIX = new HashMap<>();
+
+  private static final int MAX_PREFIX_LENGTH;
+
+  static {
+    for (String countryCode : Locale.getISOCountries()) {
+      Locale country = new Locale("", countryCode);
+      for (Locale nameLocale : NAME_LOCALES) {
+        register(country.getDisplayCountry(nameLocale), countryCode);
+      }
+    }
+    ALIASES.forEach(CountryNameMatcher::register);
+    MAX_PREFIX_LENGTH = CODES_BY_PREFIX.keySet().stream().mapToInt(String::length).max().orElse(0);
+  }
+
+  private CountryNameMatcher() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 주소에서 국가 코드 찾기
+   *
+   * @param address Google API의 formatted_address
+   * @return 국가 코드 (ISO 3166-1 alpha-2, 찾지 못하면 null)
+   */
+  public static String find(String address) {
+    if (address == null || address.isBlank()) {
+      return null;
+    }
+
+    // 1. 마지막 구간 (영어 등: "..., Paris, France", "New York, NY 10001, USA")
+    String[] parts = SEPARATOR.split(address.strip());
+    String lastPart = TRAILING_POSTAL_CODE.matcher(parts[parts.length - 1].strip()).replaceAll("");
+    String countryCode = CODES_BY_NAME.get(lastPart.toLowerCase(Locale.ROOT));
+    if (countryCode != null) {
+      return countryCode;
+    }
+
+    // 2. 주소 앞 (한국어/일본어/중국어: "대한민국 서울특별시 ...", "日本、〒100-0005 東京都 ...", "中国北京市...")
+    String head = address.strip();
+    for (int length = Math.min(MAX_PREFIX_LENGTH, head.length()); length >= 2; length--) {
+      countryCode = CODES_BY_PREFIX.get(head.substring(0, length));
+      if (countryCode != null) {
+        return countryCode;
+      }
+    }
+    return null;
+  }
+
+  private static void register(String name, String countryCode) {
+    if (name == null || name.isBlank() || name.equals(countryCode) && !ALIASES.containsKey(name)) {
+      return;
+    }
+    CODES_BY_NAME.putIfAbsent(name.toLowerCase(Locale.ROOT), countryCode);
+    if (name.length() >= 2 && !name.chars().allMatch(ch -> ch < 128)) {
+      CODES_BY_PREFIX.putIfAbsent(name, countryCode);
+    }
+  }
+}
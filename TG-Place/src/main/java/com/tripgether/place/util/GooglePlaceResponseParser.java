@@ -0,0 +1,195 @@
+package com.tripgether.place.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Google Places API (Find Place from Text, Place Details) 응답 Streaming 파서
+ * <p>
+ * 응답 본문을 문자열로 버퍼링하지 않고 InputStream에서 바로 토큰 단위로 읽음
+ * - Place Details 응답의 result 객체는 후보 1개로 취급
+ * - candidates는 첫 번째 항목만 객체로 만들고 나머지는 객체 생성 없이 건너뜀
+ *   (status가 candidates 뒤에 오므로 스트림 끝까지는 읽음)
+ * - photos는 최대 maxPhotos개의 photo_reference만 읽고 나머지(html_attributions 등)는 건너뜀
+ * - 사용하지 않는 필드는 모두 건너뜀
+ */
+public final class GooglePlaceResponseParser {
+
+  private GooglePlaceResponseParser() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 응답 파싱
+   *
+   * @param jsonFactory Jackson JsonFactory (ObjectMapper.getFactory())
+   * @param inputStream 응답 본문
+   * @param maxPhotos   읽을 최대 사진 수
+   * @return 응답 DTO (candidates는 최대 1개)
+   * @throws IOException 읽기 실패 또는 잘못된 JSON일 때
+   */
+  public static GooglePlaceSearchDto parse(JsonFactory jsonFactory, InputStream inputStream, int maxPhotos)
+      throws IOException {
+    try (JsonParser parser = jsonFactory.createParser(inputStream)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new JsonParseException(parser, "Google Places API response is not a JSON object");
+      }
+
+      String status = null;
+      List<GooglePlaceSearchDto.Candidate> candidates = new ArrayList<>(1);
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        JsonToken token = parser.nextToken();
+
+        if ("status".equals(field)) {
+          status = text(parser);
+        } else if ("candidates".equals(field) && token == JsonToken.START_ARRAY) {
+          // 첫 번째 후보만 읽고 나머지는 건너뜀
+          while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (candidates.isEmpty() && parser.currentToken() == JsonToken.START_OBJECT) {
+              candidates.add(parseCandidate(parser, maxPhotos));
+            } else {
+              parser.skipChildren();
+            }
+          }
+        } else if ("result".equals(field) && token == JsonToken.START_OBJECT && candidates.isEmpty()) {
+          // Place Details 응답
+          candidates.add(parseCandidate(parser, maxPhotos));
+        } else {
+          parser.skipChildren();
+        }
+      }
+
+      return new GooglePlaceSearchDto(candidates, status);
+    }
+  }
+
+  private static GooglePlaceSearchDto.Candidate parseCandidate(JsonParser parser, int maxPhotos) throws IOException {
+    GooglePlaceSearchDto.Candidate.CandidateBuilder builder = GooglePlaceSearchDto.Candidate.builder();
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+
+      switch (field) {
+        case "place_id" -> builder.placeId(text(parser));
+        case "name" -> builder.name(text(parser));
+        case "formatted_address" -> builder.formattedAddress(text(parser));
+        case "geometry" -> builder.geometry(parseGeometry(parser));
+        case "types" -> builder.types(parseStrings(parser));
+        case "business_status" -> builder.businessStatus(text(parser));
+        case "icon" -> builder.icon(text(parser));
+        case "photos" -> builder.photos(parsePhotos(parser, maxPhotos));
+        case "rating" -> builder.rating(decimal(parser));
+        case "user_ratings_total" -> {
+          BigDecimal userRatingsTotal = decimal(parser);
+          builder.userRatingsTotal(userRatingsTotal != null ? userRatingsTotal.intValue() : null);
+        }
+        default -> parser.skipChildren();
+      }
+    }
+    return builder.build();
+  }
+
+  private static GooglePlaceSearchDto.Geometry parseGeometry(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_OBJECT) {
+      parser.skipChildren();
+      return null;
+    }
+
+    GooglePlaceSearchDto.Location location = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.currentName();
+      parser.nextToken();
+
+      if ("location".equals(field) && parser.currentToken() == JsonToken.START_OBJECT) {
+        GooglePlaceSearchDto.Location.LocationBuilder builder = GooglePlaceSearchDto.Location.builder();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String locationField = parser.currentName();
+          parser.nextToken();
+          switch (locationField) {
+            case "lat" -> builder.lat(decimal(parser));
+            case "lng" -> builder.lng(decimal(parser));
+            default -> parser.skipChildren();
+          }
+        }
+        location = builder.build();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return GooglePlaceSearchDto.Geometry.builder().location(location).build();
+  }
+
+  private static List<GooglePlaceSearchDto.Photo> parsePhotos(JsonParser parser, int maxPhotos) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+
+    List<GooglePlaceSearchDto.Photo> photos = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      if (photos.size() >= maxPhotos || parser.currentToken() != JsonToken.START_OBJECT) {
+        parser.skipChildren();
+        continue;
+      }
+
+      String photoReference = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        if ("photo_reference".equals(field)) {
+          photoReference = text(parser);
+        } else {
+          parser.skipChildren();
+        }
+      }
+      photos.add(GooglePlaceSearchDto.Photo.builder().photoReference(photoReference).build());
+    }
+    return photos;
+  }
+
+  private static List<String> parseStrings(JsonParser parser) throws IOException {
+    if (parser.currentToken() != JsonToken.START_ARRAY) {
+      parser.skipChildren();
+      return null;
+    }
+
+    List<String> values = new ArrayList<>();
+    while (parser.nextToken() != JsonToken.END_ARRAY) {
+      String value = text(parser);
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    return values;
+  }
+
+  // 문자열/숫자 값 (객체/배열이면 건너뛰고 null)
+  private static String text(JsonParser parser) throws IOException {
+    if (parser.currentToken().isScalarValue()) {
+      return parser.getValueAsString();
+    }
+    parser.skipChildren();
+    return null;
+  }
+
+  // 숫자 값 (숫자가 아니면 건너뛰고 null)
+  private static BigDecimal decimal(JsonParser parser) throws IOException {
+    if (parser.currentToken().isNumeric()) {
+      return parser.getDecimalValue();
+    }
+    parser.skipChildren();
+    return null;
+  }
+}
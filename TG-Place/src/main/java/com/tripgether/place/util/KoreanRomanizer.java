@@ -0,0 +1,118 @@
+package com.tripgether.place.util;
+
+/**
+ * 한글 로마자 변환 (국어의 로마자 표기법 기반 단순화 규칙)
+ * <p>
+ * 장소명/주소 정규화 키 생성용으로 한글 표기와 영문 표기를 같은 문자열로 맞추는 것이 목적
+ * - 음절 단위로 초성/중성/종성 변환 (강남 -> gangnam, 해운대 -> haeundae)
+ * - 종성 뒤에 모음으로 시작하는 음절이 오면 종성을 초성 표기로 변환 (한국어 -> hangugeo)
+ * - 자음 동화 일부 반영: ㄴ/ㄹ + ㄹ -> ll (신림 -> sillim), ㅁ/ㅇ + ㄹ -> n (종로 -> jongno)
+ * - 그 외 예외 표기는 name-aliases.txt 별칭으로 보정
+ * - 한글 음절이 아닌 문자는 그대로 유지
+ */
+public final class KoreanRomanizer {
+
+  private static final char HANGUL_BEGIN = '가';
+  private static final char HANGUL_END = '힣';
+
+  private static final String[] INITIALS = {
+      "g", "kk", "n", "d", "tt", "r", "m", "b", "pp", "s", "ss", "", "j", "jj", "ch", "k", "t", "p", "h"
+  };
+
+  private static final String[] MEDIALS = {
+      "a", "ae", "ya", "yae", "eo", "e", "yeo", "ye", "o", "wa", "wae", "oe", "yo", "u", "wo", "we", "wi", "yu",
+      "eu", "ui", "i"
+  };
+
+  // 다음 음절이 자음으로 시작하거나 단어 끝일 때의 종성 표기
+  private static final String[] FINALS = {
+      "", "k", "k", "k", "n", "n", "n", "t", "l", "k", "m", "l", "l", "l", "p", "l", "m", "p", "p", "t", "t", "ng",
+      "t", "t", "k", "t", "p", "t"
+  };
+
+  // 다음 음절이 모음(초성 ㅇ)으로 시작할 때의 종성 표기 (연음)
+  private static final String[] FINALS_BEFORE_VOWEL = {
+      "", "g", "kk", "gs", "n", "nj", "nh", "d", "r", "lg", "lm", "lb", "ls", "lt", "lp", "lh", "m", "b", "bs", "s",
+      "ss", "ng", "j", "ch", "k", "t", "p", "h"
+  };
+
+  private static final int INITIAL_SILENT = 11;  // ㅇ
+  private static final int INITIAL_RIEUL = 5;    // ㄹ
+  private static final int FINAL_NIEUN = 4;      // ㄴ
+  private static final int FINAL_RIEUL = 8;      // ㄹ
+  private static final int FINAL_MIEUM = 16;     // ㅁ
+  private static final int FINAL_IEUNG = 21;     // ㅇ
+
+  private KoreanRomanizer() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 문자열에 한글 음절이 포함되어 있는지 확인
+   */
+  public static boolean containsHangul(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (isHangul(value.charAt(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 한글 음절을 로마자로 변환
+   *
+   * @param value 원본 문자열
+   * @return 로마자 변환 문자열 (소문자)
+   */
+  public static String romanize(String value) {
+    if (!containsHangul(value)) {
+      return value;
+    }
+
+    StringBuilder result = new StringBuilder(value.length() * 3);
+    for (int i = 0; i < value.length(); i++) {
+      char current = value.charAt(i);
+      if (!isHangul(current)) {
+        result.append(current);
+        continue;
+      }
+
+      int syllable = current - HANGUL_BEGIN;
+      int initial = syllable / (21 * 28);
+      int medial = syllable % (21 * 28) / 28;
+      int finalConsonant = syllable % 28;
+
+      // 앞 음절 종성이 ㄴ/ㄹ이면 ㄹ 초성은 l로 표기 (종성 쪽에서 l 처리)
+      String initialText = INITIALS[initial];
+      if (initial == INITIAL_RIEUL && i > 0 && isHangul(value.charAt(i - 1))) {
+        int previousFinal = (value.charAt(i - 1) - HANGUL_BEGIN) % 28;
+        if (previousFinal == FINAL_NIEUN || previousFinal == FINAL_RIEUL) {
+          initialText = "l";
+        } else if (previousFinal == FINAL_MIEUM || previousFinal == FINAL_IEUNG) {
+          initialText = "n";
+        }
+      }
+      result.append(initialText).append(MEDIALS[medial]);
+
+      if (finalConsonant == 0) {
+        continue;
+      }
+      int nextInitial = i + 1 < value.length() && isHangul(value.charAt(i + 1))
+          ? (value.charAt(i + 1) - HANGUL_BEGIN) / (21 * 28)
+          : -1;
+      if (nextInitial == INITIAL_SILENT) {
+        result.append(FINALS_BEFORE_VOWEL[finalConsonant]);
+      } else if (nextInitial == INITIAL_RIEUL && finalConsonant == FINAL_NIEUN) {
+        result.append('l');
+      } else {
+        result.append(FINALS[finalConsonant]);
+      }
+    }
+    return result.toString();
+  }
+
+  private static boolean isHangul(char value) {
+    return value >= HANGUL_BEGIN && value <= HANGUL_END;
+  }
+}
@@ -0,0 +1,73 @@
+package com.tripgether.place.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 장소 사진 프록시 경로 생성
+ * <p>
+ * Place에는 Google photo_reference만 저장하고, 응답 직렬화 시점에 사진 순번 기반의 짧은 경로로 변환
+ * - 형식: /api/place/{placeId}/photo/{index}?v={version}
+ * - version은 photo_reference 해시이므로 장소 갱신으로 사진이 바뀌면 경로도 바뀜 (긴 브라우저/CDN 캐시 가능)
+ * - API 키와 photo_reference가 응답에 노출되지 않음
+ * - 사진은 PlacePhotoService가 Google에서 한 번 받아 로컬 저장소에서 제공
+ */
+public final class PlacePhotoPaths {
+
+  private static final String PATH_FORMAT = "/api/place/%s/photo/%d?v=%s";
+  private static final int VERSION_BYTES = 6;
+
+  private PlacePhotoPaths() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 사진 프록시 경로 목록 생성
+   *
+   * @param placeId         장소 ID
+   * @param photoReferences 저장된 photo_reference 목록
+   * @return 사진 프록시 경로 목록 (사진이 없으면 빈 목록)
+   */
+  public static List<String> of(UUID placeId, List<String> photoReferences) {
+    return of(placeId, photoReferences, Integer.MAX_VALUE);
+  }
+
+  /**
+   * 사진 프록시 경로 목록 생성 (최대 개수 제한)
+   *
+   * @param placeId         장소 ID
+   * @param photoReferences 저장된 photo_reference 목록
+   * @param maxCount        최대 경로 수
+   * @return 사진 프록시 경로 목록 (사진이 없으면 빈 목록)
+   */
+  public static List<String> of(UUID placeId, List<String> photoReferences, int maxCount) {
+    if (placeId == null || photoReferences == null || photoReferences.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return IntStream.range(0, Math.min(photoReferences.size(), maxCount))
+        .mapToObj(index -> String.format(PATH_FORMAT, placeId, index, version(photoReferences.get(index))))
+        .toList();
+  }
+
+  /**
+   * 사진 버전 생성 (photo_reference SHA-256 해시 앞 12자리)
+   *
+   * @param photoReference Google photo_reference
+   * @return 사진 버전
+   */
+  public static String version(String photoReference) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256").digest(photoReference.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(hash, 0, VERSION_BYTES);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 not available", e);
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package com.tripgether.place.util;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * 장소 사진 크기 조정 및 JPEG 인코딩
+ * <p>
+ * - 원본보다 큰 너비로는 확대하지 않음
+ * - 투명 영역은 흰색 배경으로 채워 JPEG로 저장
+ */
+public final class PlacePhotoResizer {
+
+  private PlacePhotoResizer() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 원본 이미지 디코딩
+   *
+   * @param source 원본 이미지 바이트 (JPEG, PNG 등)
+   * @return 디코딩된 이미지
+   * @throws IOException 지원하지 않는 형식이거나 읽기 실패 시
+   */
+  public static BufferedImage decode(byte[] source) throws IOException {
+    BufferedImage image = ImageIO.read(new ByteArrayInputStream(source));
+    if (image == null) {
+      throw new IOException("Unsupported image format");
+    }
+    return image;
+  }
+
+  /**
+   * 지정 너비로 축소 후 JPEG 인코딩 (비율 유지)
+   *
+   * @param image   원본 이미지
+   * @param width   목표 너비 (px)
+   * @param quality JPEG 품질 (0.0 ~ 1.0)
+   * @return JPEG 바이트
+   * @throws IOException 인코딩 실패 시
+   */
+  public static byte[] resizeToJpeg(BufferedImage image, int width, float quality) throws IOException {
+    int targetWidth = Math.min(width, image.getWidth());
+    int targetHeight = Math.max(1, Math.round((float) image.getHeight() * targetWidth / image.getWidth()));
+
+    BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+    Graphics2D graphics = resized.createGraphics();
+    try {
+      graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+      graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+      graphics.setColor(Color.WHITE);
+      graphics.fillRect(0, 0, targetWidth, targetHeight);
+      graphics.drawImage(image, 0, 0, targetWidth, targetHeight, null);
+    } finally {
+      graphics.dispose();
+    }
+
+    ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+      ImageWriteParam param = writer.getDefaultWriteParam();
+      param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+      param.setCompressionQuality(quality);
+      writer.setOutput(imageOutput);
+      writer.write(null, new IIOImage(resized, null, null), param);
+    } finally {
+      writer.dispose();
+    }
+    return output.toByteArray();
+  }
+}
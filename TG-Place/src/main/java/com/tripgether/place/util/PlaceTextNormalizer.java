@@ -0,0 +1,400 @@
+package com.tripgether.place.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 장소 검색용 이름/주소 정규화
+ * <p>
+ * place.normalized_name, place.normalized_address 컬럼 값과 DB/검색 캐시 조회 키를 같은 규칙으로 생성
+ * - 장소명 키: 한글/영문 표기, 띄어쓰기, 문장부호, 지점 접미사가 달라도 같은 키 (스타벅스 강남점 = Starbucks Gangnam)
+ * - 주소 키: 시/도 표기, 영문 주소 순서가 달라도 같은 키, 도로명/지번 주소는 시/도 + 시/군/구(지역 키)까지 같음
+ * - 한글은 로마자로 변환(KoreanRomanizer)하고, 관용 표기가 다른 브랜드/지명은 별칭 표(place/name-aliases.txt)로 보정
+ * - 주소 접미사(로/길/동/구 등)는 앞부분과 따로 변환하여 영문 표기처럼 자음동화를 적용하지 않음 (테헤란로 = Teheran-ro)
+ * <p>
+ * 규칙을 바꾸면 KEY_VERSION을 올려야 기존 장소의 정규화 키가 다시 계산됨 (PlaceNormalizationBackfillWorker)
+ */
+public final class PlaceTextNormalizer {
+
+  /**
+   * 정규화 규칙 버전 (place.normalization_version)
+   */
+  public static final int KEY_VERSION = 2;
+
+  private static final int MAX_NAME_KEY_LENGTH = 255;
+  private static final int MAX_ADDRESS_KEY_LENGTH = 500;
+
+  private static final String ALIAS_RESOURCE = "/place/name-aliases.txt";
+
+  private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+  private static final Pattern APOSTROPHES = Pattern.compile("['’`]");
+  private static final Pattern NAME_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+  private static final Pattern ADDRESS_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}-]+");
+  private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)|\\[[^]]*]");
+  private static final Pattern COUNTRY = Pattern.compile("대한민국|republic of korea|south korea|\\bkorea\\b");
+  private static final Pattern LOT_SUFFIX = Pattern.compile("번지");
+  private static final Pattern NUMBER = Pattern.compile("\\d+(-\\d+)?");
+  private static final Pattern POSTAL_CODE = Pattern.compile("\\d{5}");
+  private static final Pattern ROAD_BRANCH = Pattern.compile("\\d+(번)?길|\\d+-?gil");
+  private static final Pattern DETAIL = Pattern.compile("지하|지상|(지하)?\\d+층|b\\d+|\\d+f|\\d+호|\\d+-\\d+호");
+
+  // 지점 접미사 (장소명 마지막 토큰)
+  private static final List<String> BRANCH_SUFFIXES = List.of("지점", "점");
+  private static final Set<String> BRANCH_WORDS = Set.of("branch", "br", "본점");
+
+  // 주소 구성 요소 접미사 (한글 마지막 글자 / 영문 하이픈 뒤)
+  private static final Set<String> DISTRICT_SUFFIXES = Set.of("시", "군", "구", "si", "gun", "gu");
+  private static final Set<String> AREA_SUFFIXES = Set.of("동", "리", "가", "읍", "면", "dong", "ri", "ga", "eup", "myeon");
+  private static final Set<String> ROAD_SUFFIXES = Set.of("로", "길", "ro", "gil", "daero");
+
+  private static final Set<String> PROVINCES = Set.of(
+      "seoul", "busan", "daegu", "incheon", "gwangju", "daejeon", "ulsan", "sejong", "gyeonggi", "gangwon",
+      "chungbuk", "chungnam", "jeonbuk", "jeonnam", "gyeongbuk", "gyeongnam", "jeju"
+  );
+
+  // 별칭 -> 대표 표기
+  private static final Map<String, String> ALIASES = loadAliases();
+
+  // 한글 별칭 최대 길이 (장소명 토큰 앞부분 비교용)
+  private static final int MAX_HANGUL_ALIAS_LENGTH = ALIASES.keySet().stream()
+      .filter(KoreanRomanizer::containsHangul)
+      .mapToInt(String::length)
+      .max()
+      .orElse(0);
+
+  private PlaceTextNormalizer() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 공백 정규화 (연속 공백 축약, 앞뒤 공백 제거, 소문자 변환)
+   * <p>
+   * 정규화 키 도입 이전 규칙 (조회 적중률 비교 지표용)
+   *
+   * @param value 원본 문자열
+   * @return 정규화된 문자열 (null 또는 공백뿐이면 null)
+   */
+  public static String normalize(String value) {
+    if (value == null) {
+      return null;
+    }
+
+    String normalized = WHITESPACES.matcher(value).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+    return normalized.isEmpty() ? null : normalized;
+  }
+
+  /**
+   * 장소명 정규화 키
+   * <p>
+   * 문장부호/공백 제거, 지점 접미사(점, 지점, branch) 제거, 별칭 치환, 한글 로마자 변환 후 이어 붙임
+   * - 스타벅스 강남점, 스타벅스(강남점), Starbucks Gangnam Branch -> starbucksgangnam
+   *
+   * @param name 장소명
+   * @return 장소명 키 (null 또는 문자가 없으면 null)
+   */
+  public static String nameKey(String name) {
+    String folded = fold(name);
+    if (folded == null) {
+      return null;
+    }
+
+    List<String> tokens = split(NAME_SEPARATORS, folded);
+    if (tokens.size() > 1 && BRANCH_WORDS.contains(tokens.get(tokens.size() - 1))) {
+      tokens.remove(tokens.size() - 1);
+    }
+    if (!tokens.isEmpty()) {
+      tokens.set(tokens.size() - 1, stripBranchSuffix(tokens.get(tokens.size() - 1)));
+    }
+
+    StringBuilder key = new StringBuilder();
+    for (String token : tokens) {
+      key.append(canonicalNameToken(token));
+    }
+    return truncate(key, MAX_NAME_KEY_LENGTH);
+  }
+
+  /**
+   * 주소 정규화 키
+   * <p>
+   * 한국 주소는 시/도, 시/군/구, 읍/면/동, 도로명, 번호 순서로 재배열 (건물명, 층/호수, 우편번호 제외)
+   * - 서울특별시 강남구 강남대로 390, 390 Gangnam-daero, Gangnam-gu, Seoul -> seoul gangnamgu gangnamdaero 390
+   * - 그 외 주소는 문장부호/공백만 정리하고 순서 유지
+   *
+   * @param address 주소
+   * @return 주소 키 (null 또는 문자가 없으면 null)
+   */
+  public static String addressKey(String address) {
+    AddressKey addressKey = parseAddress(address);
+    return addressKey != null ? addressKey.key : null;
+  }
+
+  /**
+   * 주소 번호 (도로명 주소의 건물 번호 또는 지번)
+   * <p>
+   * 지역 키만으로 장소를 찾을 때 같은 지역의 다른 장소와 구분하는 데 사용
+   *
+   * @param address 주소
+   * @return 주소 번호 (한국 주소가 아니거나 번호가 없으면 null)
+   */
+  public static String addressNumber(String address) {
+    AddressKey addressKey = parseAddress(address);
+    return addressKey != null && addressKey.region != null ? addressKey.number : null;
+  }
+
+  /**
+   * 주소 지역 키 (시/도 + 시/군/구)
+   * <p>
+   * 같은 장소의 도로명 주소와 지번 주소는 주소 키가 달라도 지역 키는 같음
+   *
+   * @param address 주소
+   * @return 지역 키 (한국 주소가 아니거나 시/도가 없으면 null)
+   */
+  public static String addressRegion(String address) {
+    AddressKey addressKey = parseAddress(address);
+    return addressKey != null ? addressKey.region : null;
+  }
+
+  private static AddressKey parseAddress(String address) {
+    String folded = fold(address);
+    if (folded == null) {
+      return null;
+    }
+    folded = PARENTHESES.matcher(folded).replaceAll(" ");
+    folded = COUNTRY.matcher(folded).replaceAll(" ");
+    folded = LOT_SUFFIX.matcher(folded).replaceAll(" ");
+
+    List<String> tokens = new ArrayList<>();
+    for (String token : split(ADDRESS_SEPARATORS, folded)) {
+      String trimmed = trimHyphens(token);
+      if (!trimmed.isEmpty()) {
+        tokens.add(trimmed);
+      }
+    }
+    if (tokens.isEmpty()) {
+      return null;
+    }
+
+    String province = null;
+    List<String> districts = new ArrayList<>();
+    List<Integer> districtRanks = new ArrayList<>();
+    List<String> areas = new ArrayList<>();
+    String road = null;
+    String number = null;
+    boolean korean = false;
+
+    for (String token : tokens) {
+      if (DETAIL.matcher(token).matches()) {
+        continue;
+      }
+      if (NUMBER.matcher(token).matches()) {
+        if (number == null && !POSTAL_CODE.matcher(token).matches()) {
+          number = token;
+        }
+        continue;
+      }
+      if (ROAD_BRANCH.matcher(token).matches()) {
+        String branch = token.replace("번", "").replace("-", "");
+        road = road != null ? road + KoreanRomanizer.romanize(branch) : null;
+        korean = true;
+        continue;
+      }
+
+      String suffix = addressSuffix(token);
+      String canonical = canonicalAddressToken(token.replace("-", ""), suffix);
+      if (PROVINCES.contains(canonical)) {
+        if (province == null) {
+          province = canonical;
+        }
+        korean = true;
+      } else if (DISTRICT_SUFFIXES.contains(suffix)) {
+        // 영문 주소는 구가 시보다 먼저 오므로 시 -> 군 -> 구 순서로 삽입
+        int rank = districtRank(suffix);
+        int index = 0;
+        while (index < districts.size() && districtRanks.get(index) <= rank) {
+          index++;
+        }
+        districts.add(index, canonical);
+        districtRanks.add(index, rank);
+        korean = true;
+      } else if (AREA_SUFFIXES.contains(suffix)) {
+        areas.add(canonical);
+        korean = true;
+      } else if (ROAD_SUFFIXES.contains(suffix)) {
+        road = canonical;
+        korean = true;
+      }
+    }
+
+    if (!korean) {
+      return new AddressKey(truncate(new StringBuilder(String.join(" ", tokens)), MAX_ADDRESS_KEY_LENGTH), null, null);
+    }
+
+    List<String> parts = new ArrayList<>();
+    if (province != null) {
+      parts.add(province);
+    }
+    parts.addAll(districts);
+    String region = province != null ? String.join(" ", parts) : null;
+    parts.addAll(areas);
+    if (road != null) {
+      parts.add(road);
+    }
+    if (number != null) {
+      parts.add(number);
+    }
+    return new AddressKey(truncate(new StringBuilder(String.join(" ", parts)), MAX_ADDRESS_KEY_LENGTH), region, number);
+  }
+
+  // 유니코드 호환 문자 통합(NFKC), 소문자 변환, 아포스트로피 제거
+  private static String fold(String value) {
+    if (value == null) {
+      return null;
+    }
+    String folded = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    folded = APOSTROPHES.matcher(folded).replaceAll("").strip();
+    return folded.isEmpty() ? null : folded;
+  }
+
+  private static List<String> split(Pattern separators, String value) {
+    List<String> tokens = new ArrayList<>();
+    for (String token : separators.split(value)) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+
+  // 한글 지점 접미사 제거 (남는 글자가 2자 이상일 때만: 본점은 유지)
+  private static String stripBranchSuffix(String token) {
+    for (String suffix : BRANCH_SUFFIXES) {
+      if (token.endsWith(suffix) && token.length() - suffix.length() >= 2) {
+        return token.substring(0, token.length() - suffix.length());
+      }
+    }
+    return token;
+  }
+
+  // 장소명 토큰: 별칭 전체 일치 -> 한글 별칭 앞부분 일치 -> 로마자 변환
+  private static String canonicalNameToken(String token) {
+    String alias = ALIASES.get(token);
+    if (alias != null) {
+      return alias;
+    }
+    if (!KoreanRomanizer.containsHangul(token)) {
+      return token;
+    }
+
+    for (int length = Math.min(MAX_HANGUL_ALIAS_LENGTH, token.length() - 1); length >= 2; length--) {
+      alias = ALIASES.get(token.substring(0, length));
+      if (alias != null) {
+        return alias + KoreanRomanizer.romanize(token.substring(length));
+      }
+    }
+    return KoreanRomanizer.romanize(token);
+  }
+
+  // 주소 토큰: 별칭 전체 일치 -> 한글 주소 접미사는 앞부분과 따로 로마자 변환 (테헤란로 -> teheran + ro)
+  private static String canonicalAddressToken(String token, String suffix) {
+    String alias = ALIASES.get(token);
+    if (alias != null) {
+      return alias;
+    }
+    if (KoreanRomanizer.containsHangul(token) && token.length() > suffix.length() && isAddressSuffix(suffix)) {
+      String stem = token.substring(0, token.length() - suffix.length());
+      return KoreanRomanizer.romanize(stem) + KoreanRomanizer.romanize(suffix);
+    }
+    return KoreanRomanizer.romanize(token);
+  }
+
+  private static boolean isAddressSuffix(String suffix) {
+    return DISTRICT_SUFFIXES.contains(suffix) || AREA_SUFFIXES.contains(suffix) || ROAD_SUFFIXES.contains(suffix);
+  }
+
+  private static int districtRank(String suffix) {
+    return switch (suffix) {
+      case "시", "si" -> 0;
+      case "군", "gun" -> 1;
+      default -> 2;
+    };
+  }
+
+  // 한글은 마지막 글자, 영문은 마지막 하이픈 뒤 (Gangnam-gu -> gu, 강남대로 -> 로)
+  private static String addressSuffix(String token) {
+    if (KoreanRomanizer.containsHangul(token)) {
+      return token.substring(token.length() - 1);
+    }
+    int hyphen = token.lastIndexOf('-');
+    return hyphen > 0 ? token.substring(hyphen + 1) : "";
+  }
+
+  private static String trimHyphens(String token) {
+    int begin = 0;
+    int end = token.length();
+    while (begin < end && token.charAt(begin) == '-') {
+      begin++;
+    }
+    while (end > begin && token.charAt(end - 1) == '-') {
+      end--;
+    }
+    return token.substring(begin, end);
+  }
+
+  private static String truncate(StringBuilder key, int maxLength) {
+    if (key.isEmpty()) {
+      return null;
+    }
+    return key.length() > maxLength ? key.substring(0, maxLength) : key.toString();
+  }
+
+  // 별칭 표 로드 (별칭은 대표 표기와 같은 규칙으로 정리, 대표 표기 자신도 등록)
+  private static Map<String, String> loadAliases() {
+    Map<String, String> aliases = new HashMap<>();
+    try (InputStream inputStream = PlaceTextNormalizer.class.getResourceAsStream(ALIAS_RESOURCE)) {
+      if (inputStream == null) {
+        throw new IllegalStateException("Place name alias table not found: " + ALIAS_RESOURCE);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        line = line.strip();
+        if (line.isEmpty() || line.startsWith("#")) {
+          continue;
+        }
+        String[] tokens = WHITESPACES.split(line);
+        for (String alias : tokens) {
+          String folded = fold(alias).replace("-", "");
+          aliases.put(folded, tokens[0]);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to load place name alias table", e);
+    }
+    return Map.copyOf(aliases);
+  }
+
+  private static final class AddressKey {
+
+    private final String key;
+    private final String region;
+    private final String number;
+
+    private AddressKey(String key, String region, String number) {
+      this.key = key;
+      this.region = region;
+      this.number = number;
+    }
+  }
+}
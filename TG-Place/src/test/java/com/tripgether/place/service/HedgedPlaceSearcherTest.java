@@ -0,0 +1,210 @@
+package com.tripgether.place.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.tripgether.common.properties.PlaceCountryProperties;
+import com.tripgether.common.properties.PlaceProperties;
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.repository.PlacePlatformReferenceRepository;
+import com.tripgether.place.repository.PlaceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HedgedPlaceSearcher 테스트
+ * <p>
+ * Google Places API / Kakao Local API 대신 로컬 Stub HTTP 서버를 띄워
+ * 실제 GooglePlaceSearcher, KakaoPlaceSearcher와 Hedged Request 동작을 검증
+ */
+@Slf4j
+class HedgedPlaceSearcherTest {
+
+  private static final String GOOGLE_RESPONSE = """
+      {"status": "OK", "candidates": [{"place_id": "ChIJ-google-stub", "name": "스텁 카페",
+        "formatted_address": "Seoul, South Korea", "geometry": {"location": {"lat": 37.5665, "lng": 126.978}}}]}
+      """;
+  private static final String KAKAO_RESPONSE = """
+      {"documents": [{"id": "12345", "place_name": "스텁 카페", "address_name": "서울 중구 태평로1가 31",
+        "road_address_name": "서울 중구 세종대로 110", "x": "126.978", "y": "37.5665"}]}
+      """;
+
+  private HttpServer stubServer;
+  private ExecutorService stubExecutor;
+  private SimpleMeterRegistry meterRegistry;
+  private PlaceSearchExecutor placeSearchExecutor;
+  private HedgedPlaceSearcher hedgedPlaceSearcher;
+
+  // Google Stub 응답 지연 시간 / HTTP 상태 코드
+  private volatile long googleDelayMs;
+  private volatile int googleStatus;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    googleDelayMs = 0;
+    googleStatus = 200;
+
+    stubExecutor = Executors.newCachedThreadPool();
+    stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    stubServer.setExecutor(stubExecutor);
+    stubServer.createContext("/google", exchange -> {
+      sleep(googleDelayMs);
+      respond(exchange, googleStatus, GOOGLE_RESPONSE);
+    });
+    stubServer.createContext("/kakao", exchange -> respond(exchange, 200, KAKAO_RESPONSE));
+    stubServer.start();
+
+    String baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+    PlaceProperties placeProperties = new PlaceProperties();
+    placeProperties.setGoogleApiKey("google-test-key");
+    placeProperties.setKakaoApiKey("kakao-test-key");
+
+    PlaceSearchProperties placeSearchProperties = new PlaceSearchProperties();
+    placeSearchProperties.setGoogleBaseUrl(baseUrl + "/google");
+    placeSearchProperties.setKakaoBaseUrl(baseUrl + "/kakao");
+    placeSearchProperties.setHedgeDefaultDelayMs(1000);
+    placeSearchProperties.setHedgeMinDelayMs(100);
+
+    OkHttpClient okHttpClient = new OkHttpClient();
+    ObjectMapper objectMapper = new ObjectMapper()
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    meterRegistry = new SimpleMeterRegistry();
+
+    // 호출 한도 제어는 항상 통과, DB/검색 결과 없음 캐시는 항상 miss
+    GooglePlaceRateLimiter googlePlaceRateLimiter = mock(GooglePlaceRateLimiter.class);
+    when(googlePlaceRateLimiter.acquireAsync()).thenAnswer(invocation -> CompletableFuture.completedFuture(null));
+
+    CountryCodeResolver countryCodeResolver = new CountryCodeResolver(new PlaceCountryProperties(), meterRegistry);
+    countryCodeResolver.init();
+
+    GooglePlaceSearcher googlePlaceSearcher = new GooglePlaceSearcher(okHttpClient, objectMapper, placeProperties,
+        placeSearchProperties, mock(PlaceRepository.class), mock(PlacePlatformReferenceRepository.class),
+        googlePlaceRateLimiter, mock(PlaceNegativeCache.class), countryCodeResolver, meterRegistry);
+    googlePlaceSearcher.init();
+
+    KakaoPlaceSearcher kakaoPlaceSearcher = new KakaoPlaceSearcher(okHttpClient, objectMapper, placeProperties,
+        placeSearchProperties);
+    kakaoPlaceSearcher.init();
+
+    ConfiguredPlaceSearcherSelector selector = new ConfiguredPlaceSearcherSelector(
+        List.of(googlePlaceSearcher, kakaoPlaceSearcher), placeSearchProperties);
+    selector.init();
+
+    placeSearchExecutor = new PlaceSearchExecutor();
+    hedgedPlaceSearcher = new HedgedPlaceSearcher(selector,
+        new PlaceSearchLatencyTracker(placeSearchProperties, meterRegistry), placeSearchProperties,
+        placeSearchExecutor, meterRegistry);
+    hedgedPlaceSearcher.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    stubServer.stop(0);
+    stubExecutor.shutdownNow();
+    placeSearchExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("Google 응답이 빠르면 Hedged Request 없이 Google 결과를 사용한다")
+  void fastPrimary_UsesGoogleWithoutHedge() throws Exception {
+    lineLog("=== 빠른 Google 응답 테스트 시작 ===");
+
+    GooglePlaceSearchDto.PlaceDetail placeDetail =
+        hedgedPlaceSearcher.searchPlaceDetailAsync("스텁 카페", null, "ko").get(5, TimeUnit.SECONDS);
+
+    assertThat(placeDetail.getPlatform()).isEqualTo(PlacePlatform.GOOGLE);
+    assertThat(placeDetail.getPlaceId()).isEqualTo("ChIJ-google-stub");
+    assertThat(placeDetail.getCountry()).isEqualTo("KR");
+    assertThat(hedgeCount("issued")).isZero();
+  }
+
+  @Test
+  @DisplayName("Google 응답이 지연되면 Kakao에 Hedged Request를 보내 먼저 온 결과를 사용한다")
+  void slowPrimary_UsesHedgedKakaoResult() throws Exception {
+    lineLog("=== 느린 Google 응답 테스트 시작 ===");
+    googleDelayMs = 3000;
+
+    long startNanos = System.nanoTime();
+    GooglePlaceSearchDto.PlaceDetail placeDetail =
+        hedgedPlaceSearcher.searchPlaceDetailAsync("스텁 카페", null, "ko").get(5, TimeUnit.SECONDS);
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    assertThat(placeDetail.getPlatform()).isEqualTo(PlacePlatform.KAKAO);
+    assertThat(placeDetail.getPlaceId()).isEqualTo("12345");
+    assertThat(placeDetail.getAddress()).isEqualTo("서울 중구 세종대로 110");
+    assertThat(elapsedMs).isLessThan(googleDelayMs);
+    assertThat(hedgeCount("issued")).isEqualTo(1.0);
+    assertThat(hedgeCount("won")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Google API 오류 시 지연 없이 Kakao 결과로 대체한다")
+  void failedPrimary_FallsBackToKakaoImmediately() throws Exception {
+    lineLog("=== Google 오류 테스트 시작 ===");
+    googleStatus = 500;
+
+    GooglePlaceSearchDto.PlaceDetail placeDetail =
+        hedgedPlaceSearcher.searchPlaceDetailAsync("스텁 카페", null, "ko").get(5, TimeUnit.SECONDS);
+
+    assertThat(placeDetail.getPlatform()).isEqualTo(PlacePlatform.KAKAO);
+    assertThat(hedgeCount("issued")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("Kakao가 지원하지 않는 언어는 Google 응답이 느려도 Google 결과를 기다린다")
+  void unsupportedLanguage_WaitsForGoogle() throws Exception {
+    lineLog("=== 미지원 언어 테스트 시작 ===");
+    googleDelayMs = 500;
+
+    GooglePlaceSearchDto.PlaceDetail placeDetail =
+        hedgedPlaceSearcher.searchPlaceDetailAsync("Stub Cafe", null, "en").get(5, TimeUnit.SECONDS);
+
+    assertThat(placeDetail.getPlatform()).isEqualTo(PlacePlatform.GOOGLE);
+    assertThat(hedgeCount("issued")).isZero();
+  }
+
+  private double hedgeCount(String result) {
+    return meterRegistry.get("place.search.hedge").tag("result", result).counter().count();
+  }
+
+  private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream outputStream = exchange.getResponseBody()) {
+      outputStream.write(bytes);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
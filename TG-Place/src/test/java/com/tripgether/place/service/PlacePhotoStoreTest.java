@@ -0,0 +1,161 @@
+package com.tripgether.place.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tripgether.common.properties.PlacePhotoProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * PlacePhotoStore 테스트
+ * <p>
+ * 임시 디렉터리에 세그먼트 파일을 만들어 저장/조회, 재시작 후 복구, LRU 세그먼트 삭제와 삭제 유예를 검증
+ */
+@Slf4j
+class PlacePhotoStoreTest {
+
+  @TempDir
+  Path directory;
+
+  private PlacePhotoProperties properties;
+
+  @Test
+  @DisplayName("저장한 사진을 같은 키로 조회하면 세그먼트 파일 구간과 동일한 데이터를 반환한다")
+  void putAndGet() throws IOException {
+    lineLog("사진 저장/조회 테스트");
+
+    PlacePhotoStore store = createStore(1024 * 1024, 10 * 1024 * 1024);
+    byte[] photo = bytes(1000, (byte) 7);
+
+    PlacePhotoStore.StoredPhoto stored = store.put("photo-a:400", photo);
+    PlacePhotoStore.StoredPhoto found = store.get("photo-a:400");
+
+    assertThat(found).isNotNull();
+    assertThat(found.getEtag()).isEqualTo(stored.getEtag()).hasSize(32);
+    assertThat(toBytes(found.getData())).isEqualTo(photo);
+
+    // sendfile로 전송할 파일 구간도 같은 데이터
+    try (FileChannel channel = FileChannel.open(found.getSegmentPath())) {
+      ByteBuffer region = ByteBuffer.allocate(found.getLength());
+      channel.read(region, found.getOffset());
+      assertThat(region.array()).isEqualTo(photo);
+    }
+    assertThat(store.get("photo-b:400")).isNull();
+    store.close();
+  }
+
+  @Test
+  @DisplayName("저장소를 다시 열면 세그먼트 파일에서 인덱스를 복구한다")
+  void recoverAfterRestart() throws IOException {
+    lineLog("재시작 후 복구 테스트");
+
+    PlacePhotoStore store = createStore(4096, 10 * 1024 * 1024);
+    for (int i = 0; i < 10; i++) {
+      store.put("photo-" + i + ":400", bytes(1000, (byte) i));
+    }
+    store.close();
+
+    PlacePhotoStore reopened = createStore(4096, 10 * 1024 * 1024);
+
+    for (int i = 0; i < 10; i++) {
+      PlacePhotoStore.StoredPhoto found = reopened.get("photo-" + i + ":400");
+      assertThat(found).isNotNull();
+      assertThat(toBytes(found.getData())).isEqualTo(bytes(1000, (byte) i));
+    }
+    lineLog("복구된 저장소 크기: " + reopened.getStoredBytes());
+    reopened.close();
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 사진의 세그먼트를 삭제한다")
+  void evictLeastRecentlyUsedSegment() throws IOException {
+    lineLog("LRU 세그먼트 삭제 테스트");
+
+    // 세그먼트당 사진 2장, 최대 3개 세그먼트 크기
+    PlacePhotoStore store = createStore(2200, 6600);
+    for (int i = 0; i < 6; i++) {
+      store.put("photo-" + i + ":400", bytes(1000, (byte) i));
+    }
+
+    // 첫 세그먼트(photo-0, photo-1) 대신 두 번째 세그먼트(photo-2, photo-3)가 가장 오래 사용되지 않도록 조회
+    assertThat(store.get("photo-0:400")).isNotNull();
+    assertThat(store.get("photo-1:400")).isNotNull();
+
+    store.put("photo-6:400", bytes(1000, (byte) 6));
+
+    assertThat(store.get("photo-0:400")).isNotNull();
+    assertThat(store.get("photo-2:400")).isNull();
+    assertThat(store.get("photo-3:400")).isNull();
+    assertThat(store.get("photo-6:400")).isNotNull();
+    assertThat(store.getStoredBytes()).isLessThanOrEqualTo(6600);
+    try (var files = Files.list(directory)) {
+      lineLog("남은 세그먼트 파일 수: " + files.count());
+    }
+    store.close();
+  }
+
+  @Test
+  @DisplayName("삭제된 세그먼트 파일은 유예 시간 동안 남아 전송 중인 sendfile 경로를 읽을 수 있다")
+  void keepRetiredSegmentFileDuringGrace() throws IOException {
+    lineLog("세그먼트 삭제 유예 테스트");
+
+    // 세그먼트당 사진 2장, 최대 2개 세그먼트 크기
+    PlacePhotoStore store = createStore(2200, 4400);
+    for (int i = 0; i < 4; i++) {
+      store.put("photo-" + i + ":400", bytes(1000, (byte) i));
+    }
+    PlacePhotoStore.StoredPhoto sending = store.get("photo-0:400");
+
+    // 첫 세그먼트가 인덱스에서 제외되어도 파일은 남아 있음
+    store.put("photo-4:400", bytes(1000, (byte) 4));
+    assertThat(store.get("photo-0:400")).isNull();
+    assertThat(Files.exists(sending.getSegmentPath())).isTrue();
+    try (FileChannel channel = FileChannel.open(sending.getSegmentPath())) {
+      ByteBuffer region = ByteBuffer.allocate(sending.getLength());
+      channel.read(region, sending.getOffset());
+      assertThat(region.array()).isEqualTo(bytes(1000, (byte) 0));
+    }
+
+    // 유예 시간이 지나면 삭제
+    store.deleteRetiredSegments();
+    assertThat(Files.exists(sending.getSegmentPath())).isTrue();
+    properties.setRetiredSegmentGraceMs(0);
+    store.deleteRetiredSegments();
+    assertThat(Files.exists(sending.getSegmentPath())).isFalse();
+    store.close();
+  }
+
+  private PlacePhotoStore createStore(long segmentSizeBytes, long maxStoreBytes) throws IOException {
+    properties = new PlacePhotoProperties();
+    properties.setStoreDirectory(directory.toString());
+    properties.setSegmentSizeBytes(segmentSizeBytes);
+    properties.setMaxStoreBytes(maxStoreBytes);
+
+    PlacePhotoStore store = new PlacePhotoStore(properties, new SimpleMeterRegistry());
+    store.init();
+    return store;
+  }
+
+  private byte[] bytes(int length, byte value) {
+    byte[] data = new byte[length];
+    Arrays.fill(data, value);
+    return data;
+  }
+
+  private byte[] toBytes(ByteBuffer buffer) {
+    byte[] data = new byte[buffer.remaining()];
+    buffer.duplicate().get(data);
+    return data;
+  }
+}
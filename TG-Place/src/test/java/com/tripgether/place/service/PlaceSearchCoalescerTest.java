@@ -0,0 +1,123 @@
+package com.tripgether.place.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.tripgether.common.properties.PlaceSearchProperties;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PlaceSearchCoalescer 테스트
+ * <p>
+ * Redis 임대는 항상 획득하도록 Mock 처리하고, 병합된 요청의 취소가 검색(loader)까지 전달되는지 검증
+ */
+@Slf4j
+class PlaceSearchCoalescerTest {
+
+  private static final String LOOKUP_KEY = "place:lookup:test";
+
+  private PlaceSearchExecutor placeSearchExecutor;
+  private PlaceSearchCoalescer placeSearchCoalescer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+    when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+    placeSearchExecutor = new PlaceSearchExecutor();
+    placeSearchCoalescer = new PlaceSearchCoalescer(stringRedisTemplate, new PlaceSearchProperties(),
+        placeSearchExecutor, new SimpleMeterRegistry());
+  }
+
+  @AfterEach
+  void tearDown() {
+    placeSearchExecutor.shutdown();
+  }
+
+  @Test
+  @DisplayName("병합된 요청 중 일부만 취소되면 검색은 계속되고 남은 요청은 결과를 받는다")
+  void partialCancel_KeepsLoaderRunning() throws Exception {
+    lineLog("=== 일부 요청 취소 테스트 시작 ===");
+    AtomicInteger loadCount = new AtomicInteger();
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loading = new CompletableFuture<>();
+
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> first = execute(loading, loadCount);
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> second = execute(loading, loadCount);
+
+    first.cancel(true);
+    assertThat(loading.isCancelled()).isFalse();
+
+    GooglePlaceSearchDto.PlaceDetail placeDetail = GooglePlaceSearchDto.PlaceDetail.builder()
+        .placeId("ChIJ-coalesced")
+        .build();
+    loading.complete(placeDetail);
+
+    assertThat(second.get(5, TimeUnit.SECONDS).getPlaceId()).isEqualTo("ChIJ-coalesced");
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("병합된 요청이 모두 취소되면 진행 중인 검색도 취소한다")
+  void allCancelled_CancelsLoader() {
+    lineLog("=== 전체 요청 취소 테스트 시작 ===");
+    AtomicInteger loadCount = new AtomicInteger();
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loading = new CompletableFuture<>();
+
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> first = execute(loading, loadCount);
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> second = execute(loading, loadCount);
+
+    first.cancel(true);
+    second.cancel(true);
+
+    assertThat(loading.isCancelled()).isTrue();
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("취소된 검색에는 합류하지 않고 새로 검색한다")
+  void afterCancel_StartsNewSearch() throws Exception {
+    lineLog("=== 취소 후 재검색 테스트 시작 ===");
+    AtomicInteger loadCount = new AtomicInteger();
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> cancelledLoading = new CompletableFuture<>();
+
+    execute(cancelledLoading, loadCount).cancel(true);
+
+    GooglePlaceSearchDto.PlaceDetail placeDetail = GooglePlaceSearchDto.PlaceDetail.builder()
+        .placeId("ChIJ-retried")
+        .build();
+    CompletableFuture<GooglePlaceSearchDto.PlaceDetail> retried =
+        execute(CompletableFuture.completedFuture(placeDetail), loadCount);
+
+    assertThat(retried.get(5, TimeUnit.SECONDS).getPlaceId()).isEqualTo("ChIJ-retried");
+    assertThat(cancelledLoading.isCancelled()).isTrue();
+    assertThat(loadCount.get()).isEqualTo(2);
+  }
+
+  private CompletableFuture<GooglePlaceSearchDto.PlaceDetail> execute(
+      CompletableFuture<GooglePlaceSearchDto.PlaceDetail> loading, AtomicInteger loadCount) {
+    return placeSearchCoalescer.executeAsync(LOOKUP_KEY, () -> null, () -> {
+      loadCount.incrementAndGet();
+      return loading;
+    });
+  }
+}
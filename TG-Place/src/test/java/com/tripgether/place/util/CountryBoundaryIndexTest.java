@@ -0,0 +1,102 @@
+package com.tripgether.place.util;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CountryBoundaryIndex 테스트
+ * <p>
+ * 번들된 국가 경계 데이터로 주요 여행지 좌표의 국가 코드를 검증
+ */
+@Slf4j
+class CountryBoundaryIndexTest {
+
+  private static CountryBoundaryIndex countryBoundaryIndex;
+
+  @BeforeAll
+  static void setUp() throws IOException {
+    try (InputStream inputStream = CountryBoundaryIndexTest.class.getResourceAsStream("/geo/country-boundaries.txt")) {
+      countryBoundaryIndex = CountryBoundaryIndex.load(inputStream, 0.5, 0.1);
+    }
+    lineLog("국가 경계 다각형 수: " + countryBoundaryIndex.getPolygonCount());
+  }
+
+  @ParameterizedTest(name = "{0} -> {1}")
+  @CsvSource({
+      "서울, KR, 37.5665, 126.9780",
+      "부산, KR, 35.1796, 129.0756",
+      "제주, KR, 33.4996, 126.5312",
+      "평양, KP, 39.0392, 125.7625",
+      "도쿄, JP, 35.6762, 139.6503",
+      "오사카, JP, 34.6937, 135.5023",
+      "삿포로, JP, 43.0618, 141.3545",
+      "나하, JP, 26.2124, 127.6809",
+      "타이베이, TW, 25.0330, 121.5654",
+      "홍콩, HK, 22.3193, 114.1694",
+      "마카오, MO, 22.1987, 113.5439",
+      "베이징, CN, 39.9042, 116.4074",
+      "상하이, CN, 31.2304, 121.4737",
+      "방콕, TH, 13.7563, 100.5018",
+      "하노이, VN, 21.0285, 105.8542",
+      "호찌민, VN, 10.8231, 106.6297",
+      "싱가포르, SG, 1.3521, 103.8198",
+      "쿠알라룸푸르, MY, 3.1390, 101.6869",
+      "발리, ID, -8.6500, 115.2167",
+      "마닐라, PH, 14.5995, 120.9842",
+      "세부, PH, 10.3157, 123.8854",
+      "괌, GU, 13.4443, 144.7937",
+      "뉴욕, US, 40.7128, -74.0060",
+      "로스앤젤레스, US, 34.0522, -118.2437",
+      "호놀룰루, US, 21.3069, -157.8583",
+      "토론토, CA, 43.6532, -79.3832",
+      "밴쿠버, CA, 49.2827, -123.1207",
+      "파리, FR, 48.8566, 2.3522",
+      "런던, GB, 51.5074, -0.1278",
+      "로마, IT, 41.9028, 12.4964",
+      "바르셀로나, ES, 41.3851, 2.1734",
+      "시드니, AU, -33.8688, 151.2093",
+      "오클랜드, NZ, -36.8485, 174.7633"
+  })
+  @DisplayName("주요 여행지 좌표를 국가 코드로 변환한다")
+  void findMajorCities(String city, String expected, double latitude, double longitude) {
+    assertThat(countryBoundaryIndex.find(latitude, longitude)).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("바다, 미수록 국가, 범위를 벗어난 좌표는 null을 반환한다")
+  void findUnknown() {
+    assertThat(countryBoundaryIndex.find(30.0, 140.0)).isNull();    // 태평양
+    assertThat(countryBoundaryIndex.find(35.0, -40.0)).isNull();    // 대서양
+    assertThat(countryBoundaryIndex.find(55.75, 37.62)).isNull();   // 모스크바 (미수록)
+    assertThat(countryBoundaryIndex.find(91.0, 0.0)).isNull();
+  }
+
+  @Test
+  @DisplayName("단순화된 해안선 밖이라도 허용 거리 이내면 가장 가까운 국가로 보정하고, 다각형이 겹치면 먼저 나온 국가를 반환한다")
+  void coastalToleranceAndPriority() throws IOException {
+    String data = """
+        # 테스트 데이터
+        AA 0,0 10,0 10,10 0,10
+        BB 5,5 20,5 20,15 5,15
+        """;
+    CountryBoundaryIndex index = CountryBoundaryIndex.load(
+        new ByteArrayInputStream(data.getBytes(StandardCharsets.UTF_8)), 1.0, 0.5);
+
+    assertThat(index.find(7, 7)).isEqualTo("AA");
+    assertThat(index.find(12, 12)).isEqualTo("BB");
+    assertThat(index.find(-0.3, 3)).isEqualTo("AA");
+    assertThat(index.find(-1, 3)).isNull();
+  }
+}
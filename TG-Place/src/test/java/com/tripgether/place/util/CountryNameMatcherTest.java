@@ -0,0 +1,53 @@
+package com.tripgether.place.util;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * CountryNameMatcher 테스트
+ * <p>
+ * 언어별 Google formatted_address 형식에서 국가 코드를 찾고, 국가명이 아닌 문자열은 무시하는지 검증
+ */
+@Slf4j
+class CountryNameMatcherTest {
+
+  @ParameterizedTest(name = "{1} <- {0}")
+  @CsvSource(delimiter = '|', value = {
+      "1600 Amphitheatre Pkwy, Mountain View, CA 94043, USA | US",
+      "Champ de Mars, 5 Av. Anatole France, 75007 Paris, France | FR",
+      "Westminster, London SW1A 0AA, UK | GB",
+      "1 Raffles Pl, Singapore 048616 | SG",
+      "Sultanahmet, Fatih/İstanbul, Türkiye | TR",
+      "Sydney NSW 2000, Australia | AU",
+      "Tsim Sha Tsui, Hong Kong | HK",
+      "대한민국 서울특별시 강남구 테헤란로 152 | KR",
+      "미국 뉴욕주 뉴욕 | US",
+      "인도네시아 발리 | ID",
+      "日本、〒100-0005 東京都千代田区丸の内１丁目 | JP",
+      "中国北京市东城区景山前街4号 | CN"
+  })
+  void findCountryCode(String address, String expected) {
+    String countryCode = CountryNameMatcher.find(address);
+    lineLog(address + " -> " + countryCode);
+    assertThat(countryCode).isEqualTo(expected);
+  }
+
+  @Test
+  @DisplayName("국가명이 주소 구간과 정확히 일치하지 않으면 국가 코드를 찾지 않는다")
+  void ignoreLooseMatch() {
+    lineLog("부분 일치 무시 테스트");
+
+    // 이전 구현은 "US"가 포함된 주소를 모두 미국으로 판별
+    assertThat(CountryNameMatcher.find("123 Business Street, US Route 1")).isNull();
+    assertThat(CountryNameMatcher.find("Museum of Modern Art, Kaohsiung")).isNull();
+    assertThat(CountryNameMatcher.find("서울특별시 중구 세종대로 110")).isNull();
+    assertThat(CountryNameMatcher.find(null)).isNull();
+    assertThat(CountryNameMatcher.find(" ")).isNull();
+  }
+}
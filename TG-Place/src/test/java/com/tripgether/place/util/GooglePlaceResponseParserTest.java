@@ -0,0 +1,60 @@
+package com.tripgether.place.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+class GooglePlaceResponseParserTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  @DisplayName("첫 번째 후보만 읽고, 사진은 최대 개수까지만 읽으며, 뒤에 오는 status도 읽는다")
+  void parse_ReadsFirstCandidateAndTrailingStatus() throws IOException {
+    String body = """
+        {"candidates": [
+          {"place_id": "first", "name": "첫 번째", "formatted_address": "Seoul, South Korea",
+           "geometry": {"location": {"lat": 37.5665, "lng": 126.978}, "viewport": {"northeast": {"lat": 1, "lng": 2}}},
+           "types": ["cafe", "food"], "rating": 4.5, "user_ratings_total": 120, "unknown": {"nested": [1, 2]},
+           "photos": [{"photo_reference": "p1", "html_attributions": ["a"]}, {"photo_reference": "p2"},
+                      {"photo_reference": "p3"}]},
+          {"place_id": "second", "name": "두 번째"}
+        ], "status": "OK"}
+        """;
+
+    GooglePlaceSearchDto response = GooglePlaceResponseParser.parse(objectMapper.getFactory(),
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 2);
+
+    assertThat(response.getStatus()).isEqualTo("OK");
+    assertThat(response.getCandidates()).hasSize(1);
+
+    GooglePlaceSearchDto.Candidate candidate = response.getCandidates().get(0);
+    assertThat(candidate.getPlaceId()).isEqualTo("first");
+    assertThat(candidate.getGeometry().getLocation().getLat()).isEqualByComparingTo(new BigDecimal("37.5665"));
+    assertThat(candidate.getTypes()).containsExactly("cafe", "food");
+    assertThat(candidate.getRating()).isEqualByComparingTo(new BigDecimal("4.5"));
+    assertThat(candidate.getUserRatingsTotal()).isEqualTo(120);
+    assertThat(candidate.getPhotos()).extracting(GooglePlaceSearchDto.Photo::getPhotoReference)
+        .containsExactly("p1", "p2");
+  }
+
+  @Test
+  @DisplayName("결과가 없으면 빈 후보 목록과 status를 반환한다")
+  void parse_ZeroResults() throws IOException {
+    String body = "{\"candidates\": [], \"status\": \"ZERO_RESULTS\"}";
+
+    GooglePlaceSearchDto response = GooglePlaceResponseParser.parse(objectMapper.getFactory(),
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 10);
+
+    assertThat(response.getStatus()).isEqualTo("ZERO_RESULTS");
+    assertThat(response.getCandidates()).isEmpty();
+  }
+}
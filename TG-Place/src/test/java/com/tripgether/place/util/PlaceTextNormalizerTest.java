@@ -0,0 +1,93 @@
+package com.tripgether.place.util;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PlaceTextNormalizer 테스트
+ * <p>
+ * 같은 장소의 한글/영문 표기, 지점 접미사, 주소 형식 차이가 같은 정규화 키로 모이는지 검증
+ */
+@Slf4j
+class PlaceTextNormalizerTest {
+
+  @Test
+  @DisplayName("한글/영문 장소명과 지점 접미사, 문장부호 차이는 같은 장소명 키가 된다")
+  void nameKey() {
+    lineLog("장소명 키: " + PlaceTextNormalizer.nameKey("스타벅스 강남점"));
+
+    assertThat(PlaceTextNormalizer.nameKey("스타벅스 강남점"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("Starbucks Gangnam"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("스타벅스(강남점)"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("스타벅스강남점"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("  STARBUCKS   Gangnam  Branch "))
+        .isEqualTo("starbucksgangnam");
+    assertThat(PlaceTextNormalizer.nameKey("스타벅스 강남역점"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("Starbucks Gangnam Station"));
+    assertThat(PlaceTextNormalizer.nameKey("맥도날드 종로점"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("McDonald's Jongno"));
+    assertThat(PlaceTextNormalizer.nameKey("블루보틀 성수"))
+        .isEqualTo(PlaceTextNormalizer.nameKey("Blue Bottle Seongsu"));
+
+    // 다른 지점은 다른 키
+    assertThat(PlaceTextNormalizer.nameKey("스타벅스 강남점"))
+        .isNotEqualTo(PlaceTextNormalizer.nameKey("스타벅스 신림점"));
+    assertThat(PlaceTextNormalizer.nameKey(" !! ")).isNull();
+    assertThat(PlaceTextNormalizer.nameKey(null)).isNull();
+  }
+
+  @Test
+  @DisplayName("한글 도로명 주소와 영문 주소는 같은 주소 키가 되고, 지번 주소는 같은 지역 키가 된다")
+  void addressKey() {
+    String roadAddress = "대한민국 서울특별시 강남구 강남대로 390";
+    lineLog("주소 키: " + PlaceTextNormalizer.addressKey(roadAddress));
+
+    assertThat(PlaceTextNormalizer.addressKey(roadAddress))
+        .isEqualTo(PlaceTextNormalizer.addressKey("390 Gangnam-daero, Gangnam-gu, Seoul, South Korea"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("서울 강남구 강남대로 390 1층"))
+        .isEqualTo("seoul gangnamgu gangnamdaero 390");
+    assertThat(PlaceTextNormalizer.addressKey("서울 강남구 강남대로94길 10"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("10 Gangnam-daero 94-gil, Gangnam-gu, Seoul 06236, South Korea"));
+    assertThat(PlaceTextNormalizer.addressKey("경기도 성남시 분당구 판교역로 166"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("166 Pangyoyeok-ro, Bundang-gu, Seongnam-si, Gyeonggi-do"));
+
+    // 도로명 접미사는 따로 변환하여 자음동화 없음 (teherallo가 아닌 teheranro)
+    assertThat(PlaceTextNormalizer.addressKey("서울 강남구 테헤란로 152"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("152 Teheran-ro, Gangnam-gu, Seoul"))
+        .isEqualTo("seoul gangnamgu teheranro 152");
+    assertThat(PlaceTextNormalizer.addressKey("서울 종로구 종로 1"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("1 Jong-ro, Jongno-gu, Seoul"));
+    assertThat(PlaceTextNormalizer.addressKey("서울 종로구 삼청로 1"))
+        .isEqualTo(PlaceTextNormalizer.addressKey("1 Samcheong-ro, Jongno-gu, Seoul"));
+
+    // 도로명/지번 주소는 주소 키는 다르지만 지역 키가 같음
+    String lotAddress = "서울 강남구 역삼동 825-1";
+    assertThat(PlaceTextNormalizer.addressKey(lotAddress)).isEqualTo("seoul gangnamgu yeoksamdong 825-1");
+    assertThat(PlaceTextNormalizer.addressRegion(lotAddress))
+        .isEqualTo(PlaceTextNormalizer.addressRegion(roadAddress))
+        .isEqualTo("seoul gangnamgu");
+    assertThat(PlaceTextNormalizer.addressNumber(lotAddress)).isEqualTo("825-1");
+    assertThat(PlaceTextNormalizer.addressNumber(roadAddress)).isEqualTo("390");
+
+    // 한국 주소가 아니면 순서를 유지하고 지역 키 없음
+    String tokyoAddress = "1 Chome-22-7 Jinnan, Shibuya City, Tokyo 150-0041, Japan";
+    assertThat(PlaceTextNormalizer.addressKey(tokyoAddress)).isEqualTo("1 chome-22-7 jinnan shibuya city tokyo 150-0041 japan");
+    assertThat(PlaceTextNormalizer.addressRegion(tokyoAddress)).isNull();
+    assertThat(PlaceTextNormalizer.addressNumber(tokyoAddress)).isNull();
+  }
+
+  @Test
+  @DisplayName("한글은 로마자 표기법 기준으로 변환한다")
+  void romanize() {
+    assertThat(KoreanRomanizer.romanize("해운대")).isEqualTo("haeundae");
+    assertThat(KoreanRomanizer.romanize("경복궁")).isEqualTo("gyeongbokgung");
+    assertThat(KoreanRomanizer.romanize("종로")).isEqualTo("jongno");
+    assertThat(KoreanRomanizer.romanize("신림")).isEqualTo("sillim");
+    assertThat(KoreanRomanizer.romanize("한국어")).isEqualTo("hangugeo");
+    assertThat(KoreanRomanizer.romanize("cgv 용산")).isEqualTo("cgv yongsan");
+  }
+}
@@ -0,0 +1,13 @@
+package com.tripgether.sns.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum AiCallbackInboxStatus {
+  PENDING,     // 처리 대기 중 (재시도 대기 포함)
+  PROCESSING,  // Worker가 처리 중
+  COMPLETED,   // 처리 완료
+  DEAD         // 최대 재시도 초과 또는 재시도 불가 오류 (Dead Letter)
+}
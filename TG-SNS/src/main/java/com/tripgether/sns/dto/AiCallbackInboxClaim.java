@@ -0,0 +1,31 @@
+package com.tripgether.sns.dto;
+
+import java.util.List;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Worker가 점유한 Inbox 처리 단위
+ * - 배치 Callback 항목은 같은 batchId의 점유 항목 전체, 단건 Callback은 1건
+ * - 완료/실패 기록 시 claimToken이 일치하는 항목만 반영됨
+ */
+@Getter
+@AllArgsConstructor
+public class AiCallbackInboxClaim {
+
+  /**
+   * 점유 토큰 (점유할 때마다 새로 발급)
+   */
+  private final UUID claimToken;
+
+  /**
+   * 배치 Callback 묶음 ID (단건 Callback이면 null)
+   */
+  private final UUID batchId;
+
+  /**
+   * 점유한 Inbox ID 목록
+   */
+  private final List<UUID> inboxIds;
+}
@@ -5,7 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.springframework.data.domain.Page;
+import java.util.List;
 
 @Getter
 @Builder
@@ -14,6 +14,12 @@ import org.springframework.data.domain.Page;
 @Schema(description = "회원 콘텐츠 목록 조회 응답")
 public class GetMemberContentPageResponse {
 
-  @Schema(description = "콘텐츠 페이지 정보 (최신순)")
-  private Page<ContentDto> contentPage;
+  @Schema(description = "콘텐츠 목록 (최신순)")
+  private List<ContentDto> contents;
+
+  @Schema(description = "다음 페이지 조회 커서 (마지막 페이지면 null)", example = "MjAyNS0xMS0yM1QxMDoxNTozMC4xMjM0NTZ8NTUw...")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private boolean hasNext;
 }
@@ -1,6 +1,7 @@
 package com.tripgether.sns.dto;
 
 import com.tripgether.place.entity.Place;
+import com.tripgether.place.util.PlacePhotoPaths;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.math.BigDecimal;
 import java.util.List;
@@ -59,7 +60,7 @@ public class PlaceDto {
   @Schema(description = "리뷰 수", example = "123")
   private Integer userRatingsTotal;
 
-  @Schema(description = "사진 URL 배열", example = "[\"https://example.com/photo1.jpg\", \"https://example.com/photo2.jpg\"]")
+  @Schema(description = "사진 프록시 경로 배열", example = "[\"/api/place/550e8400-e29b-41d4-a716-446655440000/photo/0?v=3f2a9c1b7d4e\", \"/api/place/550e8400-e29b-41d4-a716-446655440000/photo/1?v=8b51e07c2fa6\"]")
   private List<String> photoUrls;
 
   public static PlaceDto from(Place entity) {
@@ -82,7 +83,7 @@ public class PlaceDto {
         .iconUrl(entity.getIconUrl())
         .rating(entity.getRating())
         .userRatingsTotal(entity.getUserRatingsTotal())
-        .photoUrls(entity.getPhotoUrls())
+        .photoUrls(PlacePhotoPaths.of(entity.getId(), entity.getPhotoReferences()))
         .build();
   }
 }
@@ -0,0 +1,42 @@
+package com.tripgether.sns.dto;
+
+import com.tripgether.ai.dto.AiCallbackRequest;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장소 검색이 끝난 성공 Callback 1건
+ * - 배치 Callback 항목을 함께 저장할 때 외부 API 조회 단계(트랜잭션 밖)에서 생성되어 DB 저장 단계로 전달됨
+ */
+@Getter
+@AllArgsConstructor
+public class ResolvedCallback {
+
+  /**
+   * 대상 Content ID
+   */
+  private final UUID contentId;
+
+  /**
+   * AI Callback 요청
+   */
+  private final AiCallbackRequest request;
+
+  /**
+   * Google Places API 검색에 성공한 장소 목록 (position 오름차순)
+   */
+  private final List<ResolvedPlace> resolvedPlaces;
+
+  /**
+   * 검색에 실패한 장소의 position (해당 position의 기존 ContentPlace는 유지)
+   */
+  private final Set<Integer> unresolvedPositions;
+
+  /**
+   * 처리 완료로 기록할 Callback fingerprint (일부 장소 검색 실패 시 null)
+   */
+  private final String fingerprint;
+}
@@ -0,0 +1,24 @@
+package com.tripgether.sns.dto;
+
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * AI Callback 처리 중 Google Places API 검색에 성공한 장소
+ * - 외부 API 조회 단계(트랜잭션 밖)에서 생성되어 DB 저장 단계로 전달됨
+ */
+@Getter
+@AllArgsConstructor
+public class ResolvedPlace {
+
+  /**
+   * AI 서버가 보낸 장소 순서
+   */
+  private final int position;
+
+  /**
+   * Google Place 상세 정보
+   */
+  private final GooglePlaceSearchDto.PlaceDetail placeDetail;
+}
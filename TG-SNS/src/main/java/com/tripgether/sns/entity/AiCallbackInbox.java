@@ -0,0 +1,97 @@
+package com.tripgether.sns.entity;
+
+import com.tripgether.common.entity.BaseEntity;
+import com.tripgether.sns.constant.AiCallbackInboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * AiCallbackInbox 엔티티
+ *
+ * AI 서버 Webhook Callback 원본을 저장하는 Inbox 테이블
+ * Callback 수신 시 즉시 저장 후 응답하고, AiCallbackInboxWorker가 비동기로 처리함
+ *
+ * - PENDING: 처리 대기 (nextAttemptAt 이후 처리)
+ * - PROCESSING: Worker가 처리 중 (lockedUntil까지 다른 Worker가 가져가지 않음)
+ *   점유할 때마다 claimToken을 새로 발급하고, 완료/실패 기록은 claimToken이 일치할 때만 반영
+ * - COMPLETED: 처리 완료
+ * - DEAD: 최대 재시도 초과 또는 재시도 불가 오류
+ */
+@Entity
+@Table(
+    indexes = {
+        @Index(columnList = "status, next_attempt_at"),
+        @Index(columnList = "content_id"),
+        @Index(columnList = "batch_id")
+    }
+)
+@Builder
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AiCallbackInbox extends BaseEntity {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.UUID)
+  @Column(updatable = false, nullable = false)
+  private UUID id;
+
+  // 대상 Content ID
+  @Column(nullable = false)
+  private UUID contentId;
+
+  // 배치 Callback으로 함께 수신된 항목 묶음 ID (단건 Callback이면 null, Worker가 같은 배치 항목을 함께 처리)
+  private UUID batchId;
+
+  // AI 서버 처리 결과 (SUCCESS/FAILED)
+  @Column(nullable = false, length = 20)
+  private String resultStatus;
+
+  // AiCallbackRequest 원본 JSON
+  @Column(nullable = false, columnDefinition = "TEXT")
+  private String payload;
+
+  // Inbox 처리 상태
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  @Builder.Default
+  private AiCallbackInboxStatus status = AiCallbackInboxStatus.PENDING;
+
+  // 처리 시도 횟수
+  @Column(nullable = false)
+  @Builder.Default
+  private Integer attemptCount = 0;
+
+  // 다음 처리 가능 시각 (재시도 backoff)
+  @Column(nullable = false)
+  private LocalDateTime nextAttemptAt;
+
+  // 처리 점유 만료 시각 (Worker 장애 시 재처리 기준)
+  private LocalDateTime lockedUntil;
+
+  // 처리 점유 토큰 (점유 만료 후 다른 Worker가 다시 점유하면 변경됨)
+  private UUID claimToken;
+
+  // 마지막 실패 사유
+  @Column(length = 1000)
+  private String lastError;
+
+  // 처리 완료 시각
+  private LocalDateTime completedAt;
+}
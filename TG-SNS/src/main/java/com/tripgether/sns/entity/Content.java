@@ -60,4 +60,8 @@ public class Content extends SoftDeletableBaseEntity {
   private String summary;
 
   private LocalDateTime lastCheckedAt;
+
+  // 마지막으로 처리 완료된 AI Callback 요청의 fingerprint (SHA-256, 재전송 감지용)
+  @Column(length = 64)
+  private String callbackFingerprint;
 }
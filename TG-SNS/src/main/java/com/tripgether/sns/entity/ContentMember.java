@@ -36,6 +36,7 @@ import lombok.Setter;
     indexes = {
         @Index(columnList = "content_id"),
         @Index(columnList = "member_id"),
+        @Index(name = "idx_content_member_member_created_at", columnList = "member_id, created_at DESC, id DESC"),
         @Index(columnList = "notified")
     }
 )
@@ -0,0 +1,30 @@
+package com.tripgether.sns.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+/**
+ * Content AI 분석 완료 이벤트
+ * - 성공 Callback 저장 트랜잭션 안에서 발행되며, 커밋 이후에만 알림 Dispatcher로 전달됨
+ */
+@Getter
+@AllArgsConstructor
+public class ContentCompletedEvent {
+
+  /**
+   * 분석이 완료된 Content ID
+   */
+  private final UUID contentId;
+
+  /**
+   * Content 제목 (null 가능)
+   */
+  private final String title;
+
+  /**
+   * Content 썸네일 URL (null 가능)
+   */
+  private final String thumbnailUrl;
+}
@@ -0,0 +1,13 @@
+package com.tripgether.sns.repository;
+
+import java.util.UUID;
+
+/**
+ * 점유 대상 Inbox 항목 (AiCallbackInboxRepository.findClaimableForUpdate 결과)
+ */
+public interface AiCallbackInboxClaimRow {
+
+  UUID getInboxId();
+
+  UUID getBatchId();
+}
@@ -0,0 +1,137 @@
+package com.tripgether.sns.repository;
+
+import com.tripgether.sns.constant.AiCallbackInboxStatus;
+import com.tripgether.sns.entity.AiCallbackInbox;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AiCallbackInboxRepository extends JpaRepository<AiCallbackInbox, UUID> {
+
+  /**
+   * Inbox 점유 트랜잭션 직렬화 (트랜잭션 종료 시 자동 해제)
+   * - 앞선 점유 트랜잭션이 커밋한 PROCESSING 상태를 다음 점유 조회가 반드시 보도록 함
+   */
+  @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(:key)", nativeQuery = true)
+  Integer acquireClaimLock(@Param("key") long key);
+
+  /**
+   * 처리 가능한 Inbox 항목 조회 (행 잠금)
+   * - PENDING 중 nextAttemptAt이 지난 항목
+   * - PROCESSING 중 lockedUntil이 지난 항목 (Worker 장애로 방치된 항목)
+   * - 같은 Content의 항목이 처리 중이면 제외하고, Content별로 가장 먼저 처리할 항목 1건만 점유
+   *   (같은 Content의 Callback이 동시에 장소 연결을 갱신하지 않도록 함)
+   * - 처리 단위(같은 batch_id의 항목 묶음, 단건 Callback은 1건)로 최대 limit개 단위를 점유
+   *   (배치 Callback 항목은 함께 처리하여 장소 검색/저장을 공유)
+   * - FOR UPDATE SKIP LOCKED로 여러 인스턴스가 같은 항목을 중복 처리하지 않음
+   */
+  @Query(value = "WITH claimable AS (" +
+      "  SELECT DISTINCT ON (c.content_id) c.id, c.batch_id, c.next_attempt_at FROM ai_callback_inbox c " +
+      "  WHERE ((c.status = 'PENDING' AND c.next_attempt_at <= :now) " +
+      "    OR (c.status = 'PROCESSING' AND c.locked_until < :now)) " +
+      "  AND NOT EXISTS (SELECT 1 FROM ai_callback_inbox p " +
+      "    WHERE p.content_id = c.content_id " +
+      "    AND p.status = 'PROCESSING' " +
+      "    AND p.locked_until >= :now) " +
+      "  ORDER BY c.content_id, c.next_attempt_at, c.created_at" +
+      "), units AS (" +
+      "  SELECT COALESCE(u.batch_id, u.id) AS unit_id FROM claimable u " +
+      "  GROUP BY COALESCE(u.batch_id, u.id) " +
+      "  ORDER BY MIN(u.next_attempt_at) " +
+      "  LIMIT :limit" +
+      ") " +
+      "SELECT i.id AS inboxId, i.batch_id AS batchId FROM ai_callback_inbox i " +
+      "WHERE i.id IN (" +
+      "  SELECT c.id FROM claimable c " +
+      "  WHERE COALESCE(c.batch_id, c.id) IN (SELECT unit_id FROM units)" +
+      ") " +
+      "ORDER BY i.next_attempt_at " +
+      "FOR UPDATE OF i SKIP LOCKED",
+      nativeQuery = true)
+  List<AiCallbackInboxClaimRow> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+  /**
+   * Inbox 항목을 PROCESSING으로 변경하고 시도 횟수 증가 (점유 토큰 발급)
+   */
+  @Modifying
+  @Query("UPDATE AiCallbackInbox i " +
+      "SET i.status = :status, i.lockedUntil = :lockedUntil, i.claimToken = :claimToken, " +
+      "i.attemptCount = i.attemptCount + 1 " +
+      "WHERE i.id IN :ids")
+  int markProcessing(@Param("ids") Collection<UUID> ids,
+      @Param("status") AiCallbackInboxStatus status,
+      @Param("lockedUntil") LocalDateTime lockedUntil,
+      @Param("claimToken") UUID claimToken);
+
+  /**
+   * 점유 중인 Inbox 항목의 처리 완료 기록
+   * - 점유 토큰이 일치하는 항목만 변경 (점유 만료 후 다른 Worker가 다시 점유한 항목은 변경하지 않음)
+   *
+   * @return 변경된 행 수 (0이면 점유를 잃음)
+   */
+  @Modifying
+  @Query("UPDATE AiCallbackInbox i " +
+      "SET i.status = :status, i.lockedUntil = null, i.lastError = null, " +
+      "i.completedAt = :now, i.updatedAt = :now " +
+      "WHERE i.id = :id AND i.claimToken = :claimToken")
+  int markCompletedIfClaimed(@Param("id") UUID id,
+      @Param("claimToken") UUID claimToken,
+      @Param("status") AiCallbackInboxStatus status,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * 점유 중인 Inbox 항목의 실패 기록 (PENDING 재시도 또는 DEAD)
+   * - 점유 토큰이 일치하는 항목만 변경 (점유 만료 후 다른 Worker가 다시 점유한 항목은 변경하지 않음)
+   *
+   * @return 변경된 행 수 (0이면 점유를 잃음)
+   */
+  @Modifying
+  @Query("UPDATE AiCallbackInbox i " +
+      "SET i.status = :status, i.nextAttemptAt = :nextAttemptAt, i.lockedUntil = null, " +
+      "i.lastError = :lastError, i.updatedAt = :now " +
+      "WHERE i.id = :id AND i.claimToken = :claimToken")
+  int markFailedIfClaimed(@Param("id") UUID id,
+      @Param("claimToken") UUID claimToken,
+      @Param("status") AiCallbackInboxStatus status,
+      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+      @Param("lastError") String lastError,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * 보관 기간이 지난 COMPLETED Inbox 삭제 (최대 limit건)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM ai_callback_inbox WHERE id IN (" +
+      "SELECT id FROM ai_callback_inbox " +
+      "WHERE status = 'COMPLETED' AND completed_at < :completedBefore " +
+      "LIMIT :limit)",
+      nativeQuery = true)
+  int deleteCompletedBefore(@Param("completedBefore") LocalDateTime completedBefore, @Param("limit") int limit);
+
+  /**
+   * 보관 기간이 지난 DEAD Inbox 삭제 (최대 limit건, 마지막 실패 기록 시각 기준)
+   */
+  @Modifying
+  @Query(value = "DELETE FROM ai_callback_inbox WHERE id IN (" +
+      "SELECT id FROM ai_callback_inbox " +
+      "WHERE status = 'DEAD' AND updated_at < :deadBefore " +
+      "LIMIT :limit)",
+      nativeQuery = true)
+  int deleteDeadBefore(@Param("deadBefore") LocalDateTime deadBefore, @Param("limit") int limit);
+
+  /**
+   * 상태별 Inbox 개수 조회
+   */
+  long countByStatusIn(Collection<AiCallbackInboxStatus> statuses);
+
+  /**
+   * 상태별 가장 오래된 Inbox 생성 시각 조회 (처리 지연 측정용)
+   */
+  @Query("SELECT MIN(i.createdAt) FROM AiCallbackInbox i WHERE i.status IN :statuses")
+  LocalDateTime findOldestCreatedAtByStatusIn(@Param("statuses") Collection<AiCallbackInboxStatus> statuses);
+}
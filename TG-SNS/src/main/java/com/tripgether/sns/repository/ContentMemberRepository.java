@@ -3,10 +3,14 @@ package com.tripgether.sns.repository;
 import com.tripgether.member.entity.Member;
 import com.tripgether.sns.entity.Content;
 import com.tripgether.sns.entity.ContentMember;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -40,6 +44,29 @@ public interface ContentMemberRepository extends JpaRepository<ContentMember, UU
    */
   List<ContentMember> findByMemberId(UUID memberId);
 
+  /**
+   * 회원의 ContentMember 첫 페이지 조회 (최신순, Content Fetch Join)
+   * - idx_content_member_member_created_at (member_id, created_at DESC, id DESC) 사용
+   * - 조회 개수는 Pageable 크기로 제한 (count 쿼리 없음)
+   */
+  @Query("SELECT cm FROM ContentMember cm " +
+      "JOIN FETCH cm.content " +
+      "WHERE cm.member.id = :memberId " +
+      "ORDER BY cm.createdAt DESC, cm.id DESC")
+  List<ContentMember> findLatestWithContent(@Param("memberId") UUID memberId, Pageable pageable);
+
+  /**
+   * 회원의 ContentMember 다음 페이지 조회 (커서 위치보다 오래된 항목, Content Fetch Join)
+   * - (createdAt, id) 행 비교 Keyset 조건으로 OFFSET 없이 인덱스 범위 조회 (OR 조건은 인덱스 범위 조건으로 쓰이지 않음)
+   */
+  @Query("SELECT cm FROM ContentMember cm " +
+      "JOIN FETCH cm.content " +
+      "WHERE cm.member.id = :memberId " +
+      "AND (cm.createdAt, cm.id) < (:createdAt, :id) " +
+      "ORDER BY cm.createdAt DESC, cm.id DESC")
+  List<ContentMember> findLatestWithContentBefore(@Param("memberId") UUID memberId,
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Pageable pageable);
+
   /**
    * Content로 모든 ContentMember 조회 (Member Fetch Join으로 N+1 방지)
    * - MemberPlace 생성 시 사용
@@ -49,4 +76,26 @@ public interface ContentMemberRepository extends JpaRepository<ContentMember, UU
       "WHERE cm.content = :content")
   List<ContentMember> findAllByContentWithMember(@Param("content") Content content);
 
+  /**
+   * Content를 요청한 모든 회원 ID 조회
+   * - MemberPlace 일괄 생성 시 사용 (Callback당 1회)
+   */
+  @Query("SELECT cm.member.id FROM ContentMember cm WHERE cm.content.id = :contentId")
+  List<UUID> findMemberIdsByContentId(@Param("contentId") UUID contentId);
+
+  /**
+   * Content ID로 알림 미전송된 회원 ID 조회
+   * - Content 분석 완료 알림 Dispatcher에서 사용
+   */
+  @Query("SELECT cm.member.id FROM ContentMember cm WHERE cm.content.id = :contentId AND cm.notified = false")
+  List<UUID> findUnnotifiedMemberIdsByContentId(@Param("contentId") UUID contentId);
+
+  /**
+   * 알림 전송 완료된 회원들의 notified 플래그 일괄 변경 (단일 UPDATE)
+   */
+  @Modifying
+  @Query("UPDATE ContentMember cm SET cm.notified = true " +
+      "WHERE cm.content.id = :contentId AND cm.member.id IN :memberIds AND cm.notified = false")
+  int markNotifiedByContentIdAndMemberIds(@Param("contentId") UUID contentId,
+      @Param("memberIds") Collection<UUID> memberIds);
 }
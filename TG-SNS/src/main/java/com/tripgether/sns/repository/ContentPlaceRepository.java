@@ -1,8 +1,10 @@
 package com.tripgether.sns.repository;
 
 import com.tripgether.sns.entity.ContentPlace;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -23,4 +25,32 @@ public interface ContentPlaceRepository extends JpaRepository<ContentPlace, UUID
   // Content ID로 ContentPlace 목록 조회 (Place를 Fetch Join하여 N+1 문제 해결, position 순서대로)
   @Query("SELECT cp FROM ContentPlace cp JOIN FETCH cp.place WHERE cp.content.id = :contentId ORDER BY cp.position ASC")
   List<ContentPlace> findByContentIdWithPlace(@Param("contentId") UUID contentId);
+
+  // 회원이 저장한 장소 최신순 조회 (content_member → content_place → place 단일 쿼리, 정렬/개수 제한은 DB에서 처리)
+  @Query("SELECT p.id AS placeId, p.name AS name, p.address AS address, p.rating AS rating, " +
+      "p.userRatingsTotal AS userRatingsTotal, p.photoReferences AS photoReferences, p.description AS description " +
+      "FROM ContentMember cm " +
+      "JOIN ContentPlace cp ON cp.content.id = cm.content.id " +
+      "JOIN cp.place p " +
+      "WHERE cm.member.id = :memberId " +
+      "ORDER BY cp.createdAt DESC, cp.id DESC")
+  List<SavedPlaceRow> findRecentSavedPlaceRows(@Param("memberId") UUID memberId, Pageable pageable);
+
+  // Content ID로 ContentPlace 목록 조회 (재분석 시 기존 연결과 비교용)
+  List<ContentPlace> findByContentId(UUID contentId);
+
+  // ContentPlace ID 목록으로 삭제 (영속성 컨텍스트는 유지)
+  @Modifying(flushAutomatically = true)
+  @Query("DELETE FROM ContentPlace cp WHERE cp.id IN :ids")
+  int deleteByIdIn(@Param("ids") Collection<UUID> ids);
+
+  // 위치 변경 대상 ContentPlace를 임시 음수 position으로 이동 (uk_content_place_pos 충돌 방지, 벌크 수정이므로 updatedAt 직접 갱신)
+  @Modifying(flushAutomatically = true)
+  @Query("UPDATE ContentPlace cp SET cp.position = -(cp.position + 1), cp.updatedAt = CURRENT_TIMESTAMP WHERE cp.id IN :ids")
+  int moveToTemporaryPositions(@Param("ids") Collection<UUID> ids);
+
+  // ContentPlace position 변경 (벌크 수정이므로 updatedAt 직접 갱신)
+  @Modifying
+  @Query("UPDATE ContentPlace cp SET cp.position = :position, cp.updatedAt = CURRENT_TIMESTAMP WHERE cp.id = :id")
+  int updatePosition(@Param("id") UUID id, @Param("position") int position);
 }
@@ -13,4 +13,7 @@ public interface ContentRepository extends JpaRepository<Content, UUID> {
   // SNS URL로 Content 조회
   Optional<Content> findByOriginalUrl(String originalUrl);
 
+  // 같은 fingerprint의 Callback이 이미 처리되었는지 확인 (PK 조회)
+  boolean existsByIdAndCallbackFingerprint(UUID id, String callbackFingerprint);
+
 }
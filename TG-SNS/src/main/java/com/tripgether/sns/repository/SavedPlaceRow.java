@@ -0,0 +1,25 @@
+package com.tripgether.sns.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 회원이 저장한 장소 (ContentPlaceRepository.findRecentSavedPlaceRows 결과)
+ */
+public interface SavedPlaceRow {
+
+  UUID getPlaceId();
+
+  String getName();
+
+  String getAddress();
+
+  BigDecimal getRating();
+
+  Integer getUserRatingsTotal();
+
+  List<String> getPhotoReferences();
+
+  String getDescription();
+}
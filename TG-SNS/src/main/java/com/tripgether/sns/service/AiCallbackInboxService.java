@@ -0,0 +1,412 @@
+package com.tripgether.sns.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tripgether.ai.dto.AiCallbackRequest;
+import com.tripgether.ai.dto.AiCallbackResponse;
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.common.properties.AiCallbackProperties;
+import com.tripgether.sns.constant.AiCallbackInboxStatus;
+import com.tripgether.sns.dto.AiCallbackInboxClaim;
+import com.tripgether.sns.entity.AiCallbackInbox;
+import com.tripgether.sns.repository.AiCallbackInboxClaimRow;
+import com.tripgether.sns.repository.AiCallbackInboxRepository;
+import com.tripgether.sns.repository.ContentRepository;
+import com.tripgether.sns.util.AiCallbackFingerprintUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * AI 서버 Callback Inbox 관리
+ * <p>
+ * - Callback 수신 시 원본을 Inbox에 저장하고 즉시 응답
+ * - Worker가 처리할 항목 점유 및 처리 결과(완료/재시도/DEAD) 기록
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallbackInboxService {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  // Inbox 점유 직렬화용 advisory lock 키
+  private static final long CLAIM_LOCK_KEY = 0x5447_4149_4342L;
+
+  private final AiCallbackInboxRepository aiCallbackInboxRepository;
+  private final ContentRepository contentRepository;
+  private final AiCallbackProperties aiCallbackProperties;
+  private final ObjectMapper objectMapper;
+
+  /**
+   * AI Callback 요청을 Inbox에 저장
+   * <p>
+   * contentId, resultStatus, Content 존재 여부만 검증하고 실제 처리는 Worker에 위임
+   *
+   * @param request AI Callback 요청
+   * @return AI Callback 응답 (received=true)
+   */
+  @Transactional
+  public AiCallbackResponse enqueue(AiCallbackRequest request) {
+    return enqueue(AiCallbackService.extractContentId(request), request, null);
+  }
+
+  /**
+   * AI Callback 요청 목록을 Inbox에 일괄 저장
+   * <p>
+   * - 실제 처리(장소 검색, 저장, 알림)는 Worker가 재시도/DEAD 관리와 함께 수행
+   * - 저장한 항목에 같은 batchId를 기록하여 Worker가 함께 점유/처리 (배치 전체의 장소 검색 중복 제거, 일괄 저장)
+   * - 같은 Content의 항목이 여러 개면 마지막 항목만 저장하고 앞선 항목은 duplicate로 응답
+   * - 항목 검증 실패는 항목별 응답으로 반환하고, DB 오류는 배치 전체를 롤백 (AI 서버가 배치를 재전송)
+   *
+   * @param requests AI Callback 요청 목록
+   * @return 요청 순서와 동일한 항목별 AI Callback 응답
+   */
+  @Transactional
+  public List<AiCallbackResponse> enqueueBatch(List<AiCallbackRequest> requests) {
+    if (requests == null || requests.isEmpty() || requests.size() > aiCallbackProperties.getBatchMaxSize()) {
+      log.error("Invalid AI callback batch size: {}", requests == null ? null : requests.size());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    UUID batchId = UUID.randomUUID();
+    AiCallbackResponse[] responses = new AiCallbackResponse[requests.size()];
+    UUID[] contentIds = new UUID[requests.size()];
+    Map<UUID, Integer> lastIndexByContentId = new HashMap<>();
+
+    // 1. contentId 추출 및 Content별 마지막 항목 확인
+    for (int i = 0; i < requests.size(); i++) {
+      try {
+        contentIds[i] = AiCallbackService.extractContentId(requests.get(i));
+        lastIndexByContentId.put(contentIds[i], i);
+      } catch (CustomException e) {
+        responses[i] = buildFailureResponse(null, e);
+      }
+    }
+
+    // 2. Content별 마지막 항목만 Inbox에 저장
+    for (int i = 0; i < requests.size(); i++) {
+      if (responses[i] != null) {
+        continue;
+      }
+      UUID contentId = contentIds[i];
+      if (lastIndexByContentId.get(contentId) != i) {
+        log.info("AI callback superseded in batch: contentId={}", contentId);
+        responses[i] = AiCallbackResponse.builder()
+            .received(true)
+            .contentId(contentId)
+            .duplicate(true)
+            .build();
+        continue;
+      }
+      try {
+        responses[i] = enqueue(contentId, requests.get(i), batchId);
+      } catch (CustomException e) {
+        responses[i] = buildFailureResponse(contentId, e);
+      }
+    }
+
+    long failedCount = Arrays.stream(responses).filter(response -> !Boolean.TRUE.equals(response.getReceived())).count();
+    log.info("AI callback batch enqueued: batchId={}, size={}, failed={}", batchId, requests.size(), failedCount);
+    return Arrays.asList(responses);
+  }
+
+  // contentId, resultStatus, Content 존재 여부 검증 후 Inbox에 저장
+  private AiCallbackResponse enqueue(UUID contentId, AiCallbackRequest request, UUID batchId) {
+    if (!"SUCCESS".equals(request.getResultStatus()) && !"FAILED".equals(request.getResultStatus())) {
+      log.error("Unknown resultStatus: {}", request.getResultStatus());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+
+    // 이미 처리 완료된 동일 Callback 재전송이면 Inbox에 저장하지 않고 즉시 응답
+    String fingerprint = AiCallbackFingerprintUtil.generate(contentId, request);
+    if (contentRepository.existsByIdAndCallbackFingerprint(contentId, fingerprint)) {
+      log.info("Duplicate AI callback ignored at enqueue: contentId={}, fingerprint={}", contentId, fingerprint);
+      return AiCallbackResponse.builder()
+          .received(true)
+          .contentId(contentId)
+          .duplicate(true)
+          .build();
+    }
+
+    if (!contentRepository.existsById(contentId)) {
+      throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+    }
+
+    AiCallbackInbox inbox = saveInbox(contentId, request, LocalDateTime.now(), batchId);
+
+    log.info("AI callback enqueued: inboxId={}, contentId={}, resultStatus={}, batchId={}",
+        inbox.getId(), contentId, request.getResultStatus(), batchId);
+
+    return AiCallbackResponse.builder()
+        .received(true)
+        .contentId(contentId)
+        .duplicate(false)
+        .build();
+  }
+
+  /**
+   * 일부 장소 검색을 보류한 Callback을 지연 재처리 대상으로 Inbox에 저장
+   * <p>
+   * Google Places API 장애(Circuit Breaker OPEN)로 검색하지 못한 장소가 있을 때 사용
+   * 재처리 시 이미 저장된 장소는 변경 없이 유지되고 누락된 장소만 추가됨
+   *
+   * @param contentId    대상 Content ID
+   * @param request      AI Callback 요청
+   * @param delaySeconds 재처리 대기 시간 (초)
+   */
+  @Transactional
+  public void enqueueDeferred(UUID contentId, AiCallbackRequest request, long delaySeconds) {
+    AiCallbackInbox inbox = saveInbox(contentId, request, LocalDateTime.now().plusSeconds(delaySeconds), null);
+
+    log.info("AI callback deferred: inboxId={}, contentId={}, nextAttemptAt={}",
+        inbox.getId(), contentId, inbox.getNextAttemptAt());
+  }
+
+  // 배치 항목 실패 응답 생성
+  private AiCallbackResponse buildFailureResponse(UUID contentId, CustomException e) {
+    ErrorCode errorCode = e.getErrorCode() != null ? e.getErrorCode() : ErrorCode.INTERNAL_SERVER_ERROR;
+    return AiCallbackResponse.builder()
+        .received(false)
+        .contentId(contentId)
+        .duplicate(false)
+        .errorCode(errorCode.name())
+        .errorMessage(errorCode.getMessage())
+        .build();
+  }
+
+  // Callback 원본을 JSON으로 직렬화하여 Inbox에 저장
+  private AiCallbackInbox saveInbox(UUID contentId, AiCallbackRequest request, LocalDateTime nextAttemptAt,
+      UUID batchId) {
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(request);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to serialize AI callback request: contentId={}", contentId, e);
+      throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    AiCallbackInbox inbox = AiCallbackInbox.builder()
+        .contentId(contentId)
+        .batchId(batchId)
+        .resultStatus(request.getResultStatus())
+        .payload(payload)
+        .nextAttemptAt(nextAttemptAt)
+        .build();
+    return aiCallbackInboxRepository.save(inbox);
+  }
+
+  /**
+   * 처리할 Inbox 항목 점유
+   * <p>
+   * FOR UPDATE SKIP LOCKED로 조회한 항목을 PROCESSING으로 변경하고 시도 횟수를 증가
+   * 점유는 advisory lock으로 직렬화하고, 같은 Content의 항목이 처리 중이면 점유하지 않음
+   * 점유마다 새 점유 토큰을 발급하여, 점유가 만료된 뒤 늦게 끝난 Worker의 결과 기록을 막음
+   * 같은 배치로 수신된 항목은 하나의 처리 단위로 묶어 함께 점유
+   *
+   * @param limit 최대 점유 처리 단위 개수
+   * @return 점유한 처리 단위 목록
+   */
+  @Transactional
+  public List<AiCallbackInboxClaim> claim(int limit) {
+    if (limit <= 0) {
+      return List.of();
+    }
+
+    aiCallbackInboxRepository.acquireClaimLock(CLAIM_LOCK_KEY);
+
+    LocalDateTime now = LocalDateTime.now();
+    List<AiCallbackInboxClaimRow> rows = aiCallbackInboxRepository.findClaimableForUpdate(now, limit);
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    UUID claimToken = UUID.randomUUID();
+    List<UUID> ids = rows.stream().map(AiCallbackInboxClaimRow::getInboxId).toList();
+    aiCallbackInboxRepository.markProcessing(
+        ids,
+        AiCallbackInboxStatus.PROCESSING,
+        now.plusSeconds(aiCallbackProperties.getInboxLockSeconds()),
+        claimToken);
+
+    // 배치 묶음별로 처리 단위 구성 (단건 Callback은 항목별 단위)
+    Map<UUID, List<UUID>> idsByBatchId = new LinkedHashMap<>();
+    List<AiCallbackInboxClaim> claims = new ArrayList<>();
+    for (AiCallbackInboxClaimRow row : rows) {
+      if (row.getBatchId() == null) {
+        claims.add(new AiCallbackInboxClaim(claimToken, null, List.of(row.getInboxId())));
+      } else {
+        idsByBatchId.computeIfAbsent(row.getBatchId(), key -> new ArrayList<>()).add(row.getInboxId());
+      }
+    }
+    idsByBatchId.forEach((batchId, batchIds) -> claims.add(new AiCallbackInboxClaim(claimToken, batchId, batchIds)));
+
+    log.debug("Claimed {} AI callback inbox items in {} units", ids.size(), claims.size());
+    return claims;
+  }
+
+  /**
+   * Inbox에 저장된 AI Callback 요청 복원
+   *
+   * @param inboxId Inbox ID
+   * @return AI Callback 요청
+   */
+  @Transactional(readOnly = true)
+  public AiCallbackRequest loadRequest(UUID inboxId) {
+    AiCallbackInbox inbox = aiCallbackInboxRepository.findById(inboxId)
+        .orElseThrow(() -> new CustomException(ErrorCode.RESOURCE_NOT_FOUND));
+    try {
+      return objectMapper.readValue(inbox.getPayload(), AiCallbackRequest.class);
+    } catch (JsonProcessingException e) {
+      log.error("Failed to deserialize AI callback inbox payload: inboxId={}", inboxId, e);
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
+    }
+  }
+
+  /**
+   * Inbox 처리 완료 기록
+   * <p>
+   * 점유 토큰이 일치할 때만 기록 (처리 중 점유가 만료되어 다른 Worker가 다시 점유한 항목은 변경하지 않음)
+   *
+   * @param inboxId    Inbox ID
+   * @param claimToken 점유 토큰
+   * @return 기록 여부 (false면 점유를 잃음)
+   */
+  @Transactional
+  public boolean markCompleted(UUID inboxId, UUID claimToken) {
+    int updated = aiCallbackInboxRepository.markCompletedIfClaimed(
+        inboxId, claimToken, AiCallbackInboxStatus.COMPLETED, LocalDateTime.now());
+    if (updated == 0) {
+      log.warn("AI callback inbox lease lost before completion: inboxId={}", inboxId);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Inbox 처리 실패 기록
+   * <p>
+   * - 재시도 불가 오류(429를 제외한 4xx CustomException) 또는 최대 시도 횟수 초과: DEAD
+   * - 그 외: PENDING으로 되돌리고 지수 backoff 후 재시도
+   * - 점유 토큰이 일치할 때만 기록 (다른 Worker가 다시 점유한 항목의 상태/backoff는 변경하지 않음)
+   *
+   * @param inboxId    Inbox ID
+   * @param claimToken 점유 토큰
+   * @param error      실패 원인
+   * @return 변경된 Inbox 상태 (항목이 없거나 점유를 잃었으면 null)
+   */
+  @Transactional
+  public AiCallbackInboxStatus markFailed(UUID inboxId, UUID claimToken, Exception error) {
+    AiCallbackInbox inbox = aiCallbackInboxRepository.findById(inboxId).orElse(null);
+    if (inbox == null || !claimToken.equals(inbox.getClaimToken())) {
+      log.warn("AI callback inbox lease lost before failure record: inboxId={}", inboxId);
+      return null;
+    }
+
+    boolean retryable = !(error instanceof CustomException customException
+        && customException.getStatus().is4xxClientError()
+        && customException.getStatus() != HttpStatus.TOO_MANY_REQUESTS);
+    String lastError = truncate(error.getClass().getSimpleName() + ": " + error.getMessage());
+    LocalDateTime now = LocalDateTime.now();
+
+    AiCallbackInboxStatus status;
+    LocalDateTime nextAttemptAt;
+    if (!retryable || inbox.getAttemptCount() >= aiCallbackProperties.getInboxMaxAttempts()) {
+      status = AiCallbackInboxStatus.DEAD;
+      nextAttemptAt = inbox.getNextAttemptAt();
+    } else {
+      status = AiCallbackInboxStatus.PENDING;
+      nextAttemptAt = now.plusSeconds(calculateBackoffSeconds(inbox.getAttemptCount()));
+    }
+
+    // 조회 이후 다른 Worker가 다시 점유했으면 토큰이 바뀌어 변경되지 않음
+    int updated = aiCallbackInboxRepository.markFailedIfClaimed(
+        inboxId, claimToken, status, nextAttemptAt, lastError, now);
+    if (updated == 0) {
+      log.warn("AI callback inbox lease lost before failure record: inboxId={}", inboxId);
+      return null;
+    }
+
+    if (status == AiCallbackInboxStatus.DEAD) {
+      log.error("AI callback moved to DEAD: inboxId={}, contentId={}, attempts={}, error={}",
+          inboxId, inbox.getContentId(), inbox.getAttemptCount(), lastError);
+    } else {
+      log.warn("AI callback will be retried: inboxId={}, contentId={}, attempts={}, nextAttemptAt={}, error={}",
+          inboxId, inbox.getContentId(), inbox.getAttemptCount(), nextAttemptAt, lastError);
+    }
+    return status;
+  }
+
+  /**
+   * 보관 기간이 지난 COMPLETED/DEAD Inbox 삭제 (1회 최대 batchSize건씩)
+   *
+   * @return 삭제한 Inbox 개수
+   */
+  @Transactional
+  public int purgeExpired() {
+    LocalDateTime now = LocalDateTime.now();
+    int batchSize = Math.max(1, aiCallbackProperties.getInboxPurgeBatchSize());
+    int deleted = aiCallbackInboxRepository.deleteCompletedBefore(
+        now.minusDays(aiCallbackProperties.getInboxCompletedRetentionDays()), batchSize);
+    deleted += aiCallbackInboxRepository.deleteDeadBefore(
+        now.minusDays(aiCallbackProperties.getInboxDeadRetentionDays()), batchSize);
+    return deleted;
+  }
+
+  /**
+   * 처리 대기/처리 중인 Inbox 개수
+   */
+  @Transactional(readOnly = true)
+  public long countBacklog() {
+    return aiCallbackInboxRepository.countByStatusIn(
+        List.of(AiCallbackInboxStatus.PENDING, AiCallbackInboxStatus.PROCESSING));
+  }
+
+  /**
+   * 가장 오래된 미처리 Inbox의 대기 시간 (초)
+   */
+  @Transactional(readOnly = true)
+  public long calculateLagSeconds() {
+    LocalDateTime oldest = aiCallbackInboxRepository.findOldestCreatedAtByStatusIn(
+        List.of(AiCallbackInboxStatus.PENDING, AiCallbackInboxStatus.PROCESSING));
+    if (oldest == null) {
+      return 0;
+    }
+    return Math.max(0, Duration.between(oldest, LocalDateTime.now()).getSeconds());
+  }
+
+  /**
+   * DEAD 상태 Inbox 개수
+   */
+  @Transactional(readOnly = true)
+  public long countDead() {
+    return aiCallbackInboxRepository.countByStatusIn(List.of(AiCallbackInboxStatus.DEAD));
+  }
+
+  // 시도 횟수에 따른 지수 backoff (base * 2^(attempt-1), 최대값 제한)
+  private long calculateBackoffSeconds(int attemptCount) {
+    long base = Math.max(1, aiCallbackProperties.getInboxBaseBackoffSeconds());
+    int exponent = Math.min(Math.max(attemptCount - 1, 0), 20);
+    return Math.min(base << exponent, aiCallbackProperties.getInboxMaxBackoffSeconds());
+  }
+
+  private String truncate(String message) {
+    if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+      return message;
+    }
+    return message.substring(0, MAX_ERROR_LENGTH);
+  }
+}
@@ -0,0 +1,238 @@
+package com.tripgether.sns.service;
+
+import com.tripgether.ai.dto.AiCallbackRequest;
+import com.tripgether.common.properties.AiCallbackProperties;
+import com.tripgether.sns.constant.AiCallbackInboxStatus;
+import com.tripgether.sns.dto.AiCallbackInboxClaim;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 서버 Callback Inbox Worker
+ * <p>
+ * - 주기적으로 Inbox를 폴링하여 처리 가능한 Callback을 점유 후 처리
+ * - 동시 처리 개수는 ai.callback.inbox-worker-concurrency로 제한 (배치 Callback 항목 묶음은 1개로 계산)
+ * - 같은 배치로 수신된 항목은 함께 처리하여 장소 검색 중복 제거 및 일괄 저장
+ * - 실패 시 지수 backoff로 재시도, 최대 시도 횟수 초과 시 DEAD
+ * - 보관 기간이 지난 COMPLETED/DEAD 항목은 주기적으로 삭제
+ * - Inbox depth/lag 지표를 Micrometer Gauge로 노출
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallbackInboxWorker {
+
+  private final AiCallbackInboxService aiCallbackInboxService;
+  private final AiCallbackService aiCallbackService;
+  private final AiCallbackProperties aiCallbackProperties;
+  private final MeterRegistry meterRegistry;
+
+  // Callback 처리용 Virtual Thread Executor (동시 실행 수는 permits로 제한)
+  private final ExecutorService inboxExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+  // Gauge 값 (스크랩마다 DB를 조회하지 않도록 주기적으로 갱신)
+  private final AtomicLong inboxDepth = new AtomicLong();
+  private final AtomicLong inboxLagSeconds = new AtomicLong();
+  private final AtomicLong inboxDeadCount = new AtomicLong();
+
+  private Semaphore permits;
+  private Counter completedCounter;
+  private Counter retriedCounter;
+  private Counter deadCounter;
+
+  @PostConstruct
+  public void init() {
+    permits = new Semaphore(Math.max(1, aiCallbackProperties.getInboxWorkerConcurrency()));
+
+    Gauge.builder("ai.callback.inbox.depth", inboxDepth, AtomicLong::get)
+        .description("처리 대기/처리 중인 AI Callback 개수")
+        .register(meterRegistry);
+    Gauge.builder("ai.callback.inbox.lag", inboxLagSeconds, AtomicLong::get)
+        .description("가장 오래된 미처리 AI Callback의 대기 시간")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+    Gauge.builder("ai.callback.inbox.dead", inboxDeadCount, AtomicLong::get)
+        .description("DEAD 상태 AI Callback 개수")
+        .register(meterRegistry);
+
+    completedCounter = Counter.builder("ai.callback.inbox.processed").tag("result", "completed").register(meterRegistry);
+    retriedCounter = Counter.builder("ai.callback.inbox.processed").tag("result", "retried").register(meterRegistry);
+    deadCounter = Counter.builder("ai.callback.inbox.processed").tag("result", "dead").register(meterRegistry);
+  }
+
+  /**
+   * Inbox 폴링
+   * <p>
+   * 남은 동시 처리 슬롯만큼만 처리 단위를 점유하여 처리
+   */
+  @Scheduled(fixedDelayString = "${ai.callback.inbox-poll-interval-ms:1000}")
+  public void poll() {
+    int available = permits.availablePermits();
+    if (available == 0) {
+      return;
+    }
+
+    List<AiCallbackInboxClaim> claims;
+    try {
+      claims = aiCallbackInboxService.claim(available);
+    } catch (Exception e) {
+      log.error("Failed to claim AI callback inbox items: {}", e.getMessage(), e);
+      return;
+    }
+
+    for (AiCallbackInboxClaim claim : claims) {
+      permits.acquireUninterruptibly();
+      inboxExecutor.execute(() -> {
+        try {
+          if (claim.getInboxIds().size() == 1) {
+            process(claim.getInboxIds().get(0), claim.getClaimToken());
+          } else {
+            processBatch(claim);
+          }
+        } finally {
+          permits.release();
+        }
+      });
+    }
+  }
+
+  /**
+   * Inbox 지표 갱신
+   */
+  @Scheduled(fixedDelayString = "${ai.callback.inbox-metrics-interval-ms:15000}")
+  public void refreshMetrics() {
+    try {
+      inboxDepth.set(aiCallbackInboxService.countBacklog());
+      inboxLagSeconds.set(aiCallbackInboxService.calculateLagSeconds());
+      inboxDeadCount.set(aiCallbackInboxService.countDead());
+    } catch (Exception e) {
+      log.warn("Failed to refresh AI callback inbox metrics: {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 보관 기간이 지난 COMPLETED/DEAD Inbox 정리
+   * <p>
+   * 배치 단위로 삭제하여 긴 트랜잭션을 만들지 않음
+   */
+  @Scheduled(fixedDelayString = "${ai.callback.inbox-purge-interval-ms:3600000}")
+  public void purge() {
+    int batchSize = Math.max(1, aiCallbackProperties.getInboxPurgeBatchSize());
+    int total = 0;
+    try {
+      int deleted;
+      do {
+        deleted = aiCallbackInboxService.purgeExpired();
+        total += deleted;
+      } while (deleted >= batchSize);
+    } catch (Exception e) {
+      log.warn("Failed to purge AI callback inbox: {}", e.getMessage());
+    }
+    if (total > 0) {
+      log.info("Purged {} expired AI callback inbox items", total);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    inboxExecutor.shutdownNow();
+  }
+
+  // Inbox 항목 1건 처리 (점유를 잃은 항목의 결과는 기록하지 않음)
+  private void process(UUID inboxId, UUID claimToken) {
+    try {
+      AiCallbackRequest request = aiCallbackInboxService.loadRequest(inboxId);
+      aiCallbackService.processAiServerCallback(request);
+      recordCompleted(inboxId, claimToken);
+    } catch (Exception e) {
+      log.error("Failed to process AI callback inbox: inboxId={}, error={}", inboxId, e.getMessage());
+      recordFailed(inboxId, claimToken, e);
+    }
+  }
+
+  /**
+   * 같은 배치의 Inbox 항목 묶음 처리
+   * <p>
+   * 장소 검색과 저장은 묶음 전체로 한 번에 수행하고, 완료/실패는 항목별로 기록
+   */
+  private void processBatch(AiCallbackInboxClaim claim) {
+    List<UUID> inboxIds = new ArrayList<>();
+    List<AiCallbackRequest> requests = new ArrayList<>();
+    for (UUID inboxId : claim.getInboxIds()) {
+      try {
+        requests.add(aiCallbackInboxService.loadRequest(inboxId));
+        inboxIds.add(inboxId);
+      } catch (Exception e) {
+        log.error("Failed to load AI callback inbox: inboxId={}, error={}", inboxId, e.getMessage());
+        recordFailed(inboxId, claim.getClaimToken(), e);
+      }
+    }
+    if (requests.isEmpty()) {
+      return;
+    }
+
+    List<RuntimeException> failures;
+    try {
+      failures = aiCallbackService.processAiServerCallbackBatch(requests);
+    } catch (Exception e) {
+      log.error("Failed to process AI callback inbox batch: batchId={}, size={}, error={}",
+          claim.getBatchId(), requests.size(), e.getMessage());
+      inboxIds.forEach(inboxId -> recordFailed(inboxId, claim.getClaimToken(), e));
+      return;
+    }
+
+    for (int i = 0; i < inboxIds.size(); i++) {
+      RuntimeException failure = failures.get(i);
+      if (failure == null) {
+        recordCompleted(inboxIds.get(i), claim.getClaimToken());
+      } else {
+        log.error("Failed to process AI callback inbox: inboxId={}, batchId={}, error={}",
+            inboxIds.get(i), claim.getBatchId(), failure.getMessage());
+        recordFailed(inboxIds.get(i), claim.getClaimToken(), failure);
+      }
+    }
+  }
+
+  // 처리 완료 기록 (점유를 잃은 항목은 기록하지 않음)
+  private void recordCompleted(UUID inboxId, UUID claimToken) {
+    try {
+      if (aiCallbackInboxService.markCompleted(inboxId, claimToken)) {
+        completedCounter.increment();
+        log.info("AI callback inbox processed: inboxId={}", inboxId);
+      }
+    } catch (Exception e) {
+      // 기록 실패 시 lockedUntil 만료 후 다시 처리됨 (fingerprint로 중복 처리 생략)
+      log.error("Failed to record AI callback inbox completion: inboxId={}, error={}", inboxId, e.getMessage());
+    }
+  }
+
+  // 처리 실패 기록 (점유를 잃은 항목은 기록하지 않음)
+  private void recordFailed(UUID inboxId, UUID claimToken, Exception error) {
+    try {
+      AiCallbackInboxStatus status = aiCallbackInboxService.markFailed(inboxId, claimToken, error);
+      if (status == AiCallbackInboxStatus.DEAD) {
+        deadCounter.increment();
+      } else if (status == AiCallbackInboxStatus.PENDING) {
+        retriedCounter.increment();
+      }
+    } catch (Exception markError) {
+      // 기록 실패 시 lockedUntil 만료 후 다시 처리됨
+      log.error("Failed to record AI callback inbox failure: inboxId={}, error={}", inboxId, markError.getMessage());
+    }
+  }
+}
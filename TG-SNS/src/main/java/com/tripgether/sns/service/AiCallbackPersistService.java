@@ -0,0 +1,397 @@
+package com.tripgether.sns.service;
+
+import com.tripgether.ai.dto.AiCallbackRequest;
+import com.tripgether.common.constant.ContentStatus;
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+import com.tripgether.place.constant.PlacePlatform;
+import com.tripgether.place.dto.GooglePlaceSearchDto;
+import com.tripgether.place.dto.MemberPlaceBulkInsertResult;
+import com.tripgether.place.repository.MemberPlaceRepository;
+import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.place.service.PlaceLookupCache;
+import com.tripgether.sns.dto.ResolvedCallback;
+import com.tripgether.sns.dto.ResolvedPlace;
+import com.tripgether.sns.entity.Content;
+import com.tripgether.sns.entity.ContentPlace;
+import com.tripgether.sns.event.ContentCompletedEvent;
+import com.tripgether.sns.repository.ContentMemberRepository;
+import com.tripgether.sns.repository.ContentPlaceRepository;
+import com.tripgether.sns.repository.ContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * AI 서버 Callback 결과 DB 반영
+ * <p>
+ * - 외부 API(Google Places) 조회가 끝난 결과만 전달받아 짧은 트랜잭션으로 저장
+ * - 트랜잭션 안에서는 외부 I/O를 수행하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiCallbackPersistService {
+
+  private final ContentRepository contentRepository;
+  private final ContentMemberRepository contentMemberRepository;
+  private final PlaceRepository placeRepository;
+  private final ContentPlaceRepository contentPlaceRepository;
+  private final MemberPlaceRepository memberPlaceRepository;
+  private final PlaceLookupCache placeLookupCache;
+  private final ApplicationEventPublisher eventPublisher;
+
+  /**
+   * 성공 Callback 결과 저장
+   *
+   * - Content가 COMPLETED 상태: 기존 ContentPlace와 비교하여 변경분만 반영 (업데이트 모드)
+   * - Content가 PENDING/FAILED 상태: 신규 ContentPlace 생성
+   * - Place, PlacePlatformReference, ContentPlace, MemberPlace 저장 및 Content 상태 변경을 하나의 트랜잭션으로 처리
+   * - 커밋 이후 ContentCompletedEvent로 회원 알림 전송 (ContentNotificationDispatcher)
+   *
+   * @param contentId      대상 Content ID
+   * @param request        AI Callback 요청
+   * @param resolvedPlaces      Google Places API 검색에 성공한 장소 목록 (position 오름차순)
+   * @param unresolvedPositions 검색에 실패한 장소의 position (해당 position의 기존 ContentPlace는 유지)
+   * @param fingerprint         처리 완료로 기록할 Callback fingerprint (null이면 기록하지 않음)
+   * @return 저장된 Content
+   */
+  @Transactional
+  public Content applySuccessCallback(UUID contentId, AiCallbackRequest request,
+      List<ResolvedPlace> resolvedPlaces, Set<Integer> unresolvedPositions, String fingerprint) {
+    // Google place_id 기준 Place + PlacePlatformReference 일괄 Upsert (단일 SQL)
+    Map<String, UUID> placeIdsByGooglePlaceId = upsertPlaces(
+        resolvedPlaces.stream().map(ResolvedPlace::getPlaceDetail).toList());
+    return applyResolvedPlaces(contentId, request, resolvedPlaces, unresolvedPositions, placeIdsByGooglePlaceId,
+        fingerprint);
+  }
+
+  /**
+   * 배치 Callback 성공 결과 일괄 저장
+   * <p>
+   * - 모든 항목의 장소를 플랫폼별 단일 Upsert로 저장 (항목 간 같은 장소는 한 번만 저장)
+   * - 이후 Content별 ContentPlace/MemberPlace 저장 및 상태 변경을 같은 트랜잭션에서 처리
+   * - 한 항목이라도 실패하면 전체 롤백 (호출 측에서 항목별 저장으로 재시도)
+   *
+   * @param callbacks 장소 검색이 끝난 성공 Callback 목록
+   */
+  @Transactional
+  public void applySuccessCallbacks(List<ResolvedCallback> callbacks) {
+    Map<String, UUID> placeIdsByGooglePlaceId = upsertPlaces(callbacks.stream()
+        .flatMap(callback -> callback.getResolvedPlaces().stream())
+        .map(ResolvedPlace::getPlaceDetail)
+        .toList());
+
+    for (ResolvedCallback callback : callbacks) {
+      applyResolvedPlaces(callback.getContentId(), callback.getRequest(), callback.getResolvedPlaces(),
+          callback.getUnresolvedPositions(), placeIdsByGooglePlaceId, callback.getFingerprint());
+    }
+  }
+
+  /**
+   * 장소 검색 결과 일괄 Upsert
+   * <p>
+   * 변경된 Place의 장소 검색 캐시는 커밋 이후 갱신
+   * Google API 장애로 기존 DB Place로 대체된 결과(플랫폼 place_id 없음)는 Upsert하지 않음
+   * 검색 플랫폼(GOOGLE, KAKAO)별로 나누어 해당 플랫폼 place_id 기준으로 Upsert
+   *
+   * @param resolvedDetails 장소 상세 정보 목록
+   * @return 플랫폼 place_id -> Place ID
+   */
+  @Transactional
+  public Map<String, UUID> upsertPlaces(List<GooglePlaceSearchDto.PlaceDetail> resolvedDetails) {
+    Map<PlacePlatform, List<GooglePlaceSearchDto.PlaceDetail>> placeDetailsByPlatform = new LinkedHashMap<>();
+    for (GooglePlaceSearchDto.PlaceDetail placeDetail : resolvedDetails) {
+      if (placeDetail.getPlaceId() == null) {
+        continue;
+      }
+      PlacePlatform platform = placeDetail.getPlatform() != null ? placeDetail.getPlatform() : PlacePlatform.GOOGLE;
+      placeDetailsByPlatform.computeIfAbsent(platform, key -> new ArrayList<>()).add(placeDetail);
+    }
+
+    Map<String, UUID> placeIdsByGooglePlaceId = new HashMap<>();
+    List<GooglePlaceSearchDto.PlaceDetail> upsertedDetails = new ArrayList<>();
+    for (Map.Entry<PlacePlatform, List<GooglePlaceSearchDto.PlaceDetail>> entry : placeDetailsByPlatform.entrySet()) {
+      List<GooglePlaceSearchDto.PlaceDetail> placeDetails = entry.getValue();
+      List<UUID> placeIds = placeRepository.upsertAllByPlatformPlaceId(entry.getKey(), placeDetails);
+      for (int i = 0; i < placeDetails.size(); i++) {
+        placeIdsByGooglePlaceId.put(placeDetails.get(i).getPlaceId(), placeIds.get(i));
+      }
+      upsertedDetails.addAll(placeDetails);
+    }
+
+    placeLookupCache.refreshAll(upsertedDetails);
+    return placeIdsByGooglePlaceId;
+  }
+
+  // 성공 Callback 결과 저장 (Content 상태/메타데이터, ContentPlace, MemberPlace)
+  private Content applyResolvedPlaces(UUID contentId, AiCallbackRequest request, List<ResolvedPlace> resolvedPlaces,
+      Set<Integer> unresolvedPositions, Map<String, UUID> placeIdsByGooglePlaceId, String fingerprint) {
+    Content content = contentRepository.findById(contentId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+    // Content가 이미 COMPLETED 상태인지 확인 (재처리 요청 판단용)
+    boolean isContentAlreadyCompleted = (content.getStatus() == ContentStatus.COMPLETED);
+
+    // Content 상태를 COMPLETED로 변경 (신규 또는 재처리 모두)
+    content.setStatus(ContentStatus.COMPLETED);
+
+    // ContentInfo로 Content 메타데이터 업데이트
+    updateContentWithContentInfo(content, request);
+
+    // 재전송 감지용 fingerprint 기록
+    content.setCallbackFingerprint(fingerprint);
+
+    contentRepository.save(content);
+
+    log.info("Persisting {} places for contentId={} (update mode: {})",
+        resolvedPlaces.size(), content.getId(), isContentAlreadyCompleted);
+
+    // 1. placeId -> position (같은 Google 장소가 여러 번 추출된 경우 첫 번째 position만 사용)
+    Map<UUID, Integer> targetPositions = new LinkedHashMap<>();
+    for (ResolvedPlace resolvedPlace : resolvedPlaces) {
+      // Google API 장애로 대체된 결과는 기존 Place ID를 그대로 사용
+      UUID placeId = resolvedPlace.getPlaceDetail().getCachedPlaceId() != null
+          ? resolvedPlace.getPlaceDetail().getCachedPlaceId()
+          : placeIdsByGooglePlaceId.get(resolvedPlace.getPlaceDetail().getPlaceId());
+      if (placeId == null) {
+        log.error("Upserted place not found: googlePlaceId={}", resolvedPlace.getPlaceDetail().getPlaceId());
+        throw new CustomException(ErrorCode.DATABASE_ERROR);
+      }
+
+      if (targetPositions.putIfAbsent(placeId, resolvedPlace.getPosition()) != null) {
+        log.debug("Duplicated place in callback skipped: position={}, placeId={}", resolvedPlace.getPosition(), placeId);
+      }
+    }
+
+    // 2. 기존 ContentPlace와 비교하여 변경된 연결만 반영 (재분석 시에도 전체 삭제 없음)
+    reconcileContentPlaces(content, targetPositions, unresolvedPositions);
+
+    // 3. 해당 Content를 요청한 모든 회원에게 MemberPlace 일괄 생성
+    createMemberPlaces(content, targetPositions.keySet());
+
+    // 4. 분석 완료 이벤트 발행 (커밋 이후 비동기 알림 전송)
+    eventPublisher.publishEvent(new ContentCompletedEvent(content.getId(), content.getTitle(), content.getThumbnailUrl()));
+
+    return content;
+  }
+
+  /**
+   * 실패 Callback 결과 저장
+   *
+   * Content 상태를 FAILED로 변경
+   *
+   * @param contentId   대상 Content ID
+   * @param fingerprint 처리 완료로 기록할 Callback fingerprint
+   */
+  @Transactional
+  public void applyFailedCallback(UUID contentId, String fingerprint) {
+    log.error("Processing FAILED callback for contentId={}", contentId);
+
+    Content content = contentRepository.findById(contentId)
+        .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+
+    // Content 상태를 FAILED로 변경하고 저장
+    content.setStatus(ContentStatus.FAILED);
+    content.setCallbackFingerprint(fingerprint);
+    contentRepository.save(content);
+  }
+
+  /**
+   * 알림 전송 완료된 회원의 notified 플래그 일괄 저장 (단일 UPDATE)
+   *
+   * @param contentId         대상 Content ID
+   * @param notifiedMemberIds 알림 전송이 완료된 Member ID 목록
+   */
+  @Transactional
+  public void markNotified(UUID contentId, Collection<UUID> notifiedMemberIds) {
+    int updatedCount = contentMemberRepository.markNotifiedByContentIdAndMemberIds(contentId, notifiedMemberIds);
+    log.debug("ContentMember notified updated: {} rows (contentId={})", updatedCount, contentId);
+  }
+
+  /**
+   * ContentInfo로 Content 메타데이터 업데이트
+   *
+   * null이 아닌 필드만 업데이트하여 기존 데이터 보존
+   *
+   * @param content 대상 Content
+   * @param request AI Callback 요청
+   */
+  private void updateContentWithContentInfo(Content content, AiCallbackRequest request) {
+    AiCallbackRequest.ContentInfo contentInfo = request.getContentInfo();
+
+    if (contentInfo == null) {
+      log.warn("ContentInfo is null for contentId={}. Skipping metadata update.", content.getId());
+      return;
+    }
+
+    // title 업데이트 (null이 아닐 때만)
+    if (contentInfo.getTitle() != null) {
+      content.setTitle(contentInfo.getTitle());
+    }
+
+    // thumbnailUrl 업데이트 (null이 아닐 때만)
+    if (contentInfo.getThumbnailUrl() != null) {
+      content.setThumbnailUrl(contentInfo.getThumbnailUrl());
+    }
+
+    // contentUrl 업데이트 (null이 아닐 때만) - originalUrl에 매핑
+    if (contentInfo.getContentUrl() != null) {
+      String newUrl = contentInfo.getContentUrl();
+      // 현재 URL과 같으면 업데이트 스킵
+      if (!newUrl.equals(content.getOriginalUrl())) {
+        // 다른 Content에 이미 존재하는지 확인 (unique constraint 위반 방지)
+        Optional<Content> existingContent = contentRepository.findByOriginalUrl(newUrl);
+        if (existingContent.isPresent() && !existingContent.get().getId().equals(content.getId())) {
+          log.warn("Cannot update originalUrl: URL already exists in another Content. " +
+              "currentContentId={}, existingContentId={}, url={}",
+              content.getId(), existingContent.get().getId(), newUrl);
+        } else {
+          content.setOriginalUrl(newUrl);
+        }
+      }
+    }
+
+    // platformUploader 업데이트 (null이 아닐 때만)
+    if (contentInfo.getPlatformUploader() != null) {
+      content.setPlatformUploader(contentInfo.getPlatformUploader());
+    }
+
+    // summary 업데이트 (null이 아닐 때만)
+    if (contentInfo.getSummary() != null) {
+      content.setSummary(contentInfo.getSummary());
+    }
+
+    // platform 업데이트 (null이 아닐 때만)
+    if (contentInfo.getPlatform() != null) {
+      try {
+        content.setPlatform(com.tripgether.sns.constant.ContentPlatform.valueOf(contentInfo.getPlatform()));
+      } catch (IllegalArgumentException e) {
+        log.error("Invalid platform value: {}. Keeping existing platform for contentId={}",
+            contentInfo.getPlatform(), content.getId());
+      }
+    }
+
+    log.debug("Updated Content with ContentInfo: contentId={}, title={}, summary={}, platformUploader={}",
+        content.getId(),
+        contentInfo.getTitle() != null ? contentInfo.getTitle() : "(unchanged)",
+        contentInfo.getSummary() != null ? contentInfo.getSummary().substring(0, Math.min(30, contentInfo.getSummary().length())) + "..." : "(unchanged)",
+        contentInfo.getPlatformUploader() != null ? contentInfo.getPlatformUploader() : "(unchanged)");
+  }
+
+  /**
+   * ContentPlace 연결 조정
+   * <p>
+   * 기존 (place, position) 목록과 새 목록을 비교하여 변경분만 반영
+   * - 새 목록에 없는 장소: 삭제
+   * - 검색에 실패한 position의 장소: 새 목록에 없어도 유지 (일시적인 검색 실패로 기존 연결이 사라지지 않도록)
+   * - position이 바뀐 장소: 임시 음수 position으로 옮긴 뒤 최종 position으로 변경 (uk_content_place_pos 충돌 방지)
+   * - 새로 추가된 장소: 생성
+   * - 변경 없는 장소: 그대로 유지
+   *
+   * @param content             대상 Content
+   * @param targetPositions     placeId -> position (새 목록)
+   * @param unresolvedPositions 검색에 실패한 장소의 position
+   */
+  private void reconcileContentPlaces(Content content, Map<UUID, Integer> targetPositions,
+      Set<Integer> unresolvedPositions) {
+    List<ContentPlace> existingContentPlaces = contentPlaceRepository.findByContentId(content.getId());
+
+    List<UUID> removedIds = new ArrayList<>();
+    Map<UUID, Integer> movedPositions = new LinkedHashMap<>();
+    Set<UUID> existingPlaceIds = new HashSet<>();
+    int keptCount = 0;
+    int unchangedCount = 0;
+
+    for (ContentPlace contentPlace : existingContentPlaces) {
+      UUID placeId = contentPlace.getPlace().getId();
+      Integer targetPosition = targetPositions.get(placeId);
+
+      if (!existingPlaceIds.add(placeId)) {
+        removedIds.add(contentPlace.getId());
+      } else if (targetPosition == null) {
+        if (unresolvedPositions.contains(contentPlace.getPosition())) {
+          keptCount++;
+        } else {
+          removedIds.add(contentPlace.getId());
+        }
+      } else if (targetPosition != contentPlace.getPosition()) {
+        movedPositions.put(contentPlace.getId(), targetPosition);
+      } else {
+        unchangedCount++;
+      }
+    }
+
+    // 1. 삭제된 장소 연결 제거
+    if (!removedIds.isEmpty()) {
+      contentPlaceRepository.deleteByIdIn(removedIds);
+    }
+
+    // 2. 위치가 바뀐 연결은 임시 position을 거쳐 최종 position으로 이동
+    if (!movedPositions.isEmpty()) {
+      contentPlaceRepository.moveToTemporaryPositions(movedPositions.keySet());
+      movedPositions.forEach(contentPlaceRepository::updatePosition);
+    }
+
+    // 3. 새 장소 연결 생성
+    int insertedCount = 0;
+    for (Map.Entry<UUID, Integer> target : targetPositions.entrySet()) {
+      if (existingPlaceIds.contains(target.getKey())) {
+        continue;
+      }
+      ContentPlace contentPlace = ContentPlace.builder()
+          .content(content)
+          .place(placeRepository.getReferenceById(target.getKey()))
+          .position(target.getValue())  // Place 순서 정보
+          .build();
+      contentPlaceRepository.save(contentPlace);
+      insertedCount++;
+    }
+
+    log.info("ContentPlace reconciled: contentId={}, inserted={}, deleted={}, moved={}, kept={}, unchanged={}",
+        content.getId(), insertedCount, removedIds.size(), movedPositions.size(), keptCount,
+        unchangedCount);
+  }
+
+  /**
+   * Content를 요청한 모든 회원에게 MemberPlace 일괄 생성
+   * - TEMPORARY 상태로 초기화
+   * - sourceContentId로 Content 추적
+   * - 회원 목록은 Callback당 한 번만 조회
+   * - (회원 x 장소) 전체 쌍을 단일 INSERT ... ON CONFLICT DO NOTHING으로 처리 (이미 존재하면 스킵)
+   *
+   * @param content  원본 Content
+   * @param placeIds 연결된 Place ID 목록
+   */
+  private void createMemberPlaces(Content content, Collection<UUID> placeIds) {
+    if (placeIds.isEmpty()) {
+      return;
+    }
+
+    // 1. Content를 요청한 모든 회원 ID 조회
+    List<UUID> memberIds = contentMemberRepository.findMemberIdsByContentId(content.getId());
+
+    log.info("Creating MemberPlace for {} members x {} places (contentId={})",
+        memberIds.size(), placeIds.size(), content.getId());
+
+    // 2. 모든 (회원, 장소) 쌍 일괄 생성
+    MemberPlaceBulkInsertResult result =
+        memberPlaceRepository.insertTemporaryIgnoringDuplicates(memberIds, placeIds, content.getId());
+
+    log.info("MemberPlace creation completed: {} created, {} skipped (contentId={})",
+        result.getCreatedCount(), result.getSkippedCount(), content.getId());
+  }
+}
@@ -2,37 +2,31 @@ package com.tripgether.sns.service;
 
 import com.tripgether.ai.dto.AiCallbackRequest;
 import com.tripgether.ai.dto.AiCallbackResponse;
-import com.tripgether.common.constant.ContentStatus;
 import com.tripgether.common.exception.CustomException;
 import com.tripgether.common.exception.constant.ErrorCode;
-import com.tripgether.place.constant.PlacePlatform;
-import com.tripgether.place.constant.PlaceSavedStatus;
-import com.tripgether.place.dto.GooglePlaceSearchDto;
-import com.tripgether.place.entity.MemberPlace;
-import com.tripgether.place.entity.Place;
-import com.tripgether.place.entity.PlacePlatformReference;
-import com.tripgether.place.repository.MemberPlaceRepository;
-import com.tripgether.place.repository.PlacePlatformReferenceRepository;
-import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.common.properties.AiCallbackProperties;
+import com.tripgether.place.dto.PlaceSearchQuery;
+import com.tripgether.place.dto.PlaceSearchResult;
 import com.tripgether.place.service.PlaceSearchService;
-import com.tripgether.sns.entity.Content;
-import com.tripgether.sns.entity.ContentMember;
-import com.tripgether.sns.entity.ContentPlace;
-import com.tripgether.sns.repository.ContentMemberRepository;
-import com.tripgether.sns.repository.ContentPlaceRepository;
+import com.tripgether.sns.dto.ResolvedCallback;
+import com.tripgether.sns.dto.ResolvedPlace;
 import com.tripgether.sns.repository.ContentRepository;
+import com.tripgether.sns.util.AiCallbackFingerprintUtil;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import com.tripgether.member.service.FcmService;
 
 // AI 서버 Webhook Callback 처리
 @Service
@@ -41,51 +35,52 @@ import com.tripgether.member.service.FcmService;
 public class AiCallbackService {
 
   private final ContentRepository contentRepository;
-  private final ContentMemberRepository contentMemberRepository;
-  private final PlaceRepository placeRepository;
-  private final ContentPlaceRepository contentPlaceRepository;
-  private final PlacePlatformReferenceRepository placePlatformReferenceRepository;
-  private final MemberPlaceRepository memberPlaceRepository;
   private final PlaceSearchService placeSearchService;
-  private final FcmService fcmService;
+  private final AiCallbackPersistService aiCallbackPersistService;
+  private final AiCallbackInboxService aiCallbackInboxService;
+  private final AiCallbackProperties aiCallbackProperties;
 
   /**
    * AI 서버로부터 받은 Callback 처리
    *
    * - SUCCESS면 Place 저장
    * - FAILED면 상태만 변경
+   * - 1단계: Google Places API 조회는 트랜잭션 없이 수행 (DB 커넥션 점유 방지)
+   * - 2단계: 조회 결과를 AiCallbackPersistService의 짧은 트랜잭션으로 저장
+   * - 3단계: 커밋 이후 FCM 알림 비동기 전송 (ContentNotificationDispatcher)
    *
    * @param request AI Callback 요청
    * @return AI Callback 응답
    */
-  @Transactional
   public AiCallbackResponse processAiServerCallback(AiCallbackRequest request) {
-    // contentId 추출: 최상위 contentId 우선, 없으면 ContentInfo에서 추출
-    UUID contentId = request.getContentId() != null
-        ? request.getContentId()
-        : (request.getContentInfo() != null && request.getContentInfo().getContentId() != null
-            ? request.getContentInfo().getContentId()
-            : null);
-
-    if (contentId == null) {
-      log.error("ContentInfo or contentId is null in callback request. resultStatus={}", request.getResultStatus());
-      throw new CustomException(ErrorCode.INVALID_REQUEST);
-    }
+    UUID contentId = extractContentId(request);
 
     log.info("Processing AI callback: contentId={}, resultStatus={}",
         contentId, request.getResultStatus());
 
-    // Content 조회 - 없으면 예외 발생
-    Content content = contentRepository.findById(contentId)
-        .orElseThrow(() -> new CustomException(ErrorCode.CONTENT_NOT_FOUND));
+    // 동일 Callback 재전송 확인 - 이미 처리된 요청이면 외부 API 호출 없이 즉시 응답
+    String fingerprint = AiCallbackFingerprintUtil.generate(contentId, request);
+    if (contentRepository.existsByIdAndCallbackFingerprint(contentId, fingerprint)) {
+      log.info("Duplicate AI callback ignored: contentId={}, fingerprint={}", contentId, fingerprint);
+      return AiCallbackResponse.builder()
+          .received(true)
+          .contentId(contentId)
+          .duplicate(true)
+          .build();
+    }
+
+    // Content 존재 확인 - 없으면 외부 API 호출 전에 예외 발생
+    if (!contentRepository.existsById(contentId)) {
+      throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+    }
 
     // 결과 상태에 따라 분기 처리
     if ("SUCCESS".equals(request.getResultStatus())) {
       // 성공 - Place 데이터 저장
-      processAiServerSuccessCallback(content, request);
+      processAiServerSuccessCallback(contentId, request, fingerprint);
     } else if ("FAILED".equals(request.getResultStatus())) {
       // 실패 - Content 상태만 FAILED로 변경
-      processFailedCallback(content, request);
+      aiCallbackPersistService.applyFailedCallback(contentId, fingerprint);
     } else {
       // 알 수 없는 상태값 - 에러 처리
       log.error("Unknown resultStatus: {}", request.getResultStatus());
@@ -97,416 +92,296 @@ public class AiCallbackService {
     return AiCallbackResponse.builder()
         .received(true)
         .contentId(contentId)
+        .duplicate(false)
         .build();
   }
 
   /**
-   * 성공 Callback 처리
-   *
-   * - Content가 COMPLETED 상태: 기존 ContentPlace 삭제 후 재생성 (업데이트 모드)
-   * - Content가 PENDING/FAILED 상태: 신규 ContentPlace 생성
-   * - Google Places API 호출하여 place_id 및 상세 정보 획득
+   * Callback 요청에서 contentId 추출
+   * <p>
+   * 최상위 contentId 우선, 없으면 ContentInfo에서 추출
    *
-   * @param content 대상 Content
    * @param request AI Callback 요청
+   * @return 대상 Content ID
    */
-  private void processAiServerSuccessCallback(Content content, AiCallbackRequest request) {
-    log.debug("Processing SUCCESS callback for contentId={}", content.getId());
-
-    // Content가 이미 COMPLETED 상태인지 확인 (재처리 요청 판단용)
-    boolean isContentAlreadyCompleted = (content.getStatus() == ContentStatus.COMPLETED);
-
-    if (isContentAlreadyCompleted) {
-      // 업데이트 모드 - 기존 ContentPlace 모두 삭제
-      log.info("Content already COMPLETED. Updating existing data: contentId={}", content.getId());
-      contentPlaceRepository.deleteByContentIdWithFlush(content.getId());
-      log.debug("Deleted existing ContentPlaces for contentId={}", content.getId());
-    }
-
-    // Content 상태를 COMPLETED로 변경 (신규 또는 재처리 모두)
-    content.setStatus(ContentStatus.COMPLETED);
-
-    // ContentInfo로 Content 메타데이터 업데이트
-    updateContentWithContentInfo(content, request);
-
-    contentRepository.save(content);
-
-    // AI 서버에서 받은 Place 정보로 ContentPlace 생성
-    if (request.getPlaces() != null && !request.getPlaces().isEmpty()) {
-      List<AiCallbackRequest.PlaceInfo> places = request.getPlaces();
-      log.info("Processing {} places for contentId={} (update mode: {})",
-          places.size(), content.getId(), isContentAlreadyCompleted);
-
-      // 각 Place 정보를 순회하며 저장
-      for (int i = 0; i < places.size(); i++) {
-        AiCallbackRequest.PlaceInfo placeInfo = places.get(i);
-
-        log.info("Processing place {}/{}", i + 1, places.size());
-        log.info("Place Name: {}", placeInfo.getName());
-        log.info("Address: {}", placeInfo.getAddress());
-        
-        // language 필드가 null이면 기본값 "ko" 사용
-        String language = placeInfo.getLanguage() != null ? placeInfo.getLanguage() : "ko";
-        log.info("Language: {}", language);
-
-        try {
-          // 1. Google Places API 호출 (실패 시 CustomException 발생)
-          GooglePlaceSearchDto.PlaceDetail googlePlace = placeSearchService.searchGooglePlace(
-              placeInfo.getName(),
-              placeInfo.getAddress(),
-              language
-          );
-
-          // 2. Google 응답으로 Place 생성/업데이트
-          Place place = createOrUpdatePlace(googlePlace);
-
-          // 3. PlacePlatformReference 저장 (Google place_id)
-          savePlacePlatformReference(place, googlePlace.getPlaceId());
-
-          // 4. Content와 Place 연결 생성 (position 포함)
-          createContentPlace(content, place, i);
-
-          // 5. 해당 Content를 요청한 모든 회원에게 MemberPlace 생성
-          createMemberPlaces(content, place);
-
-          log.info("Place processed successfully: DB ID={}", place.getId());
-
-
-        } catch (CustomException e) {
-          log.error("Failed to process place {}/{}", i + 1, places.size());
-          log.error("Place Name: {}", placeInfo.getName());
-          log.error("HTTP Status: {}", e.getStatus());
-          log.error("Error Message: {}", e.getMessage());
+  static UUID extractContentId(AiCallbackRequest request) {
+    UUID contentId = request.getContentId() != null
+        ? request.getContentId()
+        : (request.getContentInfo() != null && request.getContentInfo().getContentId() != null
+            ? request.getContentInfo().getContentId()
+            : null);
 
-          // 예외 재발생으로 전체 트랜잭션 롤백
-          throw e;
-        }
-      }
-    } else {
-      // Place 데이터가 없는 경우 경고 로그
-      log.warn("No places found in callback for contentId={}", content.getId());
+    if (contentId == null) {
+      log.error("ContentInfo or contentId is null in callback request. resultStatus={}", request.getResultStatus());
+      throw new CustomException(ErrorCode.INVALID_REQUEST);
     }
-
-    // AI 분석 완료 후 모든 요청 회원에게 알림 전송
-    sendContentCompleteNotification(content, request);
+    return contentId;
   }
 
   /**
-   * ContentInfo로 Content 메타데이터 업데이트
+   * 성공 Callback 처리
    *
-   * null이 아닌 필드만 업데이트하여 기존 데이터 보존
+   * - Google Places API 호출하여 place_id 및 상세 정보 획득 (트랜잭션 밖)
+   * - 조회 결과를 한 번의 짧은 트랜잭션으로 저장
+   * - 커밋 이후 요청 회원에게 알림 전송 (비동기)
    *
-   * @param content 대상 Content
-   * @param request AI Callback 요청
+   * - 모든 장소가 검색된 경우에만 fingerprint 저장 (일부 실패 시 재전송으로 누락 장소 보완 가능)
+   * - Google API 장애(Circuit Breaker OPEN)로 보류된 장소가 있으면 Callback을 Inbox에 지연 재처리로 등록
+   *
+   * @param contentId   대상 Content ID
+   * @param request     AI Callback 요청
+   * @param fingerprint Callback 요청 fingerprint
    */
-  private void updateContentWithContentInfo(Content content, AiCallbackRequest request) {
-    AiCallbackRequest.ContentInfo contentInfo = request.getContentInfo();
+  private void processAiServerSuccessCallback(UUID contentId, AiCallbackRequest request, String fingerprint) {
+    log.debug("Processing SUCCESS callback for contentId={}", contentId);
 
-    if (contentInfo == null) {
-      log.warn("ContentInfo is null for contentId={}. Skipping metadata update.", content.getId());
-      return;
+    // 1. AI 서버에서 받은 Place 정보로 Google Places API 병렬 호출 (position 순서로 결과 정렬)
+    List<ResolvedPlace> resolvedPlaces = List.of();
+    boolean deferred = false;
+    if (request.getPlaces() != null && !request.getPlaces().isEmpty()) {
+      log.info("Resolving {} places for contentId={}", request.getPlaces().size(), contentId);
+      List<PlaceSearchResult> outcomes =
+          lookupPlaces(request.getPlaces(), aiCallbackProperties.getPlaceResolveTimeoutSeconds());
+      resolvedPlaces = toResolvedPlaces(contentId, request.getPlaces(), outcomes);
+      deferred = hasCircuitOpenFailure(outcomes);
+    } else {
+      // Place 데이터가 없는 경우 경고 로그
+      log.warn("No places found in callback for contentId={}", contentId);
     }
 
-    // title 업데이트 (null이 아닐 때만)
-    if (contentInfo.getTitle() != null) {
-      content.setTitle(contentInfo.getTitle());
-    }
+    int requestedPlaceCount = request.getPlaces() != null ? request.getPlaces().size() : 0;
+    String completedFingerprint = resolvedPlaces.size() == requestedPlaceCount ? fingerprint : null;
+
+    // 2. Place, ContentPlace, MemberPlace 저장 및 Content 상태 변경 (단일 트랜잭션)
+    // 검색에 실패한 position의 기존 ContentPlace는 삭제하지 않음 (재전송/재처리로 보완)
+    // 커밋 이후 ContentNotificationDispatcher가 요청 회원들에게 비동기로 알림 전송
+    aiCallbackPersistService.applySuccessCallback(contentId, request, resolvedPlaces,
+        unresolvedPositions(requestedPlaceCount, resolvedPlaces), completedFingerprint);
 
-    // thumbnailUrl 업데이트 (null이 아닐 때만)
-    if (contentInfo.getThumbnailUrl() != null) {
-      content.setThumbnailUrl(contentInfo.getThumbnailUrl());
+    // 3. Google API 장애로 보류된 장소는 지연 재처리
+    if (deferred) {
+      deferCallback(contentId, request);
     }
+  }
 
-    // contentUrl 업데이트 (null이 아닐 때만) - originalUrl에 매핑
-    if (contentInfo.getContentUrl() != null) {
-      String newUrl = contentInfo.getContentUrl();
-      // 현재 URL과 같으면 업데이트 스킵
-      if (!newUrl.equals(content.getOriginalUrl())) {
-        // 다른 Content에 이미 존재하는지 확인 (unique constraint 위반 방지)
-        Optional<Content> existingContent = contentRepository.findByOriginalUrl(newUrl);
-        if (existingContent.isPresent() && !existingContent.get().getId().equals(content.getId())) {
-          log.warn("Cannot update originalUrl: URL already exists in another Content. " +
-              "currentContentId={}, existingContentId={}, url={}",
-              content.getId(), existingContent.get().getId(), newUrl);
-        } else {
-          content.setOriginalUrl(newUrl);
+  /**
+   * 같은 배치로 수신된 Callback 일괄 처리 (Inbox Worker용)
+   * <p>
+   * - 항목별 검증 후 SUCCESS 항목들의 장소를 (name, address, language) 기준으로 중복 제거하여 한 번만 검색
+   * - 검색된 장소는 배치 전체를 단일 Upsert로 저장하고, Content별 연결 정보와 함께 한 트랜잭션으로 저장
+   * - 일괄 저장이 실패하면 항목별 트랜잭션으로 다시 저장하여 실패한 항목만 재시도 대상이 되도록 함
+   * - 항목별 처리 결과를 반환 (일부 실패해도 나머지 항목은 처리)
+   *
+   * @param requests 같은 배치의 AI Callback 요청 목록 (Content 중복 없음)
+   * @return 요청 순서와 동일한 항목별 실패 원인 (성공 시 null)
+   */
+  public List<RuntimeException> processAiServerCallbackBatch(List<AiCallbackRequest> requests) {
+    RuntimeException[] failures = new RuntimeException[requests.size()];
+    UUID[] contentIds = new UUID[requests.size()];
+    String[] fingerprints = new String[requests.size()];
+    boolean[] done = new boolean[requests.size()];
+
+    // 1. 항목별 검증 및 중복 Callback 확인, FAILED 항목 처리
+    for (int i = 0; i < requests.size(); i++) {
+      AiCallbackRequest request = requests.get(i);
+      try {
+        contentIds[i] = extractContentId(request);
+        fingerprints[i] = AiCallbackFingerprintUtil.generate(contentIds[i], request);
+        if (contentRepository.existsByIdAndCallbackFingerprint(contentIds[i], fingerprints[i])) {
+          log.info("Duplicate AI callback ignored in batch: contentId={}", contentIds[i]);
+          done[i] = true;
+        } else if (!contentRepository.existsById(contentIds[i])) {
+          throw new CustomException(ErrorCode.CONTENT_NOT_FOUND);
+        } else if ("FAILED".equals(request.getResultStatus())) {
+          aiCallbackPersistService.applyFailedCallback(contentIds[i], fingerprints[i]);
+          done[i] = true;
+        } else if (!"SUCCESS".equals(request.getResultStatus())) {
+          log.error("Unknown resultStatus: {}", request.getResultStatus());
+          throw new CustomException(ErrorCode.INVALID_REQUEST);
         }
+      } catch (RuntimeException e) {
+        failures[i] = e;
+        done[i] = true;
       }
     }
 
-    // platformUploader 업데이트 (null이 아닐 때만)
-    if (contentInfo.getPlatformUploader() != null) {
-      content.setPlatformUploader(contentInfo.getPlatformUploader());
+    // 2. 배치 전체의 장소를 중복 제거하여 한 번씩만 검색
+    Map<PlaceLookupKey, Integer> uniqueIndexByKey = new LinkedHashMap<>();
+    List<AiCallbackRequest.PlaceInfo> uniquePlaces = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      if (done[i] || requests.get(i).getPlaces() == null) {
+        continue;
+      }
+      for (AiCallbackRequest.PlaceInfo placeInfo : requests.get(i).getPlaces()) {
+        if (uniqueIndexByKey.putIfAbsent(new PlaceLookupKey(placeInfo), uniquePlaces.size()) == null) {
+          uniquePlaces.add(placeInfo);
+        }
+      }
     }
 
-    // summary 업데이트 (null이 아닐 때만)
-    if (contentInfo.getSummary() != null) {
-      content.setSummary(contentInfo.getSummary());
+    List<PlaceSearchResult> uniqueOutcomes = uniquePlaces.isEmpty()
+        ? List.of()
+        : lookupPlaces(uniquePlaces, aiCallbackProperties.getBatchPlaceResolveTimeoutSeconds());
+    log.info("AI callback batch place lookups: {} callbacks, {} unique places", requests.size(), uniquePlaces.size());
+
+    // 3. 항목별 검색 결과 구성
+    List<ResolvedCallback> resolvedCallbacks = new ArrayList<>();
+    List<Integer> resolvedIndexes = new ArrayList<>();
+    List<Boolean> deferred = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+      if (done[i]) {
+        continue;
+      }
+      AiCallbackRequest request = requests.get(i);
+      List<AiCallbackRequest.PlaceInfo> places = request.getPlaces() != null ? request.getPlaces() : List.of();
+      List<PlaceSearchResult> outcomes = places.stream()
+          .map(placeInfo -> uniqueOutcomes.get(uniqueIndexByKey.get(new PlaceLookupKey(placeInfo))))
+          .toList();
+      try {
+        List<ResolvedPlace> resolvedPlaces = toResolvedPlaces(contentIds[i], places, outcomes);
+        resolvedCallbacks.add(new ResolvedCallback(contentIds[i], request, resolvedPlaces,
+            unresolvedPositions(places.size(), resolvedPlaces),
+            resolvedPlaces.size() == places.size() ? fingerprints[i] : null));
+        resolvedIndexes.add(i);
+        deferred.add(hasCircuitOpenFailure(outcomes));
+      } catch (RuntimeException e) {
+        failures[i] = e;
+      }
     }
 
-    // platform 업데이트 (null이 아닐 때만)
-    if (contentInfo.getPlatform() != null) {
+    // 4. 배치 전체 일괄 저장 (실패 시 항목별 저장)
+    if (!resolvedCallbacks.isEmpty()) {
       try {
-        content.setPlatform(com.tripgether.sns.constant.ContentPlatform.valueOf(contentInfo.getPlatform()));
-      } catch (IllegalArgumentException e) {
-        log.error("Invalid platform value: {}. Keeping existing platform for contentId={}",
-            contentInfo.getPlatform(), content.getId());
+        aiCallbackPersistService.applySuccessCallbacks(resolvedCallbacks);
+      } catch (RuntimeException e) {
+        log.warn("AI callback batch persist failed, persisting per callback: size={}, error={}",
+            resolvedCallbacks.size(), e.getMessage());
+        for (int j = 0; j < resolvedCallbacks.size(); j++) {
+          ResolvedCallback callback = resolvedCallbacks.get(j);
+          try {
+            aiCallbackPersistService.applySuccessCallback(callback.getContentId(), callback.getRequest(),
+                callback.getResolvedPlaces(), callback.getUnresolvedPositions(), callback.getFingerprint());
+          } catch (RuntimeException itemError) {
+            failures[resolvedIndexes.get(j)] = itemError;
+          }
+        }
       }
     }
 
-    log.debug("Updated Content with ContentInfo: contentId={}, title={}, summary={}, platformUploader={}",
-        content.getId(),
-        contentInfo.getTitle() != null ? contentInfo.getTitle() : "(unchanged)",
-        contentInfo.getSummary() != null ? contentInfo.getSummary().substring(0, Math.min(30, contentInfo.getSummary().length())) + "..." : "(unchanged)",
-        contentInfo.getPlatformUploader() != null ? contentInfo.getPlatformUploader() : "(unchanged)");
-  }
-
-  /**
-   * 실패 Callback 처리
-   *
-   * Content 상태를 FAILED로 변경
-   *
-   * @param content 대상 Content
-   * @param request AI Callback 요청
-   */
-  private void processFailedCallback(Content content, AiCallbackRequest request) {
-    log.error("Processing FAILED callback for contentId={}", content.getId());
+    // 5. Google API 장애로 보류된 장소가 있는 항목은 지연 재처리
+    for (int j = 0; j < resolvedCallbacks.size(); j++) {
+      if (deferred.get(j) && failures[resolvedIndexes.get(j)] == null) {
+        deferCallback(resolvedCallbacks.get(j).getContentId(), resolvedCallbacks.get(j).getRequest());
+      }
+    }
 
-    // Content 상태를 FAILED로 변경하고 저장
-    content.setStatus(ContentStatus.FAILED);
-    contentRepository.save(content);
+    long failedCount = Arrays.stream(failures).filter(Objects::nonNull).count();
+    log.info("AI callback batch processed: size={}, failed={}", requests.size(), failedCount);
+    return Arrays.asList(failures);
   }
 
   /**
-   * Google Places API 응답으로 Place 생성 또는 업데이트
+   * 장소 목록을 Google Places API로 병렬 검색
    * <p>
-   * 이름+좌표로 중복 체크 후 없으면 신규 생성
+   * - PlaceSearchService 비동기 일괄 검색 사용 (요청 1건당 동시 검색 수는 ai.callback.place-resolve-concurrency로 제한)
+   * - 제한 시간을 넘긴 장소는 실패로 처리
    *
-   * @param googlePlace Google Places API 응답
-   * @return 조회 또는 생성된 Place
+   * @param places         검색할 장소 목록
+   * @param timeoutSeconds 전체 검색 제한 시간 (초)
+   * @return 입력 순서와 동일한 장소별 검색 결과
    */
-  private Place createOrUpdatePlace(GooglePlaceSearchDto.PlaceDetail googlePlace) {
-    // 이름+좌표로 중복 체크
-    Optional<Place> existing = placeRepository.findByNameAndLatitudeAndLongitude(
-        googlePlace.getName(),
-        googlePlace.getLatitude(),
-        googlePlace.getLongitude()
-    );
-
-    if (existing.isPresent()) {
-      // 기존 Place 업데이트
-      Place place = existing.get();
-      place.setAddress(googlePlace.getAddress());
-      place.setCountry(googlePlace.getCountry());
-      place.setTypes(googlePlace.getTypes());
-      place.setBusinessStatus(googlePlace.getBusinessStatus());
-      place.setIconUrl(googlePlace.getIconUrl());
-      place.setRating(googlePlace.getRating());
-      place.setUserRatingsTotal(googlePlace.getUserRatingsTotal());
-      place.setPhotoUrls(googlePlace.getPhotoUrls());
-      log.debug("Updated existing place: id={}, name={}, rating={}",
-          place.getId(), place.getName(), place.getRating());
-      return placeRepository.save(place);
-    } else {
-      // 새로 생성
-      Place newPlace = Place.builder()
-          .name(googlePlace.getName())
-          .address(googlePlace.getAddress())
-          .country(googlePlace.getCountry())
-          .latitude(googlePlace.getLatitude())
-          .longitude(googlePlace.getLongitude())
-          .types(googlePlace.getTypes())
-          .businessStatus(googlePlace.getBusinessStatus())
-          .iconUrl(googlePlace.getIconUrl())
-          .rating(googlePlace.getRating())
-          .userRatingsTotal(googlePlace.getUserRatingsTotal())
-          .photoUrls(googlePlace.getPhotoUrls())
-          .build();
-
-      Place savedPlace = placeRepository.save(newPlace);
-      log.debug("Created new place: id={}, name={}, rating={}",
-          savedPlace.getId(), savedPlace.getName(), savedPlace.getRating());
-      return savedPlace;
-    }
+  private List<PlaceSearchResult> lookupPlaces(List<AiCallbackRequest.PlaceInfo> places, long timeoutSeconds) {
+    // language 필드가 null이면 기본값 "ko" 사용
+    List<PlaceSearchQuery> queries = places.stream()
+        .map(placeInfo -> new PlaceSearchQuery(placeInfo.getName(), placeInfo.getAddress(),
+            placeInfo.getLanguage() != null ? placeInfo.getLanguage() : "ko"))
+        .toList();
+
+    return placeSearchService.searchGooglePlacesAsync(
+            queries, aiCallbackProperties.getPlaceResolveConcurrency(), Duration.ofSeconds(timeoutSeconds))
+        .join();
   }
 
   /**
-   * PlacePlatformReference 저장
-   * <p>
-   * Google place_id를 PlacePlatformReference에 저장 (중복 체크)
+   * 장소별 검색 결과를 성공한 장소 목록으로 변환
    *
-   * @param place         장소
-   * @param googlePlaceId Google place_id
+   * @param contentId 대상 Content ID (로그용)
+   * @param places    AI 서버가 추출한 장소 목록
+   * @param outcomes  places와 같은 순서의 검색 결과
+   * @return 검색에 성공한 장소 목록 (position 오름차순)
    */
-  private void savePlacePlatformReference(Place place, String googlePlaceId) {
-    log.info("Saving PlacePlatformReference: placeId={}, googlePlaceId={}", place.getId(), googlePlaceId);
-
-    Optional<PlacePlatformReference> existing =
-        placePlatformReferenceRepository.findByPlaceAndPlacePlatform(place, PlacePlatform.GOOGLE);
-
-    if (existing.isEmpty()) {
-      PlacePlatformReference ref = PlacePlatformReference.builder()
-          .place(place)
-          .placePlatform(PlacePlatform.GOOGLE)
-          .placePlatformId(googlePlaceId)
-          .build();
-      placePlatformReferenceRepository.save(ref);
-      log.info("Successfully saved NEW PlacePlatformReference: refId={}, placeId={}, googlePlaceId={}",
-          ref.getId(), place.getId(), googlePlaceId);
-    } else {
-      log.info("PlacePlatformReference already exists (skipping save): refId={}, placeId={}, existingPlaceId={}, newPlaceId={}",
-          existing.get().getId(), place.getId(), existing.get().getPlacePlatformId(), googlePlaceId);
+  private List<ResolvedPlace> toResolvedPlaces(UUID contentId, List<AiCallbackRequest.PlaceInfo> places,
+      List<PlaceSearchResult> outcomes) {
+    List<ResolvedPlace> resolvedPlaces = new ArrayList<>(places.size());
+    RuntimeException firstFailure = null;
+
+    for (int position = 0; position < outcomes.size(); position++) {
+      PlaceSearchResult outcome = outcomes.get(position);
+      if (outcome.getPlaceDetail() != null) {
+        resolvedPlaces.add(new ResolvedPlace(position, outcome.getPlaceDetail()));
+      } else if (firstFailure == null) {
+        firstFailure = outcome.getFailure();
+      }
     }
-  }
 
-  /**
-   * ContentPlace 연결 생성
-   * <p>
-   * Content와 Place 매핑 및 순서 저장
-   *
-   * @param content 대상 Content
-   * @param place 대상 Place
-   * @param position 순서
-   */
-  private void createContentPlace(Content content, Place place, int position) {
-    // ContentPlace 엔티티 생성
-    ContentPlace contentPlace = ContentPlace.builder()
-        .content(content)
-        .place(place)
-        .position(position)  // Place 순서 정보
-        .build();
+    // 모든 장소가 실패한 경우 DB 변경 없이 예외 전파
+    if (resolvedPlaces.isEmpty() && firstFailure != null) {
+      throw firstFailure;
+    }
 
-    // ContentPlace 저장
-    contentPlaceRepository.save(contentPlace);
-    log.debug("Created ContentPlace: contentId={}, placeId={}, position={}", content.getId(), place.getId(), position);
+    log.info("Resolved {}/{} places for contentId={}", resolvedPlaces.size(), places.size(), contentId);
+    return resolvedPlaces;
   }
 
   /**
-   * Content 분석 완료 알림 전송
-   * <p>
-   * 해당 Content를 요청한 모든 회원에게 FCM 알림 전송
-   * notified=false인 ContentMember만 대상으로 함
+   * 검색에 실패한 장소의 position 목록
    *
-   * @param content 완료된 Content
-   * @param request AI Callback 요청
+   * @param requestedPlaceCount AI 서버가 추출한 장소 수
+   * @param resolvedPlaces      검색에 성공한 장소 목록
+   * @return 검색 결과가 없는 position 집합
    */
-  private void sendContentCompleteNotification(Content content, AiCallbackRequest request) {
-    log.info("Sending content complete notifications for contentId={}", content.getId());
-
-    // 알림 미전송된 ContentMember 조회 (Member Fetch Join으로 N+1 방지)
-    List<ContentMember> unnotifiedMembers = contentMemberRepository.findUnnotifiedMembersWithMember(content.getId());
-
-    if (unnotifiedMembers.isEmpty()) {
-      log.info("No unnotified members found for contentId={}", content.getId());
-      return;
-    }
-
-    log.info("Found {} unnotified members for contentId={}", unnotifiedMembers.size(), content.getId());
-
-    // 알림 데이터 구성
-    Map<String, String> notificationData = new HashMap<>();
-    notificationData.put("type", "CONTENT_COMPLETE");
-    notificationData.put("contentId", content.getId().toString());
-
-    if (content.getTitle() != null) {
-      notificationData.put("title", content.getTitle());
-    }
-    if (content.getThumbnailUrl() != null) {
-      notificationData.put("thumbnailUrl", content.getThumbnailUrl());
+  private static Set<Integer> unresolvedPositions(int requestedPlaceCount, List<ResolvedPlace> resolvedPlaces) {
+    Set<Integer> unresolvedPositions = new HashSet<>();
+    for (int position = 0; position < requestedPlaceCount; position++) {
+      unresolvedPositions.add(position);
     }
+    resolvedPlaces.forEach(resolvedPlace -> unresolvedPositions.remove(resolvedPlace.getPosition()));
+    return unresolvedPositions;
+  }
 
-    // 각 회원에게 알림 전송
-    int successCount = 0;
-    List<ContentMember> succeededMembers = new ArrayList<>();
-    for (ContentMember contentMember : unnotifiedMembers) {
-      try {
-        // FCM 알림 전송
-        fcmService.sendNotificationToMember(
-            contentMember.getMember().getId(),
-            "콘텐츠 분석 완료",
-            content.getTitle() != null ? content.getTitle() + " 분석이 완료되었습니다." : "콘텐츠 분석이 완료되었습니다.",
-            notificationData,
-            content.getThumbnailUrl()  // 썸네일 이미지 URL (null 가능)
-        );
-
-        // 알림 전송 완료 표시
-        contentMember.setNotified(true);
-        succeededMembers.add(contentMember);
-        successCount++;
-
-        log.info("Notification sent successfully to memberId={} for contentId={}",
-            contentMember.getMember().getId(), content.getId());
-      } catch (Exception e) {
-        log.error("Failed to send notification to memberId={} for contentId={}: {}",
-            contentMember.getMember().getId(), content.getId(), e.getMessage());
-        // 실패해도 계속 진행 (다른 회원들에게는 알림 전송)
-      }
-    }
+  // Google API 장애(Circuit Breaker OPEN)로 검색을 보류한 장소가 있는지 확인
+  private boolean hasCircuitOpenFailure(List<PlaceSearchResult> outcomes) {
+    return outcomes.stream()
+        .map(PlaceSearchResult::getFailure)
+        .anyMatch(failure -> failure instanceof CustomException customException
+            && customException.getErrorCode() == ErrorCode.GOOGLE_PLACE_CIRCUIT_OPEN);
+  }
 
-    // 알림 전송 완료된 ContentMember만 업데이트
-    if (!succeededMembers.isEmpty()) {
-      contentMemberRepository.saveAll(succeededMembers);
+  // 보류된 장소가 있는 Callback을 Inbox에 지연 재처리로 등록 (실패해도 저장된 결과는 유지)
+  private void deferCallback(UUID contentId, AiCallbackRequest request) {
+    try {
+      aiCallbackInboxService.enqueueDeferred(contentId, request, aiCallbackProperties.getCircuitOpenDeferSeconds());
+    } catch (Exception e) {
+      log.error("Failed to defer AI callback: contentId={}, error={}", contentId, e.getMessage());
     }
-
-    log.info("Content complete notifications sent: {}/{} succeeded for contentId={}",
-        successCount, unnotifiedMembers.size(), content.getId());
   }
 
   /**
-   * Content를 요청한 모든 회원에게 MemberPlace 생성
-   * - TEMPORARY 상태로 초기화
-   * - sourceContentId로 Content 추적
-   * - 중복 생성 방지 (이미 존재하면 스킵)
-   *
-   * @param content 원본 Content
-   * @param place   생성된 Place
+   * 배치 내 장소 중복 제거 키 (name, address, language)
+   * <p>
+   * language가 없으면 검색 시와 같은 기본값 "ko" 사용
    */
-  private void createMemberPlaces(Content content, Place place) {
-    // 1. Content를 요청한 모든 회원 조회 (Member Fetch Join으로 N+1 방지)
-    List<ContentMember> contentMembers = contentMemberRepository.findAllByContentWithMember(content);
+  @EqualsAndHashCode
+  private static final class PlaceLookupKey {
 
-    log.info("Creating MemberPlace for {} members (contentId={}, placeId={})",
-        contentMembers.size(), content.getId(), place.getId());
+    private final String name;
+    private final String address;
+    private final String language;
 
-    // 2. 각 회원에 대해 MemberPlace 생성
-    int createdCount = 0;
-    int skippedCount = 0;
-
-    for (ContentMember contentMember : contentMembers) {
-      try {
-        // 3. 이미 존재하는지 확인 (중복 방지)
-        Optional<MemberPlace> existing = memberPlaceRepository
-            .findByMemberAndPlaceAndDeletedAtIsNull(contentMember.getMember(), place);
-
-        if (existing.isPresent()) {
-          log.debug("MemberPlace already exists: memberId={}, placeId={}",
-              contentMember.getMember().getId(), place.getId());
-          skippedCount++;
-          continue;
-        }
-
-        // 4. MemberPlace 생성 및 저장
-        MemberPlace memberPlace = MemberPlace.builder()
-            .member(contentMember.getMember())
-            .place(place)
-            .savedStatus(PlaceSavedStatus.TEMPORARY)
-            .sourceContentId(content.getId())
-            .build();
-
-        memberPlaceRepository.save(memberPlace);
-        createdCount++;
-
-        log.debug("MemberPlace created: id={}, memberId={}, placeId={}, status=TEMPORARY",
-            memberPlace.getId(), contentMember.getMember().getId(), place.getId());
-
-      } catch (Exception e) {
-        log.error("Failed to create MemberPlace for memberId={}, placeId={}: {}",
-            contentMember.getMember().getId(), place.getId(), e.getMessage());
-        // 실패해도 계속 진행 (다른 회원들의 MemberPlace는 생성)
-      }
+    private PlaceLookupKey(AiCallbackRequest.PlaceInfo placeInfo) {
+      this.name = placeInfo.getName() != null ? placeInfo.getName().trim() : "";
+      this.address = placeInfo.getAddress() != null ? placeInfo.getAddress().trim() : "";
+      this.language = placeInfo.getLanguage() != null ? placeInfo.getLanguage() : "ko";
     }
-
-    log.info("MemberPlace creation completed: {} created, {} skipped (contentId={}, placeId={})",
-        createdCount, skippedCount, content.getId(), place.getId());
   }
 }
@@ -0,0 +1,91 @@
+package com.tripgether.sns.service;
+
+import com.tripgether.member.service.FcmService;
+import com.tripgether.sns.event.ContentCompletedEvent;
+import com.tripgether.sns.repository.ContentMemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Content 분석 완료 알림 Dispatcher
+ * <p>
+ * - Callback 트랜잭션 커밋 이후 별도 스레드에서 FCM 알림 전송 (요청 스레드 및 DB 커넥션 점유 없음)
+ * - 알림 대상 회원의 FCM 토큰을 한 번에 조회하여 500개 단위 멀티캐스트로 전송
+ * - 전송 완료된 회원의 notified 플래그를 단일 UPDATE로 변경
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ContentNotificationDispatcher {
+
+  private final ContentMemberRepository contentMemberRepository;
+  private final AiCallbackPersistService aiCallbackPersistService;
+  private final FcmService fcmService;
+
+  /**
+   * Content 분석 완료 알림 전송
+   * <p>
+   * notified=false인 ContentMember만 대상으로 함
+   *
+   * @param event Content 분석 완료 이벤트
+   */
+  @Async("notificationTaskExecutor")
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void handleContentCompleted(ContentCompletedEvent event) {
+    UUID contentId = event.getContentId();
+
+    try {
+      // 1. 알림 미전송 회원 ID 조회
+      List<UUID> memberIds = contentMemberRepository.findUnnotifiedMemberIdsByContentId(contentId);
+      if (memberIds.isEmpty()) {
+        log.info("No unnotified members found for contentId={}", contentId);
+        return;
+      }
+
+      log.info("Dispatching content complete notifications to {} members for contentId={}", memberIds.size(), contentId);
+
+      // 2. 알림 데이터 구성
+      Map<String, String> notificationData = new HashMap<>();
+      notificationData.put("type", "CONTENT_COMPLETE");
+      notificationData.put("contentId", contentId.toString());
+
+      if (event.getTitle() != null) {
+        notificationData.put("title", event.getTitle());
+      }
+      if (event.getThumbnailUrl() != null) {
+        notificationData.put("thumbnailUrl", event.getThumbnailUrl());
+      }
+
+      // 3. 전체 회원 토큰 일괄 멀티캐스트 전송
+      Set<UUID> notifiedMemberIds = fcmService.sendNotificationToMembers(
+          memberIds,
+          "콘텐츠 분석 완료",
+          event.getTitle() != null ? event.getTitle() + " 분석이 완료되었습니다." : "콘텐츠 분석이 완료되었습니다.",
+          notificationData,
+          event.getThumbnailUrl()  // 썸네일 이미지 URL (null 가능)
+      );
+
+      // 4. 전송 완료된 회원만 notified 플래그 일괄 변경
+      if (!notifiedMemberIds.isEmpty()) {
+        aiCallbackPersistService.markNotified(contentId, notifiedMemberIds);
+      }
+
+      log.info("Content complete notifications sent: {}/{} succeeded for contentId={}",
+          notifiedMemberIds.size(), memberIds.size(), contentId);
+    } catch (Exception e) {
+      // 실패한 회원은 notified=false로 남아 다음 완료 이벤트에서 다시 전송 대상이 됨
+      log.error("Failed to dispatch content complete notifications for contentId={}: {}",
+          contentId, e.getMessage(), e);
+    }
+  }
+}
@@ -11,6 +11,7 @@ import com.tripgether.common.util.CommonUtil;
 import com.tripgether.member.entity.Member;
 import com.tripgether.member.repository.MemberRepository;
 import com.tripgether.place.dto.PlaceDto;
+import com.tripgether.place.util.PlacePhotoPaths;
 import com.tripgether.sns.dto.ContentDto;
 import com.tripgether.sns.entity.Content;
 import com.tripgether.sns.entity.ContentMember;
@@ -18,17 +19,16 @@ import com.tripgether.sns.entity.ContentPlace;
 import com.tripgether.sns.repository.ContentMemberRepository;
 import com.tripgether.sns.repository.ContentPlaceRepository;
 import com.tripgether.sns.repository.ContentRepository;
-import java.util.Collections;
+import com.tripgether.sns.repository.SavedPlaceRow;
+import com.tripgether.sns.util.ContentCursorUtil;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +40,9 @@ public class ContentService {
 
   private static final int MAX_URL_LENGTH = 2048;
   private static final int MAX_PHOTO_URLS_PER_PLACE = 10;
+  private static final int MAX_CONTENT_PAGE_SIZE = 50;
+  private static final int RECENT_CONTENT_LIMIT = 10;
+  private static final int SAVED_PLACE_LIMIT = 10;
 
   private final ContentRepository contentRepository;
   private final ContentMemberRepository contentMemberRepository;
@@ -96,9 +99,11 @@ public class ContentService {
     }
 
     // 기존이 있으면 PENDING으로 재사용, 없으면 신규 생성
+    // 재분석이므로 이전 Callback 지문을 지워 동일한 결과가 다시 와도 중복으로 무시되지 않도록 함
     Content content = optionalContent
         .map(existingContent -> {
           existingContent.setStatus(ContentStatus.PENDING);
+          existingContent.setCallbackFingerprint(null);
           log.info("Reusing existing Content: contentId={}", existingContent.getId());
           return existingContent;
         })
@@ -196,36 +201,50 @@ public class ContentService {
   }
 
   /**
-   * Member가 소유한 Content 목록 조회 (최신순)
-   * - ContentMember를 통해 Member ID로 Content 페이지를 조회합니다.
-   * - createdAt 기준 내림차순 정렬 (최신순)
+   * Member가 소유한 Content 목록 조회 (최신순, 커서 기반)
+   * - ContentMember 생성 시각(저장 시각) 기준 내림차순, 동일 시각은 ID 내림차순
+   * - (member_id, created_at DESC, id DESC) 인덱스로 Keyset 조회, pageSize + 1건만 조회해 다음 페이지 여부 판단
    * - Place 정보는 제외하고 Content 정보만 반환
    *
    * @param memberId 회원 ID
-   * @param pageSize 페이지 크기
-   * @return Content 페이지 (ContentDto)
+   * @param cursor   이전 응답의 nextCursor (첫 페이지는 null)
+   * @param pageSize 페이지 크기 (1 ~ MAX_CONTENT_PAGE_SIZE)
+   * @return Content 목록과 다음 페이지 커서
    */
   @Transactional(readOnly = true)
-  public Page<ContentDto> getMemberContentPage(UUID memberId, int pageSize) {
-    // Pageable 생성 (0번 페이지, createdAt 내림차순)
-    Pageable pageable = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt"));
-
-    // ContentMember를 통해 Member ID로 Content 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    // ContentMember에서 Content 추출 및 DTO 변환
-    List<ContentDto> contentDtos = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))  // 최신순 정렬
-        .limit(pageSize)
-        .map(ContentDto::from)
-        .collect(Collectors.toList());
+  public GetMemberContentPageResponse getMemberContentPage(UUID memberId, String cursor, int pageSize) {
+    int size = Math.min(Math.max(pageSize, 1), MAX_CONTENT_PAGE_SIZE);
+    Pageable limit = PageRequest.of(0, size + 1);
+
+    List<ContentMember> contentMembers;
+    if (cursor == null || cursor.isBlank()) {
+      contentMembers = contentMemberRepository.findLatestWithContent(memberId, limit);
+    } else {
+      ContentCursorUtil.Cursor position = ContentCursorUtil.decode(cursor);
+      contentMembers = contentMemberRepository.findLatestWithContentBefore(
+          memberId, position.getCreatedAt(), position.getId(), limit);
+    }
+
+    boolean hasNext = contentMembers.size() > size;
+    List<ContentMember> page = hasNext ? contentMembers.subList(0, size) : contentMembers;
+
+    String nextCursor = null;
+    if (hasNext) {
+      ContentMember last = page.get(page.size() - 1);
+      nextCursor = ContentCursorUtil.encode(last.getCreatedAt(), last.getId());
+    }
 
-    log.info("Found {} contents for memberId={}, pageSize={}",
-        contentDtos.size(), memberId, pageSize);
+    log.info("Found {} contents for memberId={}, pageSize={}, hasNext={}",
+        page.size(), memberId, size, hasNext);
 
-    // PageImpl로 변환하여 반환
-    return new org.springframework.data.domain.PageImpl<>(contentDtos, pageable, contentDtos.size());
+    return GetMemberContentPageResponse.builder()
+        .contents(page.stream()
+            .map(ContentMember::getContent)
+            .map(ContentDto::from)
+            .toList())
+        .nextCursor(nextCursor)
+        .hasNext(hasNext)
+        .build();
   }
 
   /**
@@ -241,17 +260,13 @@ public class ContentService {
 
     log.info("[Content] 최근 SNS 콘텐츠 조회 - memberId={}", memberId);
 
-    // ContentMember를 통해 최근 10개의 SNS 콘텐츠 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    List<Content> contents = contentMembers.stream()
-        .map(ContentMember::getContent)
-        .sorted((c1, c2) -> c2.getCreatedAt().compareTo(c1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
+    // ContentMember를 통해 최근 10개의 SNS 콘텐츠 조회 (DB에서 정렬/제한)
+    List<ContentMember> contentMembers = contentMemberRepository.findLatestWithContent(
+        memberId, PageRequest.of(0, RECENT_CONTENT_LIMIT));
 
     return GetRecentContentResponse.builder()
-        .contents(contents.stream()
+        .contents(contentMembers.stream()
+            .map(ContentMember::getContent)
             .map(ContentDto::from)
             .toList())
         .build();
@@ -259,51 +274,31 @@ public class ContentService {
 
   /**
    * 사용자별 저장한 장소 목록 조회 (최신순 최대 10개)
-   * - ContentMember를 통해 회원의 Content를 조회하고, 연관된 Place 반환
+   * - content_member → content_place → place를 한 번에 조인하여 정렬/개수 제한까지 DB에서 처리
+   * - 엔티티를 로딩하지 않고 필요한 컬럼만 조회 후 PlaceDto로 변환
    */
   @Transactional(readOnly = true)
   public List<PlaceDto> getSavedPlaces(UUID memberId) {
     // 회원 존재 여부 확인
-    Member member = memberRepository.findById(memberId)
-        .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
-
-    log.info("[Place] 저장 장소 목록 조회 - memberId={}", member.getId());
-
-    // ContentMember를 통해 회원의 Content ID 목록 조회
-    List<ContentMember> contentMembers = contentMemberRepository.findByMemberId(memberId);
-
-    List<UUID> contentIds = contentMembers.stream()
-        .map(cm -> cm.getContent().getId())
-        .collect(Collectors.toList());
-
-    // Content ID 목록으로 ContentPlace 조회
-    List<ContentPlace> contentPlaces = contentIds.stream()
-        .flatMap(contentId -> contentPlaceRepository.findByContentIdWithPlace(contentId).stream())
-        .sorted((cp1, cp2) -> cp2.getCreatedAt().compareTo(cp1.getCreatedAt()))
-        .limit(10)
-        .collect(Collectors.toList());
-
-    // ContentPlace → Place 추출
-    List<Place> places = contentPlaces.stream()
-        .map(ContentPlace::getPlace)
-        .toList();
+    if (!memberRepository.existsById(memberId)) {
+      throw new CustomException(ErrorCode.MEMBER_NOT_FOUND);
+    }
 
-    // Entity → DTO 변환
-    return places.stream()
-        .map(place -> PlaceDto.builder()
-            .placeId(place.getId())
-            .name(place.getName())
-            .address(place.getAddress())
-            .rating(place.getRating())
-            .userRatingsTotal(place.getUserRatingsTotal())
-            .photoUrls(
-                Optional.ofNullable(place.getPhotoUrls())
-                    .map(urls -> urls.size() > MAX_PHOTO_URLS_PER_PLACE
-                        ? urls.subList(0, MAX_PHOTO_URLS_PER_PLACE)
-                        : urls)
-                    .orElse(Collections.emptyList())
-            )
-            .description(place.getDescription())
+    log.info("[Place] 저장 장소 목록 조회 - memberId={}", memberId);
+
+    List<SavedPlaceRow> rows = contentPlaceRepository.findRecentSavedPlaceRows(
+        memberId, PageRequest.of(0, SAVED_PLACE_LIMIT));
+
+    // Row → DTO 변환
+    return rows.stream()
+        .map(row -> PlaceDto.builder()
+            .placeId(row.getPlaceId())
+            .name(row.getName())
+            .address(row.getAddress())
+            .rating(row.getRating())
+            .userRatingsTotal(row.getUserRatingsTotal())
+            .photoUrls(PlacePhotoPaths.of(row.getPlaceId(), row.getPhotoReferences(), MAX_PHOTO_URLS_PER_PLACE))
+            .description(row.getDescription())
             .build()
         )
         .toList();
@@ -0,0 +1,79 @@
+package com.tripgether.sns.util;
+
+import com.tripgether.ai.dto.AiCallbackRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * AI Callback 요청 fingerprint 생성
+ * <p>
+ * 같은 요청이 재전송(retry)되었는지 판단하기 위해 결과에 영향을 주는 필드만으로 SHA-256 해시를 생성
+ * - contentId, resultStatus
+ * - contentInfo 필드
+ * - places (순서 유지, name/address/language)
+ */
+public final class AiCallbackFingerprintUtil {
+
+  private AiCallbackFingerprintUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * Callback 요청 fingerprint 생성
+   *
+   * @param contentId 대상 Content ID
+   * @param request   AI Callback 요청
+   * @return SHA-256 hex 문자열 (64자)
+   */
+  public static String generate(UUID contentId, AiCallbackRequest request) {
+    StringBuilder source = new StringBuilder();
+    append(source, contentId != null ? contentId.toString() : null);
+    append(source, request.getResultStatus());
+
+    AiCallbackRequest.ContentInfo contentInfo = request.getContentInfo();
+    if (contentInfo != null) {
+      append(source, "contentInfo");
+      append(source, contentInfo.getContentId() != null ? contentInfo.getContentId().toString() : null);
+      append(source, contentInfo.getThumbnailUrl());
+      append(source, contentInfo.getPlatform());
+      append(source, contentInfo.getTitle());
+      append(source, contentInfo.getContentUrl());
+      append(source, contentInfo.getPlatformUploader());
+      append(source, contentInfo.getSummary());
+    } else {
+      append(source, null);
+    }
+
+    if (request.getPlaces() != null) {
+      append(source, String.valueOf(request.getPlaces().size()));
+      for (AiCallbackRequest.PlaceInfo placeInfo : request.getPlaces()) {
+        append(source, placeInfo.getName());
+        append(source, placeInfo.getAddress());
+        append(source, placeInfo.getLanguage());
+      }
+    } else {
+      append(source, null);
+    }
+
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      // SHA-256은 모든 JVM에서 지원
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // 필드 경계가 모호하지 않도록 길이를 앞에 붙여서 추가 (null은 별도 표시)
+  private static void append(StringBuilder source, String value) {
+    if (value == null) {
+      source.append("-1:|");
+      return;
+    }
+    source.append(value.length()).append(':').append(value).append('|');
+  }
+}
@@ -0,0 +1,82 @@
+package com.tripgether.sns.util;
+
+import com.tripgether.common.exception.CustomException;
+import com.tripgether.common.exception.constant.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 회원 콘텐츠 목록 Keyset 페이지 커서 생성/해석
+ * <p>
+ * 마지막으로 반환한 ContentMember의 (createdAt, id)를 URL-safe Base64 문자열로 변환
+ * - 클라이언트는 커서 내용을 해석하지 않고 다음 요청에 그대로 전달
+ * - 형식이 잘못된 커서는 INVALID_CONTENT_CURSOR
+ */
+public final class ContentCursorUtil {
+
+  private static final char SEPARATOR = '|';
+
+  private ContentCursorUtil() {
+    throw new AssertionError();
+  }
+
+  /**
+   * 커서 생성
+   *
+   * @param createdAt 마지막 항목의 생성 시각
+   * @param id        마지막 항목의 ID
+   * @return 커서 문자열
+   */
+  public static String encode(LocalDateTime createdAt, UUID id) {
+    String source = createdAt.toString() + SEPARATOR + id;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(source.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 해석
+   *
+   * @param cursor 커서 문자열
+   * @return 커서 위치
+   * @throws CustomException 형식이 잘못된 경우
+   */
+  public static Cursor decode(String cursor) {
+    try {
+      String source = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      int separatorIndex = source.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new CustomException(ErrorCode.INVALID_CONTENT_CURSOR);
+      }
+      return new Cursor(
+          LocalDateTime.parse(source.substring(0, separatorIndex)),
+          UUID.fromString(source.substring(separatorIndex + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new CustomException(ErrorCode.INVALID_CONTENT_CURSOR);
+    }
+  }
+
+  /**
+   * 커서 위치 (이 위치보다 오래된 항목부터 조회)
+   */
+  public static final class Cursor {
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    private Cursor(LocalDateTime createdAt, UUID id) {
+      this.createdAt = createdAt;
+      this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+      return createdAt;
+    }
+
+    public UUID getId() {
+      return id;
+    }
+  }
+}
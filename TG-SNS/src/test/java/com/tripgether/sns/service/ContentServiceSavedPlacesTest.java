@@ -0,0 +1,131 @@
+package com.tripgether.sns.service;
+
+import static me.suhsaechan.suhlogger.util.SuhLogger.lineLog;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.tripgether.member.entity.Member;
+import com.tripgether.member.repository.MemberRepository;
+import com.tripgether.place.dto.PlaceDto;
+import com.tripgether.place.entity.Place;
+import com.tripgether.place.repository.PlaceRepository;
+import com.tripgether.sns.entity.Content;
+import com.tripgether.sns.entity.ContentMember;
+import com.tripgether.sns.entity.ContentPlace;
+import com.tripgether.sns.repository.ContentMemberRepository;
+import com.tripgether.sns.repository.ContentPlaceRepository;
+import com.tripgether.sns.repository.ContentRepository;
+import com.tripgether.web.TripgetherApplication;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest(
+    classes = TripgetherApplication.class,
+    properties = "spring.jpa.properties.hibernate.generate_statistics=true"
+)
+@ActiveProfiles("dev")
+@Transactional
+@Slf4j
+class ContentServiceSavedPlacesTest {
+
+  private static final int SAVED_CONTENT_COUNT = 12;
+  private static final int PHOTO_REFERENCE_COUNT = 12;
+
+  @Autowired
+  private ContentService contentService;
+
+  @Autowired
+  private MemberRepository memberRepository;
+
+  @Autowired
+  private ContentRepository contentRepository;
+
+  @Autowired
+  private ContentMemberRepository contentMemberRepository;
+
+  @Autowired
+  private ContentPlaceRepository contentPlaceRepository;
+
+  @Autowired
+  private PlaceRepository placeRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private Member member;
+
+  @BeforeEach
+  void setUp() {
+    String suffix = UUID.randomUUID().toString();
+    member = memberRepository.save(Member.builder()
+        .email("saved-places-" + suffix + "@example.com")
+        .name("저장장소테스트")
+        .build());
+
+    // 콘텐츠마다 장소 1개씩 연결 (최신 10개만 반환되어야 함)
+    for (int i = 0; i < SAVED_CONTENT_COUNT; i++) {
+      Content content = contentRepository.save(Content.builder()
+          .originalUrl("https://www.instagram.com/p/saved-places-" + suffix + "-" + i)
+          .build());
+      contentMemberRepository.save(ContentMember.builder()
+          .content(content)
+          .member(member)
+          .build());
+
+      Place place = placeRepository.save(Place.builder()
+          .name("저장장소 " + i)
+          .address("서울특별시 중구 명동길 " + i)
+          .country("KR")
+          .latitude(new BigDecimal("37.5637000"))
+          .longitude(new BigDecimal("126.9838000"))
+          .photoReferences(IntStream.range(0, PHOTO_REFERENCE_COUNT)
+              .mapToObj(index -> "photo-reference-" + index)
+              .toList())
+          .build());
+      contentPlaceRepository.save(ContentPlace.builder()
+          .content(content)
+          .place(place)
+          .build());
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+  }
+
+  @Test
+  @DisplayName("저장 장소 목록 조회는 SQL 2개 이하로 처리된다")
+  void getSavedPlaces_IssuesAtMostTwoStatements() {
+    lineLog("=== 저장 장소 목록 쿼리 수 테스트 시작 ===");
+
+    // given
+    Statistics statistics = entityManager.getEntityManagerFactory()
+        .unwrap(SessionFactory.class)
+        .getStatistics();
+    statistics.clear();
+
+    // when
+    List<PlaceDto> places = contentService.getSavedPlaces(member.getId());
+
+    // then
+    long statementCount = statistics.getPrepareStatementCount();
+    log.info("저장 장소 목록 조회 SQL 수: {}", statementCount);
+
+    assertThat(statementCount).isLessThanOrEqualTo(2);
+    assertThat(places).hasSize(10);
+    assertThat(places).allSatisfy(place -> assertThat(place.getPhotoUrls()).hasSize(10));
+
+    lineLog("=== 저장 장소 목록 쿼리 수 테스트 종료 ===");
+  }
+}
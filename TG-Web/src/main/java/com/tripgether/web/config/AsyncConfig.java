@@ -0,0 +1,34 @@
+package com.tripgether.web.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 처리 설정
+ * Content 분석 완료 알림 등 @Async 작업을 활성화합니다.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+  /**
+   * Content 분석 완료 알림 전송용 Executor
+   * 요청 스레드와 분리하여 FCM 전송을 수행합니다.
+   */
+  @Bean(name = "notificationTaskExecutor")
+  public Executor notificationTaskExecutor() {
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.setMaxPoolSize(4);
+    executor.setQueueCapacity(1000);
+    executor.setThreadNamePrefix("notification-");
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+}
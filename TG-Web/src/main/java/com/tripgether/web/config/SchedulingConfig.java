@@ -0,0 +1,14 @@
+package com.tripgether.web.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * AI Callback Inbox Worker 등 @Scheduled 작업을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+}
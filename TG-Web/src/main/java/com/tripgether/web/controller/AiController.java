@@ -6,7 +6,7 @@ import com.tripgether.common.exception.CustomException;
 import com.tripgether.common.exception.constant.ErrorCode;
 import com.tripgether.common.properties.AiServerProperties;
 import com.tripgether.common.util.CommonUtil;
-import com.tripgether.sns.service.AiCallbackService;
+import com.tripgether.sns.service.AiCallbackInboxService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +14,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * AI 서버 Webhook Callback을 처리하는 컨트롤러
  */
@@ -24,7 +26,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "AI 서버 API", description = "AI 서버 연동 관련 API 제공")
 public class AiController implements AiControllerDocs {
 
-  private final AiCallbackService aiCallbackService;
+  private final AiCallbackInboxService aiCallbackInboxService;
   private final AiServerProperties aiServerProperties;
   private final CommonUtil commonUtil;
 
@@ -35,13 +37,32 @@ public class AiController implements AiControllerDocs {
       @RequestBody AiCallbackRequest request) {
 
     // API Key 검증
+    validateCallbackApiKey(apiKey);
+
+    // Inbox에 저장 후 즉시 응답 (실제 처리는 AiCallbackInboxWorker가 비동기로 수행)
+    return ResponseEntity.ok(aiCallbackInboxService.enqueue(request));
+  }
+
+  @PostMapping("/callback/batch")
+  @Override
+  public ResponseEntity<List<AiCallbackResponse>> handleCallbackBatch(
+      @RequestHeader(value = "X-API-Key", required = true) String apiKey,
+      @RequestBody List<AiCallbackRequest> requests) {
+
+    // API Key 검증
+    validateCallbackApiKey(apiKey);
+
+    // 항목별로 Inbox에 저장 후 202 응답 (실제 처리는 AiCallbackInboxWorker가 비동기로 수행)
+    return ResponseEntity.accepted().body(aiCallbackInboxService.enqueueBatch(requests));
+  }
+
+  // AI 서버 Callback API Key 검증
+  private void validateCallbackApiKey(String apiKey) {
     if (!aiServerProperties.getCallbackApiKey().equals(apiKey)) {
       log.error("Invalid API Key from AI server. Expected: {}, Received: {}",
               commonUtil.maskSecureString(aiServerProperties.getCallbackApiKey()),
               commonUtil.maskSecureString(apiKey));
       throw new CustomException(ErrorCode.INVALID_API_KEY);
     }
-
-    return ResponseEntity.ok(aiCallbackService.processAiServerCallback(request));
   }
 }
@@ -8,6 +8,8 @@ import me.suhsaechan.suhapilog.annotation.ApiChangeLog;
 import me.suhsaechan.suhapilog.annotation.ApiChangeLogs;
 import org.springframework.http.ResponseEntity;
 
+import java.util.List;
+
 public interface AiControllerDocs {
 
   @ApiChangeLogs({
@@ -42,9 +44,12 @@ public interface AiControllerDocs {
               ## 반환값 (AiCallbackResponse)
               - **`received`**: 수신 여부 (true)
               - **`contentId`**: Content UUID
+              - **`duplicate`**: 이미 처리된 동일 Callback 재전송 여부 (true면 아무 작업도 하지 않음)
 
               ## 특이사항
               - AI 서버가 장소 추출 분석 완료 후 이 Webhook을 호출합니다.
+              - 요청은 Inbox에 저장된 후 즉시 응답하며, 실제 처리는 Worker가 비동기로 수행합니다.
+                - 처리 실패 시 지수 backoff로 재시도하며, 최대 시도 횟수를 초과하면 DEAD 상태가 됩니다.
               - API Key는 환경변수를 통해 설정되며, 반드시 일치해야 합니다.
               - Content 상태를 ANALYZING → COMPLETED/FAILED로 변경합니다.
               - SUCCESS인 경우:
@@ -58,4 +63,31 @@ public interface AiControllerDocs {
               - **`INVALID_REQUEST`**: 잘못된 요청입니다.
               """)
   ResponseEntity<AiCallbackResponse> handleCallback(String apiKey, AiCallbackRequest request);
+
+  @Operation(summary = "AI 서버 Webhook Callback (배치)", description = """
+              ## 인증(API Key): **필요** (Header: X-API-Key)
+
+              ## 요청 파라미터 (List<AiCallbackRequest>)
+              - 단건 Callback과 동일한 AiCallbackRequest 배열 (최대 `ai.callback.batch-max-size`개)
+
+              ## 반환값 (202 Accepted, List<AiCallbackResponse>)
+              - 요청 순서와 동일한 항목별 결과
+              - **`received`**: Inbox 저장 여부 (검증에 실패한 항목은 false)
+              - **`contentId`**: Content UUID
+              - **`duplicate`**: 이미 처리된 동일 Callback 재전송 또는 같은 배치의 뒤 항목으로 대체된 여부
+              - **`errorCode`**: 실패 에러 코드 (실패한 항목만)
+              - **`errorMessage`**: 실패 에러 메시지 (실패한 항목만)
+
+              ## 특이사항
+              - 백필 등 대량 Callback 전송용 API입니다. 단건 Callback과 동일하게 Inbox에 저장 후 즉시 응답합니다.
+              - 실제 처리는 Inbox Worker가 재시도/DEAD 관리와 함께 비동기로 수행합니다.
+              - 같은 Content의 항목이 여러 개면 마지막 항목만 처리합니다.
+              - Worker는 같은 배치의 항목을 함께 처리합니다. 여러 Content에 나온 같은 장소(name, address, language)는 한 번만 검색하고, 장소 저장은 배치 전체를 한 번에 Upsert합니다.
+              - 일부 항목이 검증에 실패해도 나머지 항목은 저장되며, 실패 항목은 errorCode로 확인할 수 있습니다.
+
+              ## 에러코드
+              - **`INVALID_API_KEY`**: 유효하지 않은 API Key입니다.
+              - **`INVALID_REQUEST`**: 잘못된 요청입니다. (빈 배열 또는 최대 개수 초과)
+              """)
+  ResponseEntity<List<AiCallbackResponse>> handleCallbackBatch(String apiKey, List<AiCallbackRequest> requests);
 }
@@ -3,7 +3,6 @@ package com.tripgether.web.controller;
 import com.tripgether.auth.dto.CustomUserDetails;
 import com.tripgether.place.dto.GetSavedPlacesResponse;
 import com.tripgether.place.dto.PlaceDto;
-import com.tripgether.sns.dto.ContentDto;
 import com.tripgether.sns.dto.GetRecentContentResponse;
 import com.tripgether.sns.dto.GetContentInfoResponse;
 import com.tripgether.sns.dto.GetMemberContentPageResponse;
@@ -15,7 +14,6 @@ import java.util.UUID;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -73,20 +71,14 @@ public class ContentController implements ContentControllerDocs {
   @Override
   public ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "10") Integer pageSize
   ) {
     // Member ID 추출
     UUID memberId = userDetails.getMemberId();
 
-    // Service 호출
-    Page<ContentDto> contentPage = contentService.getMemberContentPage(memberId, pageSize);
-
-    // Response 생성
-    GetMemberContentPageResponse response = GetMemberContentPageResponse.builder()
-        .contentPage(contentPage)
-        .build();
-
-    return ResponseEntity.ok(response);
+    // Service 호출 (커서 기반 페이지 조회)
+    return ResponseEntity.ok(contentService.getMemberContentPage(memberId, cursor, pageSize));
   }
 
 
@@ -85,11 +85,11 @@ public interface ContentControllerDocs {
               ## 인증(JWT): **필요**
 
               ## 요청 파라미터
-              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10)
+              - **`cursor`**: 이전 응답의 `nextCursor` (Query Parameter, 선택, 첫 페이지는 생략)
+              - **`pageSize`**: 페이지 크기 (Query Parameter, 선택, 기본값 10, 최대 50)
 
               ## 반환값
-              - **`contentPage`**: Page<ContentDto>
-                - `content`: 콘텐츠 목록 (ContentDto 배열)
+              - **`contents`**: 콘텐츠 목록 (ContentDto 배열)
                   - `id`: 콘텐츠 ID
                   - `platform`: 플랫폼 유형 (INSTAGRAM, YOUTUBE 등)
                   - `status`: 처리 상태 (PENDING, COMPLETED, FAILED 등)
@@ -100,21 +100,22 @@ public interface ContentControllerDocs {
                   - `title`: 제목
                   - `summary`: 요약 설명
                   - `lastCheckedAt`: 마지막 확인 시각
-                - `totalElements`: 전체 콘텐츠 개수
-                - `totalPages`: 전체 페이지 수
-                - `number`: 현재 페이지 번호 (0부터 시작)
-                - `size`: 페이지 크기
-                - `first`: 첫 페이지 여부
-                - `last`: 마지막 페이지 여부
+              - **`nextCursor`**: 다음 페이지 조회 커서 (마지막 페이지면 null)
+              - **`hasNext`**: 다음 페이지 존재 여부
 
               ## 동작 방식
-              - 인증된 회원이 소유한 Content 목록을 최신순(createdAt DESC)으로 조회합니다.
+              - 인증된 회원이 저장한 Content 목록을 저장 시각 최신순으로 조회합니다.
               - Place 정보는 제외하고 Content 정보만 반환합니다.
               - 페이지 크기를 지정하지 않으면 기본 10개가 조회됩니다.
-              - 첫 페이지(0번 페이지)만 조회됩니다.
+              - 다음 페이지는 응답의 `nextCursor`를 `cursor`로 전달해 조회합니다. 커서 값은 해석하지 않고 그대로 전달합니다.
+              - 전체 개수/전체 페이지 수는 제공하지 않습니다.
+
+              ## 에러코드
+              - **`INVALID_CONTENT_CURSOR`**: 유효하지 않은 콘텐츠 목록 커서입니다.
               """)
   ResponseEntity<GetMemberContentPageResponse> getMemberContentPage(
       @AuthenticationPrincipal CustomUserDetails userDetails,
+      @RequestParam(required = false) String cursor,
       @RequestParam(required = false, defaultValue = "10") Integer pageSize);
 
 
@@ -164,7 +165,7 @@ public interface ContentControllerDocs {
                         - **`name`**: 장소 이름
                         - **`address`**: 장소 주소
                         - **`rating`**: 장소 평점
-                        - **`photoUrls`**: 장소 사진 URL 목록
+                        - **`photoUrls`**: 장소 사진 프록시 경로 목록 (`/api/place/{placeId}/photo/{index}?v={version}`)
                         - **`description`**: 장소 설명
                         
                         ## 특이사항
@@ -1,15 +1,27 @@
 package com.tripgether.web.controller;
 
 import com.tripgether.auth.dto.CustomUserDetails;
+import com.tripgether.common.properties.PlacePhotoProperties;
 import com.tripgether.place.dto.GetSavedPlacesResponse;
 import com.tripgether.place.dto.GetTemporaryPlacesResponse;
 import com.tripgether.place.dto.PlaceDetailDto;
 import com.tripgether.place.dto.SavePlaceResponse;
 import com.tripgether.place.service.MemberPlaceService;
+import com.tripgether.place.service.PlacePhotoService;
+import com.tripgether.place.service.PlacePhotoStore;
 import com.tripgether.place.service.PlaceService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,7 +29,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -25,8 +39,19 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/place")
 public class PlaceController implements PlaceControllerDocs {
 
+  // Tomcat sendfile 요청 속성 (파일 구간을 커널에서 바로 소켓으로 전송)
+  private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+  private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+  private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+  private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+  // sendfile 미지원 시 사진 복사 단위 (바이트)
+  private static final int PHOTO_COPY_CHUNK_BYTES = 64 * 1024;
+
   private final PlaceService placeService;
   private final MemberPlaceService memberPlaceService;
+  private final PlacePhotoService placePhotoService;
+  private final PlacePhotoProperties placePhotoProperties;
 
   /**
    * 장소 세부정보 조회
@@ -45,6 +70,57 @@ public class PlaceController implements PlaceControllerDocs {
     return ResponseEntity.ok(response);
   }
 
+  /**
+   * 장소 사진 조회
+   * - 로컬 사진 저장소에서 표준 너비 JPEG 제공 (없으면 Google에서 한 번 받아 저장)
+   * - ETag 일치 시 304
+   * - 버전(v)이 현재 사진과 일치하면 긴 immutable Cache-Control, 아니면 짧은 max-age 후 ETag 재검증
+   * - Tomcat sendfile 지원 시 세그먼트 파일 구간을 복사 없이 전송
+   * - 이미지 로더가 인증 헤더 없이 호출할 수 있도록 인증 생략
+   */
+  @GetMapping("/{placeId}/photo/{index}")
+  @Override
+  public void getPlacePhoto(
+      @PathVariable UUID placeId,
+      @PathVariable int index,
+      @RequestParam(required = false) Integer width,
+      @RequestParam(name = "v", required = false) String version,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException {
+    PlacePhotoService.PlacePhoto placePhoto = placePhotoService.getPhoto(placeId, index, width, version);
+    PlacePhotoStore.StoredPhoto photo = placePhoto.getStoredPhoto();
+
+    // 순번 경로는 장소 갱신으로 다른 사진을 가리킬 수 있으므로 버전이 일치할 때만 오래 캐시
+    CacheControl cacheControl = placePhoto.isVersioned()
+        ? CacheControl.maxAge(Duration.ofSeconds(placePhotoProperties.getCacheMaxAgeSeconds())).immutable()
+        : CacheControl.maxAge(Duration.ofSeconds(placePhotoProperties.getRevalidateMaxAgeSeconds()));
+    response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.cachePublic().getHeaderValue());
+    if (new ServletWebRequest(request, response).checkNotModified(photo.getEtag())) {
+      return;
+    }
+
+    response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+    response.setContentLengthLong(photo.getLength());
+
+    if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+      request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, photo.getSegmentPath().toString());
+      request.setAttribute(SENDFILE_START_ATTRIBUTE, photo.getOffset());
+      request.setAttribute(SENDFILE_END_ATTRIBUTE, photo.getOffset() + photo.getLength());
+      return;
+    }
+
+    // sendfile 미지원 시 메모리 매핑 구간을 청크 단위로 힙에 복사하여 기록 (Servlet 출력 스트림은 ByteBuffer를 직접 받지 않음)
+    ByteBuffer data = photo.getData();
+    byte[] chunk = new byte[Math.min(data.remaining(), PHOTO_COPY_CHUNK_BYTES)];
+    OutputStream outputStream = response.getOutputStream();
+    while (data.hasRemaining()) {
+      int length = Math.min(chunk.length, data.remaining());
+      data.get(chunk, 0, length);
+      outputStream.write(chunk, 0, length);
+    }
+  }
+
   /**
    * 임시 저장 장소 목록 조회
    * - AI 분석으로 자동 생성된 장소들
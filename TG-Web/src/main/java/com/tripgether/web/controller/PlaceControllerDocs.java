@@ -7,6 +7,9 @@ import com.tripgether.place.dto.GetTemporaryPlacesResponse;
 import com.tripgether.place.dto.PlaceDetailDto;
 import com.tripgether.place.dto.SavePlaceResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.UUID;
 import me.suhsaechan.suhapilog.annotation.ApiChangeLog;
 import me.suhsaechan.suhapilog.annotation.ApiChangeLogs;
@@ -38,7 +41,7 @@ public interface PlaceControllerDocs {
               - **`iconUrl`**: Google 아이콘 URL
               - **`rating`**: 평점 (0.0 ~ 5.0)
               - **`userRatingsTotal`**: 리뷰 수
-              - **`photoUrls`**: 사진 URL 배열
+              - **`photoUrls`**: 사진 프록시 경로 배열 (`/api/place/{placeId}/photo/{index}?v={version}`)
               - **`platformReferences`**: 플랫폼별 참조 정보 (Google Place ID 등)
               - **`businessHours`**: 영업시간 목록
               - **`medias`**: 추가 미디어 목록
@@ -55,6 +58,38 @@ public interface PlaceControllerDocs {
       UUID placeId
   );
 
+  @Operation(summary = "장소 사진 조회", description = """
+              ## 인증(JWT): **불필요**
+
+              ## 요청 파라미터
+              - **`placeId`**: 장소 ID (필수, Path Variable)
+              - **`index`**: 사진 순번 (필수, Path Variable, 0부터 시작)
+              - **`width`**: 요청 너비 (선택, px, 기본 400)
+              - **`v`**: 사진 버전 (선택, `photoUrls` 경로에 포함된 값)
+
+              ## 반환값
+              - **200 OK**: JPEG 이미지 (`ETag`, 버전 일치 시 `Cache-Control: public, max-age=2592000, immutable`, 그 외 `max-age=300`)
+              - **304 Not Modified**: `If-None-Match`가 ETag와 일치하는 경우
+
+              ## 특이사항
+              - 장소 응답의 `photoUrls`에 포함된 경로를 그대로 이미지 주소로 사용합니다.
+              - 요청 너비는 표준 너비(200, 400, 800) 중 가장 가까운 큰 값으로 맞춥니다.
+              - 서버가 Google에서 사진을 한 번만 받아 저장한 뒤 제공하므로 API 키가 노출되지 않습니다.
+
+              ## 에러코드
+              - **`PLACE_NOT_FOUND`**: 장소를 찾을 수 없습니다.
+              - **`PLACE_PHOTO_NOT_FOUND`**: 장소 사진을 찾을 수 없습니다.
+              - **`PLACE_PHOTO_FETCH_FAILED`**: 장소 사진을 가져오는 중 오류가 발생했습니다.
+              """)
+  void getPlacePhoto(
+      UUID placeId,
+      int index,
+      Integer width,
+      String version,
+      HttpServletRequest request,
+      HttpServletResponse response
+  ) throws IOException;
+
   @ApiChangeLogs({
       @ApiChangeLog(date = "2025.11.24", author = Author.SUHSAECHAN, issueNumber = 103, description = "임시 저장 장소 목록 조회 API 추가"),
   })
@@ -67,7 +102,7 @@ public interface PlaceControllerDocs {
                 - **`name`**: 장소명
                 - **`address`**: 주소
                 - **`rating`**: 별점 (0.0 ~ 5.0)
-                - **`photoUrls`**: 사진 URL 배열
+                - **`photoUrls`**: 사진 프록시 경로 배열 (`/api/place/{placeId}/photo/{index}?v={version}`)
                 - **`description`**: 장소 요약 설명
 
               ## 특이사항
@@ -96,7 +131,7 @@ public interface PlaceControllerDocs {
                 - **`address`**: 주소
                 - **`rating`**: 별점 (0.0 ~ 5.0)
                 - **`userRatingsTotal`**: 리뷰 수
-                - **`photoUrls`**: 사진 URL 배열
+                - **`photoUrls`**: 사진 프록시 경로 배열 (`/api/place/{placeId}/photo/{index}?v={version}`)
                 - **`description`**: 장소 요약 설명
 
               ## 특이사항
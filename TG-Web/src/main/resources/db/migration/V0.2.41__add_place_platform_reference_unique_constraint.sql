@@ -0,0 +1,57 @@
+-- ============================================================
+-- PlacePlatformReference (place_platform, place_platform_id) 유니크 제약 조건 추가
+-- - Place 일괄 Upsert(INSERT ... ON CONFLICT)의 중복 판단 기준
+-- - 기존 중복 행은 가장 먼저 생성된 행만 남기고 삭제
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    DECLARE
+        deleted_count INTEGER;
+    BEGIN
+        -------------------------------------------------------------------
+        -- 0. place_platform_reference 테이블 존재 확인
+        -------------------------------------------------------------------
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place_platform_reference') THEN
+            -----------------------------------------------------------------
+            -- 1. 중복 행 정리 (place_platform, place_platform_id 기준 가장 오래된 행 유지)
+            -----------------------------------------------------------------
+            DELETE
+            FROM public.place_platform_reference ref
+                USING (SELECT id,
+                              ROW_NUMBER() OVER (
+                                  PARTITION BY place_platform, place_platform_id
+                                  ORDER BY created_at NULLS LAST, id
+                                  ) AS rn
+                       FROM public.place_platform_reference) dup
+            WHERE ref.id = dup.id
+              AND dup.rn > 1;
+
+            GET DIAGNOSTICS deleted_count = ROW_COUNT;
+            RAISE NOTICE 'Deleted % duplicate place_platform_reference rows', deleted_count;
+
+            -----------------------------------------------------------------
+            -- 2. 유니크 제약 조건 생성 (이미 존재하지 않는 경우)
+            -----------------------------------------------------------------
+            IF NOT EXISTS (SELECT 1
+                           FROM information_schema.table_constraints
+                           WHERE constraint_schema = 'public'
+                             AND constraint_name = 'uk_place_platform_reference'
+                             AND table_name = 'place_platform_reference') THEN
+                ALTER TABLE public.place_platform_reference
+                    ADD CONSTRAINT uk_place_platform_reference
+                    UNIQUE (place_platform, place_platform_id);
+                RAISE NOTICE 'Created constraint: uk_place_platform_reference';
+            ELSE
+                RAISE NOTICE 'Constraint "uk_place_platform_reference" already exists. Skipping.';
+            END IF;
+        ELSE
+            RAISE NOTICE 'Table "public.place_platform_reference" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;
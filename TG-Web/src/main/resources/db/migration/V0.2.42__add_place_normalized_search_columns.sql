@@ -0,0 +1,73 @@
+-- ============================================================
+-- Place 검색용 정규화 컬럼 및 pg_trgm 인덱스 추가
+-- - normalized_name, normalized_address: 연속 공백 축약 + 앞뒤 공백 제거 + 소문자 (PlaceTextNormalizer와 동일 규칙)
+-- - 기존 행 백필
+-- - normalized_name: btree(일치 검색) + GIN trigram(유사도 검색)
+-- - normalized_address: GIN trigram (부분 매칭 LIKE '%..%')
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    DECLARE
+        updated_count INTEGER;
+    BEGIN
+        -------------------------------------------------------------------
+        -- 0. pg_trgm 확장 설치 (권한이 없으면 건너뜀)
+        -------------------------------------------------------------------
+        BEGIN
+            CREATE EXTENSION IF NOT EXISTS pg_trgm;
+            RAISE NOTICE 'Extension "pg_trgm" is available.';
+        EXCEPTION
+            WHEN insufficient_privilege THEN
+                RAISE NOTICE 'Insufficient privilege to create extension "pg_trgm". Skipping trigram indexes.';
+        END;
+
+        -------------------------------------------------------------------
+        -- 1. place 테이블 존재 확인
+        -------------------------------------------------------------------
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+            -----------------------------------------------------------------
+            -- 2. 정규화 컬럼 추가
+            -----------------------------------------------------------------
+            ALTER TABLE public.place
+                ADD COLUMN IF NOT EXISTS normalized_name VARCHAR(255);
+            ALTER TABLE public.place
+                ADD COLUMN IF NOT EXISTS normalized_address VARCHAR(500);
+
+            -----------------------------------------------------------------
+            -- 3. 기존 행 백필
+            -----------------------------------------------------------------
+            UPDATE public.place
+            SET normalized_name    = NULLIF(lower(btrim(regexp_replace(name, '\s+', ' ', 'g'))), ''),
+                normalized_address = NULLIF(lower(btrim(regexp_replace(address, '\s+', ' ', 'g'))), '')
+            WHERE normalized_name IS NULL;
+
+            GET DIAGNOSTICS updated_count = ROW_COUNT;
+            RAISE NOTICE 'Backfilled normalized columns for % place rows', updated_count;
+
+            -----------------------------------------------------------------
+            -- 4. 인덱스 생성
+            -----------------------------------------------------------------
+            CREATE INDEX IF NOT EXISTS idx_place_normalized_name
+                ON public.place (normalized_name);
+            RAISE NOTICE 'Ensured index: idx_place_normalized_name';
+
+            IF EXISTS (SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm') THEN
+                CREATE INDEX IF NOT EXISTS idx_place_normalized_name_trgm
+                    ON public.place USING gin (normalized_name gin_trgm_ops);
+                CREATE INDEX IF NOT EXISTS idx_place_normalized_address_trgm
+                    ON public.place USING gin (normalized_address gin_trgm_ops);
+                RAISE NOTICE 'Ensured trigram indexes: idx_place_normalized_name_trgm, idx_place_normalized_address_trgm';
+            ELSE
+                RAISE NOTICE 'Extension "pg_trgm" is not installed. Skipping trigram indexes.';
+            END IF;
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;
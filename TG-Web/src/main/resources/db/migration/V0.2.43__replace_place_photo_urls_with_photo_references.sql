@@ -0,0 +1,57 @@
+-- ============================================================
+-- Place 사진 URL(photo_urls)을 photo_reference(photo_references)로 교체
+-- - 기존 photo_urls: API 키가 포함된 Google Photos URL 전체 (행당 최대 10개)
+-- - 신규 photo_references: photo_reference 값만 저장, URL은 응답 시 프록시 경로로 생성
+-- - 기존 URL에서 photoreference 파라미터를 추출하여 백필 후 photo_urls 컬럼 삭제
+-- - 삭제된 컬럼의 TOAST 공간은 VACUUM FULL(또는 pg_repack) 실행 시 회수됨
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    DECLARE
+        updated_count INTEGER;
+    BEGIN
+        -------------------------------------------------------------------
+        -- 1. place 테이블 존재 확인
+        -------------------------------------------------------------------
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+            -----------------------------------------------------------------
+            -- 2. photo_references 컬럼 추가
+            -----------------------------------------------------------------
+            ALTER TABLE public.place
+                ADD COLUMN IF NOT EXISTS photo_references TEXT[];
+
+            -----------------------------------------------------------------
+            -- 3. photo_urls 백필 후 삭제
+            -----------------------------------------------------------------
+            IF EXISTS (SELECT 1
+                       FROM information_schema.columns
+                       WHERE table_schema = 'public'
+                         AND table_name = 'place'
+                         AND column_name = 'photo_urls') THEN
+                UPDATE public.place p
+                SET photo_references = (SELECT array_agg(m[1] ORDER BY u.ord)
+                                        FROM unnest(p.photo_urls) WITH ORDINALITY AS u(url, ord)
+                                                 CROSS JOIN LATERAL regexp_match(u.url, '[?&]photoreference=([^&]+)') AS m)
+                WHERE p.photo_urls IS NOT NULL
+                  AND p.photo_references IS NULL;
+
+                GET DIAGNOSTICS updated_count = ROW_COUNT;
+                RAISE NOTICE 'Backfilled photo_references for % place rows', updated_count;
+
+                ALTER TABLE public.place
+                    DROP COLUMN photo_urls;
+                RAISE NOTICE 'Dropped column: place.photo_urls';
+            ELSE
+                RAISE NOTICE 'Column "place.photo_urls" does not exist. Skipping backfill.';
+            END IF;
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;
@@ -0,0 +1,40 @@
+-- ============================================================
+-- 오래된 장소 백그라운드 갱신용 인덱스 추가
+-- - idx_place_updated_at: 마지막 갱신 시각 기준 갱신 대상 조회
+-- - idx_member_place_place_id: 장소별 저장 회원 수 집계 (갱신 우선순위)
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    BEGIN
+        -------------------------------------------------------------------
+        -- 1. place.updated_at 인덱스
+        -------------------------------------------------------------------
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+            CREATE INDEX IF NOT EXISTS idx_place_updated_at
+                ON public.place (updated_at);
+            RAISE NOTICE 'Ensured index: idx_place_updated_at';
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping. JPA will create the table automatically.';
+        END IF;
+
+        -------------------------------------------------------------------
+        -- 2. member_place.place_id 인덱스
+        -------------------------------------------------------------------
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'member_place') THEN
+            CREATE INDEX IF NOT EXISTS idx_member_place_place_id
+                ON public.member_place (place_id);
+            RAISE NOTICE 'Ensured index: idx_member_place_place_id';
+        ELSE
+            RAISE NOTICE 'Table "public.member_place" does not exist. Skipping. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;
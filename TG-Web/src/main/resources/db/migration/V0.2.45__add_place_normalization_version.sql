@@ -0,0 +1,24 @@
+-- ============================================================
+-- Place 정규화 키 규칙 버전 컬럼 추가
+-- - normalization_version: normalized_name/normalized_address를 생성한 PlaceTextNormalizer.KEY_VERSION
+-- - 기존 행은 0 (공백 정규화만 적용된 값)으로 두고, 애플리케이션 시작 시 PlaceNormalizationBackfillWorker가 재계산
+--   (한글 로마자 변환/별칭 표는 SQL로 재현할 수 없으므로 Java에서 계산)
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+            ALTER TABLE public.place
+                ADD COLUMN IF NOT EXISTS normalization_version INTEGER NOT NULL DEFAULT 0;
+            RAISE NOTICE 'Ensured column: place.normalization_version';
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;
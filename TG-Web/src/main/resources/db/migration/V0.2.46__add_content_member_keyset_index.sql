@@ -0,0 +1,22 @@
+-- ============================================================
+-- 회원 콘텐츠 목록 Keyset 페이지 인덱스 추가
+-- - idx_content_member_member_created_at: (member_id, created_at DESC, id DESC)
+-- - GET /api/content/member 커서 조회, 최근 콘텐츠 조회가 정렬 없이 인덱스 범위로 처리되도록 함
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'content_member') THEN
+            CREATE INDEX IF NOT EXISTS idx_content_member_member_created_at
+                ON public.content_member (member_id, created_at DESC, id DESC);
+            RAISE NOTICE 'Ensured index: idx_content_member_member_created_at';
+        ELSE
+            RAISE NOTICE 'Table "public.content_member" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+    END
+$$;
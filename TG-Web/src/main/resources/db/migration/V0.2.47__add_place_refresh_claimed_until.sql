@@ -0,0 +1,23 @@
+-- ============================================================
+-- 오래된 장소 백그라운드 갱신 점유 컬럼 추가
+-- - refresh_claimed_until: PlaceRefreshWorker 점유 만료 시각 (이 시각 전에는 다른 배치가 갱신하지 않음)
+-- - updated_at은 실제 갱신 시에만 변경 (점유/반납에 더 이상 사용하지 않음)
+-- - 테이블이 없으면 아무 작업도 하지 않음 (JPA가 자동 생성)
+-- ============================================================
+
+DO
+$$
+    BEGIN
+        IF EXISTS (SELECT 1
+                   FROM information_schema.tables
+                   WHERE table_schema = 'public'
+                     AND table_name = 'place') THEN
+            ALTER TABLE public.place
+                ADD COLUMN IF NOT EXISTS refresh_claimed_until TIMESTAMP;
+            RAISE NOTICE 'Ensured column: place.refresh_claimed_until';
+        ELSE
+            RAISE NOTICE 'Table "public.place" does not exist. Skipping migration. JPA will create the table automatically.';
+        END IF;
+
+    END
+$$;